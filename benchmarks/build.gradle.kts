@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import io.spine.gradle.internal.Deps
+
+plugins {
+    @Suppress("RemoveRedundantQualifierName") // Cannot use imports here.
+    id("me.champeau.gradle.jmh").version(io.spine.gradle.internal.Deps.versions.jmhPlugin)
+}
+
+dependencies {
+    implementation(project(":server"))
+    implementation(project(":testutil-server"))
+}
+
+/*
+ * The benchmarks run entirely in memory. Run them with `./gradlew :benchmarks:jmh`.
+ *
+ * The results are written to `build/reports/jmh/results.json`. Besides the throughput,
+ * the `gc` profiler reports the allocation rate per benchmark operation.
+ */
+jmh {
+    jmhVersion = Deps.versions.jmh
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    duplicateClassesStrategy = DuplicatesStrategy.WARN
+}
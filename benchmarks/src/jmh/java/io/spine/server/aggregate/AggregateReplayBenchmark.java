@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.aggregate;
+
+import io.spine.server.benchmark.given.CounterAggregate;
+import io.spine.server.benchmark.given.CounterId;
+import io.spine.server.dispatch.BatchDispatchOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.server.benchmark.given.CounterHistory.eventsFor;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+
+/**
+ * Measures restoring an aggregate from its history.
+ *
+ * <p>The aggregate has a trivial applier per event type, so the figures are dominated by
+ * the cost of the transaction and of the applier dispatching, including the
+ * {@linkplain io.spine.server.model.AbstractHandlerMethod#invoke handler method invocation}.
+ *
+ * <p>The benchmark follows the same steps as {@link AggregateRepository#play} does when
+ * an aggregate is loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregateReplayBenchmark {
+
+    /**
+     * The number of events in the history of the aggregate.
+     */
+    @Param({"10", "100", "1000"})
+    private int eventCount;
+
+    private CounterId id;
+    private AggregateHistory history;
+
+    @Setup
+    public void setUp() {
+        id = newCounterId();
+        history = AggregateHistory
+                .newBuilder()
+                .addAllEvent(eventsFor(id, eventCount))
+                .build();
+    }
+
+    @Benchmark
+    public CounterAggregate replay() {
+        CounterAggregate aggregate = new CounterAggregate(id);
+        AggregateTransaction<?, ?, ?> tx = AggregateTransaction.start(aggregate);
+        BatchDispatchOutcome outcome = aggregate.play(history);
+        if (!outcome.getSuccessful()) {
+            throw new IllegalStateException("Unable to replay the aggregate history.");
+        }
+        tx.commitIfActive();
+        return aggregate;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.commandbus;
+
+import io.spine.base.Tests;
+import io.spine.core.Command;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.benchmark.given.CounterAggregate;
+import io.spine.server.benchmark.given.CounterId;
+import io.spine.server.benchmark.given.IncrementCounter;
+import io.spine.server.delivery.Delivery;
+import io.spine.testing.client.TestActorRequestFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.grpc.StreamObservers.noOpObserver;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+
+/**
+ * Measures the throughput of posting a command to the {@link CommandBus}.
+ *
+ * <p>The command is delivered to its aggregate synchronously, so each operation includes
+ * the validation, the dispatching through the inbox, the command handling and the storage
+ * of the produced event.
+ *
+ * <p>Each operation creates a new command, as the aggregates reject the duplicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandBusPostBenchmark {
+
+    /**
+     * The number of aggregates, between which the commands are spread.
+     */
+    @Param({"1", "100"})
+    private int aggregateCount;
+
+    private final TestActorRequestFactory requests =
+            new TestActorRequestFactory(CommandBusPostBenchmark.class);
+
+    private CounterId[] ids;
+    private int next;
+    private BoundedContext context;
+    private CommandBus commandBus;
+
+    @Setup
+    public void setUp() {
+        ServerEnvironment.when(Tests.class)
+                         .use(Delivery.local());
+        ids = new CounterId[aggregateCount];
+        for (int i = 0; i < aggregateCount; i++) {
+            ids[i] = newCounterId();
+        }
+    }
+
+    /**
+     * Creates a new context for each iteration, so that the stored history does not grow
+     * through the whole run.
+     */
+    @Setup(Level.Iteration)
+    public void createContext() {
+        context = BoundedContextBuilder
+                .assumingTests()
+                .add(CounterAggregate.class)
+                .build();
+        commandBus = context.commandBus();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeContext() throws Exception {
+        context.close();
+    }
+
+    @Benchmark
+    public Command post() {
+        CounterId id = ids[next];
+        next = (next + 1) % ids.length;
+        IncrementCounter message = IncrementCounter
+                .newBuilder()
+                .setId(id)
+                .setAmount(1)
+                .build();
+        Command command = requests.command()
+                                  .create(message);
+        commandBus.post(command, noOpObserver());
+        return command;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import io.spine.base.Tests;
+import io.spine.core.TenantId;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.benchmark.given.CounterViewProjection;
+import io.spine.server.event.EventBus;
+import io.spine.server.tenant.TenantAwareRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.server.benchmark.given.CounterHistory.incrementsFor;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+
+/**
+ * Measures the throughput of delivering the messages accumulated in a shard
+ * of the {@code InMemoryInboxStorage}.
+ *
+ * <p>The {@code Delivery} has no shard observers, so the messages stay in the inbox until
+ * they are delivered by the benchmarked operation. Before each operation, the shard is filled
+ * with the events for a single projection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeliveryBenchmark {
+
+    /**
+     * The number of messages in the shard.
+     */
+    @Param({"10", "100", "500"})
+    private int messageCount;
+
+    private final ShardIndex shard = newIndex(0, 1);
+
+    /**
+     * Runs the delivery on behalf of the single-tenant context, as it is done by the shard
+     * observers.
+     */
+    private final TenantAwareRunner runner = TenantAwareRunner.with(TenantId.getDefaultInstance());
+
+    private Delivery delivery;
+    private BoundedContext context;
+    private EventBus eventBus;
+
+    @Setup
+    public void setUp() {
+        delivery = Delivery
+                .newBuilder()
+                .setStrategy(UniformAcrossAllShards.singleShard())
+                .build();
+        ServerEnvironment.when(Tests.class)
+                         .use(delivery);
+        context = BoundedContextBuilder
+                .assumingTests()
+                .add(CounterViewProjection.class)
+                .build();
+        eventBus = context.eventBus();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void fillShard() {
+        eventBus.post(incrementsFor(newCounterId(), messageCount));
+    }
+
+    @Benchmark
+    public Optional<DeliveryStats> deliver() {
+        return runner.evaluate(() -> delivery.deliverMessagesFrom(shard));
+    }
+}
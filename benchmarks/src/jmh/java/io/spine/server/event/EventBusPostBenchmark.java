@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.core.Event;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.benchmark.given.CounterListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.server.benchmark.given.CounterHistory.incrementsFor;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+
+/**
+ * Measures the throughput of posting an event to the {@link EventBus}, which fans it out
+ * to a number of subscribers through the {@link EventDispatcherRegistry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusPostBenchmark {
+
+    private static final int EVENT_COUNT = 1_000;
+
+    /**
+     * The number of subscribers which receive each event.
+     */
+    @Param({"1", "10", "100"})
+    private int subscriberCount;
+
+    private ImmutableList<Event> events;
+    private int next;
+    private BoundedContext context;
+    private EventBus eventBus;
+
+    @Setup
+    public void setUp() {
+        events = incrementsFor(newCounterId(), EVENT_COUNT);
+    }
+
+    /**
+     * Creates a new context for each iteration, so that the event store does not grow
+     * through the whole run.
+     */
+    @Setup(Level.Iteration)
+    public void createContext() {
+        BoundedContextBuilder builder = BoundedContextBuilder.assumingTests();
+        for (int i = 0; i < subscriberCount; i++) {
+            builder.addEventDispatcher(new CounterListener());
+        }
+        context = builder.build();
+        eventBus = context.eventBus();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeContext() throws Exception {
+        context.close();
+    }
+
+    @Benchmark
+    public Event post() {
+        Event event = events.get(next);
+        next = (next + 1) % events.size();
+        eventBus.post(event);
+        return event;
+    }
+}
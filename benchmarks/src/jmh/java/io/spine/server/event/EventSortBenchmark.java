@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event;
+
+import com.google.protobuf.util.Timestamps;
+import io.spine.core.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.server.benchmark.given.CounterHistory.incrementsFor;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+
+/**
+ * Measures sorting events in the chronological order, as done when reading events from
+ * the {@link io.spine.server.event.store.DefaultEventStore DefaultEventStore}.
+ *
+ * <p>The {@link #chainedComparator()} benchmark serves as a baseline. It uses a comparator
+ * which builds a chain of comparators upon each comparison, as the
+ * {@link EventComparator#chronological()} comparator used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EventSortBenchmark {
+
+    private static final Comparator<Event> CHAINED = (e1, e2) -> Comparator
+            .comparing(Event::timestamp, Timestamps.comparator())
+            .thenComparing((e) -> e.getContext()
+                                   .getVersion()
+                                   .getNumber())
+            .thenComparing((e) -> e.getId()
+                                   .getValue())
+            .compare(e1, e2);
+
+    /**
+     * The number of sorted events.
+     */
+    @Param({"1000000"})
+    private int eventCount;
+
+    private List<Event> shuffled;
+
+    @Setup
+    public void setUp() {
+        shuffled = new ArrayList<>(incrementsFor(newCounterId(), eventCount));
+        Collections.shuffle(shuffled, new Random(42));
+    }
+
+    @Benchmark
+    public List<Event> chainedComparator() {
+        List<Event> events = new ArrayList<>(shuffled);
+        events.sort(CHAINED);
+        return events;
+    }
+
+    @Benchmark
+    public List<Event> comparator() {
+        List<Event> events = new ArrayList<>(shuffled);
+        events.sort(EventComparator.chronological());
+        return events;
+    }
+
+    @Benchmark
+    public List<Event> extractedKeys() {
+        List<Event> events = new ArrayList<>(shuffled);
+        EventComparator.sortChronologically(events);
+        return events;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.model;
+
+import io.spine.server.benchmark.given.CounterListener;
+import io.spine.server.dispatch.DispatchOutcome;
+import io.spine.server.event.model.SubscriberMethod;
+import io.spine.server.type.EventEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.server.benchmark.given.CounterHistory.incrementsFor;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+import static io.spine.server.event.model.EventSubscriberClass.asEventSubscriberClass;
+
+/**
+ * Measures the overhead of {@link AbstractHandlerMethod#invoke} over a trivial
+ * subscriber method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerInvokeBenchmark {
+
+    private CounterListener listener;
+    private EventEnvelope event;
+    private SubscriberMethod method;
+
+    @Setup
+    public void setUp() {
+        listener = new CounterListener();
+        event = EventEnvelope.of(incrementsFor(newCounterId(), 1).get(0));
+        method = asEventSubscriberClass(CounterListener.class)
+                .subscriberOf(event)
+                .orElseThrow(() -> new IllegalStateException("No subscriber method found."));
+    }
+
+    @Benchmark
+    public DispatchOutcome invoke() {
+        return method.invoke(listener, event);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.memory;
+
+import io.spine.base.Identifier;
+import io.spine.client.TargetFilters;
+import io.spine.server.ContextSpec;
+import io.spine.server.benchmark.given.CounterId;
+import io.spine.server.benchmark.given.CounterView;
+import io.spine.server.benchmark.given.CounterViewProjection;
+import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.storage.ColumnName;
+import io.spine.server.entity.storage.EntityQueries;
+import io.spine.server.entity.storage.EntityQuery;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.storage.RecordStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.client.Filters.all;
+import static io.spine.client.Filters.eq;
+import static io.spine.client.Filters.gt;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.server.benchmark.given.CounterHistory.newCounterId;
+import static io.spine.testing.core.given.GivenVersion.withNumber;
+
+/**
+ * Measures the throughput of querying the {@link InMemoryRecordStorage} by the entity columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordStorageReadBenchmark {
+
+    private static final int LABEL_COUNT = 10;
+
+    /**
+     * The number of records in the storage.
+     */
+    @Param({"1000", "10000"})
+    private int recordCount;
+
+    private RecordStorage<CounterId> storage;
+    private EntityQuery<CounterId> query;
+
+    @Setup
+    public void setUp() {
+        ContextSpec spec = ContextSpec.singleTenant(RecordStorageReadBenchmark.class.getName());
+        storage = InMemoryStorageFactory
+                .newInstance()
+                .createRecordStorage(spec, CounterViewProjection.class);
+        Map<CounterId, EntityRecordWithColumns> records = new HashMap<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            CounterId id = newCounterId();
+            records.put(id, newRecord(id, i));
+        }
+        storage.write(records);
+        TargetFilters filters = TargetFilters
+                .newBuilder()
+                .addFilter(all(eq("label", label(1)), gt("total", recordCount / 2L)))
+                .build();
+        query = EntityQueries.from(filters, storage);
+    }
+
+    /**
+     * Creates a record for a view with the given total.
+     *
+     * <p>The column values are set explicitly, since the state of a projection may only be
+     * changed in a transaction.
+     */
+    private EntityRecordWithColumns newRecord(CounterId id, long total) {
+        String label = label((int) total % LABEL_COUNT);
+        CounterView state = CounterView
+                .newBuilder()
+                .setId(id)
+                .setTotal(total)
+                .setLabel(label)
+                .build();
+        EntityRecord record = EntityRecord
+                .newBuilder()
+                .setEntityId(Identifier.pack(id))
+                .setState(pack(state))
+                .setVersion(withNumber(1))
+                .build();
+        Map<ColumnName, Object> columns = new HashMap<>();
+        columns.put(ColumnName.of("total"), total);
+        columns.put(ColumnName.of("label"), label);
+        storage.columns()
+               .lifecycleColumns()
+               .keySet()
+               .forEach(column -> columns.put(column, false));
+        return EntityRecordWithColumns.of(record, columns);
+    }
+
+    private static String label(int number) {
+        return "Label #" + number;
+    }
+
+    @Benchmark
+    public int readAll() {
+        Iterator<EntityRecord> found = storage.readAll(query);
+        int count = 0;
+        while (found.hasNext()) {
+            found.next();
+            count++;
+        }
+        return count;
+    }
+}
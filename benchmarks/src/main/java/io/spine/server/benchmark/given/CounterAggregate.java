@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.benchmark.given;
+
+import io.spine.server.aggregate.Aggregate;
+import io.spine.server.aggregate.Apply;
+import io.spine.server.command.Assign;
+
+/**
+ * An aggregate with a long history of small events.
+ *
+ * <p>Each applier performs a trivial state update, so that the cost of the replay is dominated
+ * by the framework rather than by the domain logic.
+ */
+public final class CounterAggregate extends Aggregate<CounterId, Counter, Counter.Builder> {
+
+    public CounterAggregate(CounterId id) {
+        super(id);
+    }
+
+    @Assign
+    CounterIncremented handle(IncrementCounter command) {
+        return CounterIncremented
+                .newBuilder()
+                .setId(command.getId())
+                .setAmount(command.getAmount())
+                .build();
+    }
+
+    @Apply
+    private void event(CounterIncremented event) {
+        Counter.Builder builder = builder();
+        builder.setTotal(builder.getTotal() + event.getAmount())
+               .setIncrements(builder.getIncrements() + 1);
+    }
+
+    @Apply
+    private void event(CounterDecremented event) {
+        Counter.Builder builder = builder();
+        builder.setTotal(builder.getTotal() - event.getAmount())
+               .setDecrements(builder.getDecrements() + 1);
+    }
+
+    @Apply
+    private void event(CounterLabelled event) {
+        builder().setLabel(event.getLabel());
+    }
+
+    @Apply
+    private void event(CounterTagged event) {
+        builder().addTag(event.getTag());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.benchmark.given;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.EventMessage;
+import io.spine.base.Identifier;
+import io.spine.core.Event;
+import io.spine.testing.server.TestEventFactory;
+
+import static io.spine.testing.core.given.GivenVersion.withNumber;
+
+/**
+ * Generates histories of {@link CounterAggregate}.
+ */
+public final class CounterHistory {
+
+    /** Prevents instantiation of this utility class. */
+    private CounterHistory() {
+    }
+
+    /**
+     * Creates a new random ID of a counter.
+     */
+    public static CounterId newCounterId() {
+        return CounterId
+                .newBuilder()
+                .setUuid(Identifier.newUuid())
+                .build();
+    }
+
+    /**
+     * Generates the given number of events for the counter with the given ID.
+     *
+     * <p>The events are versioned sequentially starting from {@code 1} and cycle through
+     * all the event types known to {@link CounterAggregate}.
+     */
+    public static ImmutableList<Event> eventsFor(CounterId id, int count) {
+        TestEventFactory factory = TestEventFactory.newInstance(id, CounterHistory.class);
+        ImmutableList.Builder<Event> events = ImmutableList.builder();
+        for (int number = 1; number <= count; number++) {
+            EventMessage message = eventMessage(id, number);
+            Event event = factory.createEvent(message, withNumber(number));
+            events.add(event);
+        }
+        return events.build();
+    }
+
+    /**
+     * Generates the given number of {@link CounterIncremented} events for the counter
+     * with the given ID.
+     */
+    public static ImmutableList<Event> incrementsFor(CounterId id, int count) {
+        TestEventFactory factory = TestEventFactory.newInstance(id, CounterHistory.class);
+        ImmutableList.Builder<Event> events = ImmutableList.builder();
+        for (int number = 1; number <= count; number++) {
+            CounterIncremented message = CounterIncremented
+                    .newBuilder()
+                    .setId(id)
+                    .setAmount(number)
+                    .build();
+            Event event = factory.createEvent(message, withNumber(number));
+            events.add(event);
+        }
+        return events.build();
+    }
+
+    private static EventMessage eventMessage(CounterId id, int number) {
+        switch (number % 4) {
+            case 0:
+                return CounterDecremented
+                        .newBuilder()
+                        .setId(id)
+                        .setAmount(number)
+                        .build();
+            case 1:
+                return CounterLabelled
+                        .newBuilder()
+                        .setId(id)
+                        .setLabel("Label #" + number)
+                        .build();
+            case 2:
+                return CounterTagged
+                        .newBuilder()
+                        .setId(id)
+                        .setTag("tag-" + number % 16)
+                        .build();
+            default:
+                return CounterIncremented
+                        .newBuilder()
+                        .setId(id)
+                        .setAmount(number)
+                        .build();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.benchmark.given;
+
+import io.spine.core.Subscribe;
+import io.spine.server.projection.Projection;
+
+/**
+ * A projection updated by each event of a {@link CounterAggregate}.
+ */
+public final class CounterViewProjection
+        extends Projection<CounterId, CounterView, CounterView.Builder> {
+
+    public CounterViewProjection(CounterId id) {
+        super(id);
+    }
+
+    @Subscribe
+    void on(CounterIncremented event) {
+        CounterView.Builder builder = builder();
+        builder.setTotal(builder.getTotal() + event.getAmount())
+               .setEventCount(builder.getEventCount() + 1);
+    }
+
+    @Subscribe
+    void on(CounterDecremented event) {
+        CounterView.Builder builder = builder();
+        builder.setTotal(builder.getTotal() - event.getAmount())
+               .setEventCount(builder.getEventCount() + 1);
+    }
+
+    @Subscribe
+    void on(CounterLabelled event) {
+        CounterView.Builder builder = builder();
+        builder.setLabel(event.getLabel())
+               .setEventCount(builder.getEventCount() + 1);
+    }
+
+    @Subscribe
+    void on(CounterTagged event) {
+        CounterView.Builder builder = builder();
+        builder.addTag(event.getTag())
+               .setEventCount(builder.getEventCount() + 1);
+    }
+}
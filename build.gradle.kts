@@ -225,13 +225,14 @@ subprojects {
      * website.
      *
      * Currently, the `testutil` projects are excluded from publishing, as well as the modules
-     * that perform the model compile-time checks.
+     * that perform the model compile-time checks and the benchmarks.
      *
      * @return `true` is the project Javadoc should be published, `false` otherwise
      */
     fun shouldPublishJavadoc() =
             !project.name.startsWith("testutil") &&
-            !project.name.startsWith("model")
+            !project.name.startsWith("model") &&
+            project.name != "benchmarks"
 
     // Apply the Javadoc publishing plugin.
     // This plugin *must* be applied here, not in the module `build.gradle` files.
@@ -22,6 +22,9 @@ package io.spine.client;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
@@ -29,6 +32,7 @@ import io.grpc.inprocess.InProcessChannelBuilder;
 import io.spine.base.EntityState;
 import io.spine.client.grpc.CommandServiceGrpc;
 import io.spine.client.grpc.CommandServiceGrpc.CommandServiceBlockingStub;
+import io.spine.client.grpc.CommandServiceGrpc.CommandServiceFutureStub;
 import io.spine.client.grpc.QueryServiceGrpc;
 import io.spine.client.grpc.QueryServiceGrpc.QueryServiceBlockingStub;
 import io.spine.core.Ack;
@@ -39,9 +43,13 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 import static io.spine.util.Preconditions2.checkNotDefaultArg;
 import static io.spine.util.Preconditions2.checkNotEmptyOrBlank;
@@ -80,6 +88,13 @@ public class Client implements AutoCloseable {
     /** The default amount of time to wait when {@linkplain #close() closing} the client. */
     public static final Timeout DEFAULT_SHUTDOWN_TIMEOUT = Timeout.of(5, SECONDS);
 
+    /**
+     * The default maximum number of commands
+     * {@linkplain CommandRequest#postAsync() posted asynchronously}, which may await
+     * the acknowledgement at the same time.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_COMMANDS = 64;
+
     /** Default ID for a guest user. */
     public static final UserId DEFAULT_GUEST_ID = user("guest");
 
@@ -101,6 +116,12 @@ public class Client implements AutoCloseable {
     /** The stub for communicating with the {@code CommandService}. */
     private final CommandServiceBlockingStub commandService;
 
+    /** The stub for asynchronous posting of commands to the {@code CommandService}. */
+    private final CommandServiceFutureStub asyncCommandService;
+
+    /** The permits for commands which are posted asynchronously and are not yet acknowledged. */
+    private final Semaphore inFlightCommands;
+
     /** Active subscriptions maintained by the client. */
     private final Subscriptions subscriptions;
 
@@ -167,10 +188,15 @@ public class Client implements AutoCloseable {
         this.channel = checkNotNull(builder.channel);
         this.shutdownTimeout = checkNotNull(builder.shutdownTimeout);
         this.commandService = CommandServiceGrpc.newBlockingStub(channel);
+        this.asyncCommandService = CommandServiceGrpc.newFutureStub(channel);
+        this.inFlightCommands = new Semaphore(builder.maxInFlightCommands);
         this.queryService = QueryServiceGrpc.newBlockingStub(channel);
         this.streamingErrorHandler = builder.streamingErrorHandler;
         this.serverErrorHandler = builder.serverErrorHandler;
-        this.subscriptions = new Subscriptions(channel, streamingErrorHandler, serverErrorHandler);
+        this.subscriptions = new Subscriptions(channel,
+                                               streamingErrorHandler,
+                                               serverErrorHandler,
+                                               builder.multiplexSubscriptions);
     }
 
     /**
@@ -295,6 +321,45 @@ public class Client implements AutoCloseable {
         return ack;
     }
 
+    /**
+     * Posts the command to the {@code CommandService} without waiting for the acknowledgement.
+     *
+     * <p>If the number of the commands awaiting the acknowledgement reaches
+     * the {@linkplain Builder#maxInFlightCommands(int) limit}, the calling thread is blocked
+     * until one of the commands is acknowledged.
+     */
+    CompletableFuture<Ack> postAsync(Command c) {
+        try {
+            inFlightCommands.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        }
+        CompletableFuture<Ack> result = new CompletableFuture<>();
+        ListenableFuture<Ack> ack;
+        try {
+            ack = asyncCommandService.post(c);
+        } catch (RuntimeException e) {
+            inFlightCommands.release();
+            throw e;
+        }
+        Futures.addCallback(ack, new FutureCallback<Ack>() {
+            @Override
+            public void onSuccess(Ack value) {
+                inFlightCommands.release();
+                result.complete(value);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                inFlightCommands.release();
+                result.completeExceptionally(t);
+            }
+        }, directExecutor());
+        return result;
+    }
+
     /**
      * Queries the read-side with the specified query.
      */
@@ -348,6 +413,8 @@ public class Client implements AutoCloseable {
 
         private @Nullable ErrorHandler streamingErrorHandler;
         private @Nullable ServerErrorHandler serverErrorHandler;
+        private int maxInFlightCommands = DEFAULT_MAX_IN_FLIGHT_COMMANDS;
+        private boolean multiplexSubscriptions = false;
 
         private Builder(ManagedChannel channel) {
             this.channel = checkNotNull(channel);
@@ -450,6 +517,41 @@ public class Client implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Sets the maximum number of commands {@linkplain CommandRequest#postAsync() posted
+         * asynchronously}, which may await the acknowledgement at the same time.
+         *
+         * <p>When the limit is reached, posting another command blocks the calling thread until
+         * one of the commands is acknowledged.
+         *
+         * <p>If not specified directly, {@link Client#DEFAULT_MAX_IN_FLIGHT_COMMANDS} is used.
+         */
+        @CanIgnoreReturnValue
+        public Builder maxInFlightCommands(int limit) {
+            checkArgument(limit > 0, "The limit of in-flight commands must be positive.");
+            this.maxInFlightCommands = limit;
+            return this;
+        }
+
+        /**
+         * Makes the client receive the updates of all its subscriptions via a single
+         * bidirectional stream.
+         *
+         * <p>By default, each subscription opens a separate server-streaming call. A client with
+         * many subscriptions, e.g. the ones made when {@linkplain CommandRequest#post() posting
+         * commands}, may exceed the limit of concurrent HTTP/2 streams per connection.
+         * Multiplexing avoids this at the cost of sharing the flow control window among
+         * the subscriptions.
+         *
+         * <p>Requires a server which supports the {@code ActivateAll} call of
+         * the {@code SubscriptionService}.
+         */
+        @CanIgnoreReturnValue
+        public Builder multiplexSubscriptions() {
+            this.multiplexSubscriptions = true;
+            return this;
+        }
+
         /**
          * Creates a new instance of the client.
          */
@@ -469,6 +571,11 @@ public class Client implements AutoCloseable {
             return host;
         }
 
+        @VisibleForTesting
+        int maxInFlightCommands() {
+            return maxInFlightCommands;
+        }
+
         @VisibleForTesting
         int port() {
             return port;
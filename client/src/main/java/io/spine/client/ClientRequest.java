@@ -25,9 +25,12 @@ import com.google.errorprone.annotations.OverridingMethodsMustInvokeSuper;
 import io.spine.base.CommandMessage;
 import io.spine.base.EntityState;
 import io.spine.base.EventMessage;
+import io.spine.core.Ack;
 import io.spine.core.UserId;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Preconditions2.checkNotDefaultArg;
 
@@ -73,6 +76,18 @@ public class ClientRequest {
         return new CommandRequest(this, c);
     }
 
+    /**
+     * Posts the passed command without waiting for the acknowledgement and without subscribing
+     * to the events resulting from the command.
+     *
+     * <p>This is a shortcut for {@code command(c).postAsync()}.
+     *
+     * @see CommandRequest#postAsync()
+     */
+    public CompletableFuture<Ack> postAsync(CommandMessage c) {
+        return command(c).postAsync();
+    }
+
     /**
      * Creates a builder for customizing subscription for the passed entity state type.
      */
@@ -33,6 +33,7 @@ import io.spine.logging.Logging;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -192,6 +193,30 @@ public final class CommandRequest extends ClientRequest implements Logging {
         op.performWithoutSubscriptions();
     }
 
+    /**
+     * Sends the command to the server without waiting for the acknowledgement.
+     *
+     * <p>If the events resulting from the command are {@linkplain #observe(Class, EventConsumer)
+     * observed}, the consumers are subscribed before the command is sent. The subscriptions are
+     * available via {@link Client#subscriptions()} and should be cancelled when no longer needed.
+     *
+     * <p>If the server responds with an error, the error is reported to
+     * the {@linkplain #onServerError(ServerErrorHandler) server error handler}, the subscriptions
+     * made for the command are cancelled, and the returned future completes with the received
+     * {@code Ack}. If the command cannot be sent, the future completes exceptionally.
+     *
+     * <p>The number of commands awaiting the acknowledgement is
+     * {@linkplain Client.Builder#maxInFlightCommands(int) limited} per client. If the limit is
+     * reached, the method blocks until one of the commands is acknowledged.
+     *
+     * @return the future acknowledgement of the command
+     * @see #post()
+     */
+    public CompletableFuture<Ack> postAsync() {
+        PostOperation op = new PostOperation();
+        return op.performAsync();
+    }
+
     @VisibleForTesting
     CommandMessage message() {
         return message;
@@ -241,6 +266,22 @@ public final class CommandRequest extends ClientRequest implements Logging {
             handleStatus(status);
         }
 
+        private CompletableFuture<Ack> performAsync() {
+            if (!consumers.isEmpty()) {
+                subscribeToEvents();
+            }
+            CompletableFuture<Ack> result =
+                    client().postAsync(command)
+                            .whenComplete((ack, error) -> {
+                                if (error != null) {
+                                    cancelVoidSubscriptions();
+                                } else {
+                                    handleStatus(ack.getStatus());
+                                }
+                            });
+            return result;
+        }
+
         private void subscribeToEvents() {
             Client client = client();
             this.subscriptions = subscribe(client, command, consumers, streamingErrorHandler());
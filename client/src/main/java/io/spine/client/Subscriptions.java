@@ -28,6 +28,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.stub.StreamObserver;
 import io.spine.base.Error;
 import io.spine.base.Identifier;
+import io.spine.client.grpc.SubscriptionControl;
 import io.spine.client.grpc.SubscriptionServiceGrpc;
 import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceBlockingStub;
 import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceStub;
@@ -36,8 +37,10 @@ import io.spine.logging.Logging;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.TextFormat.shortDebugString;
@@ -60,6 +63,11 @@ import static java.util.Collections.synchronizedSet;
  * <p>All remaining subscriptions are {@linkplain #cancelAll() cancelled} by the {@code Client}
  * when it {@linkplain Client#close() closes}.
  *
+ * <p>By default, each subscription receives its updates via a separate gRPC call. If the client
+ * is configured to {@linkplain Client.Builder#multiplexSubscriptions() multiplex} subscriptions,
+ * all of them share a single bidirectional stream. The updates received via the stream are
+ * passed to the observers of the corresponding subscriptions.
+ *
  * @see ClientRequest#subscribeTo(Class)
  * @see ClientRequest#subscribeToEvent(Class)
  * @see CommandRequest#post()
@@ -72,14 +80,28 @@ public final class Subscriptions implements Logging {
     private final @Nullable ErrorHandler streamingErrorHandler;
     private final @Nullable ServerErrorHandler serverErrorHandler;
 
+    /**
+     * The stream shared by all the subscriptions, or {@code null} if each subscription
+     * uses its own call.
+     */
+    private final @Nullable SharedStream sharedStream;
+
     Subscriptions(ManagedChannel channel,
                   @Nullable ErrorHandler streamingErrorHandler,
                   @Nullable ServerErrorHandler serverErrorHandler) {
+        this(channel, streamingErrorHandler, serverErrorHandler, false);
+    }
+
+    Subscriptions(ManagedChannel channel,
+                  @Nullable ErrorHandler streamingErrorHandler,
+                  @Nullable ServerErrorHandler serverErrorHandler,
+                  boolean multiplexed) {
         this.service = SubscriptionServiceGrpc.newStub(channel);
         this.blockingServiceStub = SubscriptionServiceGrpc.newBlockingStub(channel);
         this.streamingErrorHandler = streamingErrorHandler;
         this.serverErrorHandler = serverErrorHandler;
         this.items = synchronizedSet(new HashSet<>());
+        this.sharedStream = multiplexed ? new SharedStream() : null;
     }
 
     /**
@@ -156,8 +178,13 @@ public final class Subscriptions implements Logging {
      */
     <M extends Message> Subscription subscribeTo(Topic topic, StreamObserver<M> observer) {
         Subscription subscription = blockingServiceStub.subscribe(topic);
-        service.activate(subscription, new SubscriptionObserver<>(observer));
         add(subscription);
+        SubscriptionObserver<M> updateObserver = new SubscriptionObserver<>(observer);
+        if (sharedStream != null) {
+            sharedStream.activate(subscription, updateObserver);
+        } else {
+            service.activate(subscription, updateObserver);
+        }
         return subscription;
     }
 
@@ -189,13 +216,25 @@ public final class Subscriptions implements Logging {
     }
 
     private void requestCancellation(Subscription s) {
-        service.cancel(s, new CancellationObserver(s));
+        if (sharedStream != null) {
+            sharedStream.cancel(s);
+            items.remove(s);
+        } else {
+            service.cancel(s, new CancellationObserver(s));
+        }
     }
 
     /**
      * Requests cancellation of all subscriptions.
+     *
+     * <p>If the subscriptions are multiplexed, the shared stream is closed.
      */
     public void cancelAll() {
+        if (sharedStream != null) {
+            sharedStream.close();
+            items.clear();
+            return;
+        }
         // Create the copy for iterating to avoid `ConcurrentModificationException` on removal.
         ImmutableSet.copyOf(items)
                     .forEach(this::requestCancellation);
@@ -213,6 +252,118 @@ public final class Subscriptions implements Logging {
         return items.isEmpty();
     }
 
+    /**
+     * A bidirectional stream which carries the updates of all the subscriptions.
+     *
+     * <p>The stream is opened when the first subscription is activated and reopened on demand
+     * if it fails.
+     */
+    private final class SharedStream {
+
+        private static final String UNABLE_TO_ACTIVATE =
+                "Unable to activate the subscription `%s`. Returned error: `%s`.";
+        private static final String UNABLE_TO_CANCEL =
+                "Unable to cancel the subscription `%s`. Returned error: `%s`.";
+
+        private final Map<SubscriptionId, StreamObserver<SubscriptionUpdate>> observers =
+                new ConcurrentHashMap<>();
+        private @Nullable StreamObserver<SubscriptionControl> requests;
+
+        private synchronized void
+        activate(Subscription subscription, StreamObserver<SubscriptionUpdate> observer) {
+            observers.put(subscription.getId(), observer);
+            SubscriptionControl request = SubscriptionControl
+                    .newBuilder()
+                    .setActivate(subscription)
+                    .build();
+            send(request);
+        }
+
+        private synchronized void cancel(Subscription subscription) {
+            StreamObserver<SubscriptionUpdate> observer = observers.remove(subscription.getId());
+            if (observer != null && requests != null) {
+                SubscriptionControl request = SubscriptionControl
+                        .newBuilder()
+                        .setCancel(subscription)
+                        .build();
+                requests.onNext(request);
+            }
+        }
+
+        private synchronized void close() {
+            observers.clear();
+            if (requests != null) {
+                StreamObserver<SubscriptionControl> stream = requests;
+                requests = null;
+                stream.onCompleted();
+            }
+        }
+
+        private void send(SubscriptionControl request) {
+            if (requests == null) {
+                requests = service.activateAll(new Demultiplexer());
+            }
+            requests.onNext(request);
+        }
+
+        /**
+         * Detaches all the subscriptions from the stream, which is no longer usable.
+         */
+        private ImmutableSet<StreamObserver<SubscriptionUpdate>> detachAll() {
+            synchronized (this) {
+                requests = null;
+            }
+            ImmutableSet<StreamObserver<SubscriptionUpdate>> result =
+                    ImmutableSet.copyOf(observers.values());
+            observers.clear();
+            return result;
+        }
+
+        private ServerErrorHandler errorHandler(String messageFormat) {
+            return Optional.ofNullable(serverErrorHandler)
+                           .orElse(new LoggingServerErrorHandler(logger(), messageFormat));
+        }
+
+        /**
+         * Passes the updates received via the shared stream to the observers of
+         * the corresponding subscriptions.
+         */
+        private final class Demultiplexer implements StreamObserver<SubscriptionUpdate> {
+
+            @Override
+            public void onNext(SubscriptionUpdate update) {
+                Subscription subscription = update.getSubscription();
+                SubscriptionId id = subscription.getId();
+                Response response = update.getResponse();
+                if (response.isError()) {
+                    // The observer of a subscription is detached as soon as its cancellation
+                    // is requested, so an error for a detached one is a failed cancellation.
+                    StreamObserver<SubscriptionUpdate> detached = observers.remove(id);
+                    items.remove(subscription);
+                    String messageFormat = detached != null
+                                           ? UNABLE_TO_ACTIVATE
+                                           : UNABLE_TO_CANCEL;
+                    errorHandler(messageFormat).accept(subscription, response.error());
+                    return;
+                }
+                StreamObserver<SubscriptionUpdate> observer = observers.get(id);
+                if (observer != null) {
+                    observer.onNext(update);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                detachAll().forEach(observer -> observer.onError(t));
+            }
+
+            @Override
+            public void onCompleted() {
+                detachAll().forEach(StreamObserver::onCompleted);
+            }
+        }
+    }
+
     /**
      * Handles responses of cancellation requests.
      */
@@ -131,8 +131,8 @@ public abstract class BoundedContext implements Closeable, Logging {
         this.tenantIndex = builder.buildTenantIndex();
 
         this.broker = new IntegrationBroker();
-        this.commandBus = builder.buildCommandBus();
-        this.importBus = buildImportBus(tenantIndex);
+        this.commandBus = builder.buildCommandBus(this);
+        this.importBus = buildImportBus(this, tenantIndex);
         this.aggregateRootDirectory = builder.aggregateRootDirectory();
         this.internalAccess = new InternalAccess();
     }
@@ -164,9 +164,10 @@ public abstract class BoundedContext implements Closeable, Logging {
         );
     }
 
-    private static ImportBus buildImportBus(TenantIndex tenantIndex) {
+    private static ImportBus buildImportBus(BoundedContext context, TenantIndex tenantIndex) {
         ImportBus.Builder result = ImportBus
                 .newBuilder()
+                .injectContext(context)
                 .injectTenantIndex(tenantIndex);
         return result.build();
     }
@@ -59,6 +59,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.core.BoundedContextNames.assumingTestsValue;
 import static io.spine.server.ContextSpec.multitenant;
@@ -94,6 +95,7 @@ public final class BoundedContextBuilder implements Logging {
     private Stand stand;
     private Supplier<AggregateRootDirectory> rootDirectory;
     private TenantIndex tenantIndex;
+    private int queryCacheSize;
 
     /** Repositories to be registered with the Bounded Context being built after its creation. */
     private final Collection<Repository<?, ?>> repositories = new ArrayList<>();
@@ -231,6 +233,24 @@ public final class BoundedContextBuilder implements Logging {
         return this;
     }
 
+    /**
+     * Enables caching of the entity query results in the context being built.
+     *
+     * <p>A cached result is served to equal queries until any of the queried entities
+     * changes its state, gets archived, deleted, or restored.
+     *
+     * <p>By default, the query results are not cached.
+     *
+     * @param maxSize
+     *         the maximum number of the query results to keep
+     */
+    @CanIgnoreReturnValue
+    public BoundedContextBuilder cacheQueryResults(int maxSize) {
+        checkArgument(maxSize > 0, "The query cache size must be positive.");
+        this.queryCacheSize = maxSize;
+        return this;
+    }
+
     /**
      * Convenience method for handling the cases of passing a repository, which is also a message
      * dispatcher to {@code addXxxDispatcher()} and {@code removeXxxDispatcher()} methods.
@@ -559,7 +579,9 @@ public final class BoundedContextBuilder implements Logging {
         return eventBus.build();
     }
 
-    CommandBus buildCommandBus() {
+    CommandBus buildCommandBus(BoundedContext context) {
+        checkNotNull(context);
+        commandBus.injectContext(context);
         return commandBus.build();
     }
 
@@ -587,6 +609,7 @@ public final class BoundedContextBuilder implements Logging {
         BoundedContextBuilder system = new BoundedContextBuilder(systemSpec(), systemFeatures);
         Optional<? extends TenantIndex> tenantIndex = tenantIndex();
         tenantIndex.ifPresent(system::setTenantIndex);
+        system.queryCacheSize = queryCacheSize;
         SystemContext result =
                 system.buildPartial(SystemContext::newInstance, NoOpSystemClient.INSTANCE);
         return result;
@@ -636,7 +659,10 @@ public final class BoundedContextBuilder implements Logging {
                 .setMultitenant(isMultitenant())
                 .setSystemReadSide(systemReadSide);
         if (systemStand != null) {
-            result.withSubscriptionRegistryFrom(systemStand);
+            result.withSubscriptionRegistryFrom(systemStand)
+                  .withQueryCacheFrom(systemStand);
+        } else if (queryCacheSize > 0) {
+            result.cacheQueries(queryCacheSize);
         }
         return result.build();
     }
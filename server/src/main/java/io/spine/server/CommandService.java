@@ -22,20 +22,33 @@ package io.spine.server;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import com.google.common.collect.Table;
+import com.google.common.collect.Tables;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Any;
 import io.grpc.stub.StreamObserver;
 import io.spine.base.Error;
+import io.spine.client.grpc.CommandBatch;
+import io.spine.client.grpc.CommandBatchAck;
 import io.spine.client.grpc.CommandServiceGrpc;
 import io.spine.core.Ack;
 import io.spine.core.Command;
+import io.spine.core.TenantId;
+import io.spine.grpc.MemoizingObserver;
 import io.spine.logging.Logging;
 import io.spine.server.commandbus.CommandBus;
 import io.spine.server.commandbus.UnsupportedCommandException;
 import io.spine.server.type.CommandClass;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.protobuf.AnyPacker.pack;
 import static io.spine.server.bus.Acks.reject;
 
 /**
@@ -76,14 +89,113 @@ public final class CommandService
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The commands are grouped by the Bounded Context which handles them and by the tenant.
+     * Each group is posted to the {@code CommandBus} of the context at once.
+     */
+    @Override
+    public void postAll(CommandBatch request, StreamObserver<CommandBatchAck> responseObserver) {
+        CommandBatchAck response = postAll(request.getCommandList());
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The commands are accumulated until the client completes the stream and then
+     * {@linkplain #postAll(CommandBatch, StreamObserver) posted at once}. If the client
+     * terminates the stream with an error, the accumulated commands are discarded.
+     */
+    @Override
+    public StreamObserver<Command> postStream(StreamObserver<CommandBatchAck> responseObserver) {
+        return new CommandStream(responseObserver);
+    }
+
+    private CommandBatchAck postAll(List<Command> commands) {
+        Table<BoundedContext, TenantId, List<Command>> groups =
+                Tables.newCustomTable(new LinkedHashMap<>(), LinkedHashMap::new);
+        Map<Any, Ack> acks = new HashMap<>(commands.size());
+        for (Command command : commands) {
+            BoundedContext context = commandToContext.get(CommandClass.of(command));
+            if (context == null) {
+                Ack ack = rejectUnsupported(command);
+                acks.put(ack.getMessageId(), ack);
+            } else {
+                TenantId tenant = command.tenant();
+                List<Command> group = groups.get(context, tenant);
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groups.put(context, tenant, group);
+                }
+                group.add(command);
+            }
+        }
+        for (Table.Cell<BoundedContext, TenantId, List<Command>> cell : groups.cellSet()) {
+            MemoizingObserver<Ack> observer = new MemoizingObserver<>();
+            CommandBus commandBus = cell.getRowKey()
+                                        .commandBus();
+            commandBus.post(cell.getValue(), observer);
+            observer.responses()
+                    .forEach(ack -> acks.put(ack.getMessageId(), ack));
+        }
+        CommandBatchAck.Builder result = CommandBatchAck.newBuilder();
+        for (Command command : commands) {
+            Ack ack = acks.get(pack(command.getId()));
+            checkState(ack != null, "No `Ack` received for the command `%s`.", command.getId());
+            result.addAck(ack);
+        }
+        return result.build();
+    }
+
     private void handleUnsupported(Command command, StreamObserver<Ack> responseObserver) {
+        Ack response = rejectUnsupported(command);
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private Ack rejectUnsupported(Command command) {
         UnsupportedCommandException unsupported = new UnsupportedCommandException(command);
         _error().withCause(unsupported)
                 .log("Unsupported command posted to `CommandService`.");
         Error error = unsupported.asError();
         Ack response = reject(command.getId(), error);
-        responseObserver.onNext(response);
-        responseObserver.onCompleted();
+        return response;
+    }
+
+    /**
+     * Accumulates the commands streamed by a client and posts them once the stream is completed.
+     */
+    private final class CommandStream implements StreamObserver<Command> {
+
+        private final StreamObserver<CommandBatchAck> responseObserver;
+        private final List<Command> commands = new ArrayList<>();
+
+        private CommandStream(StreamObserver<CommandBatchAck> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(Command command) {
+            commands.add(command);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            _warn().withCause(t)
+                   .log("The stream of %d commands was terminated by the client.",
+                        commands.size());
+            commands.clear();
+        }
+
+        @Override
+        public void onCompleted() {
+            CommandBatchAck response = postAll(commands);
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+        }
     }
 
     /**
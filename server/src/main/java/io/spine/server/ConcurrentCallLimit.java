@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Limits the number of calls to a gRPC service, which are served simultaneously.
+ *
+ * <p>A call holds its permit until it is completed or cancelled. Therefore, a streaming call,
+ * such as an active subscription, holds the permit for as long as the stream is open.
+ *
+ * <p>Calls which exceed the limit are closed with the {@code RESOURCE_EXHAUSTED} status.
+ */
+final class ConcurrentCallLimit implements ServerInterceptor {
+
+    private final int maxCalls;
+    private final Semaphore permits;
+
+    ConcurrentCallLimit(int maxCalls) {
+        checkArgument(maxCalls > 0, "The limit of concurrent calls must be positive.");
+        this.maxCalls = maxCalls;
+        this.permits = new Semaphore(maxCalls);
+    }
+
+    @Override
+    public <R, S> ServerCall.Listener<R>
+    interceptCall(ServerCall<R, S> call, Metadata headers, ServerCallHandler<R, S> next) {
+        if (!permits.tryAcquire()) {
+            Status status = Status.RESOURCE_EXHAUSTED.withDescription(
+                    "The service serves the maximum of " + maxCalls + " concurrent calls."
+            );
+            call.close(status, new Metadata());
+            return new ServerCall.Listener<R>() {};
+        }
+        ServerCall.Listener<R> listener;
+        try {
+            listener = next.startCall(call, headers);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return new ReleasingListener<>(listener);
+    }
+
+    /**
+     * Releases the permit once the call is over.
+     */
+    private final class ReleasingListener<R> extends SimpleForwardingServerCallListener<R> {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingListener(ServerCall.Listener<R> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                super.onComplete();
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public void onCancel() {
+            try {
+                super.onCancel();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -28,17 +28,23 @@ import com.google.errorprone.annotations.FormatString;
 import io.grpc.BindableService;
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.spine.client.ConnectionConstants;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.lang.String.format;
 
 /**
@@ -61,6 +67,9 @@ public final class GrpcContainer {
     private final @Nullable Integer port;
     private final @Nullable String serverName;
     private final ImmutableSet<ServerServiceDefinition> services;
+    private final @Nullable Executor executor;
+    private final @Nullable Integer flowControlWindow;
+    private final @Nullable Integer maxConcurrentCalls;
 
     private @Nullable Server grpcServer;
 
@@ -93,10 +102,21 @@ public final class GrpcContainer {
         return new Builder(null, serverName);
     }
 
+    /**
+     * Tells if the current JVM supports
+     * {@linkplain Builder#useVirtualThreads() serving calls in virtual threads}.
+     */
+    public static boolean virtualThreadsSupported() {
+        return VirtualThreads.supported();
+    }
+
     private GrpcContainer(Builder builder) {
         this.port = builder.port().orElse(null);
         this.serverName = builder.serverName().orElse(null);
         this.services = builder.services();
+        this.executor = builder.executor;
+        this.flowControlWindow = builder.flowControlWindow;
+        this.maxConcurrentCalls = builder.maxConcurrentCalls;
     }
 
     /**
@@ -236,22 +256,63 @@ public final class GrpcContainer {
         if (injectedServer != null) {
             return injectedServer;
         }
-        ServerBuilder builder = createServerBuilder();
+        ServerBuilder<?> builder = createServerBuilder();
         for (ServerServiceDefinition service : services) {
-            builder.addService(service);
+            builder.addService(limitCalls(service));
         }
         return builder.build();
     }
 
-    private ServerBuilder createServerBuilder() {
-        ServerBuilder result =
+    private ServerBuilder<?> createServerBuilder() {
+        ServerBuilder<?> result =
                 serverName == null
                 ? ServerBuilder.forPort(checkNotNull(port))
-                : InProcessServerBuilder.forName(serverName)
-                                        .directExecutor();
+                : InProcessServerBuilder.forName(serverName);
+        if (executor != null) {
+            result.executor(executor);
+        } else if (serverName != null) {
+            result.directExecutor();
+        }
+        if (flowControlWindow != null && serverName == null) {
+            setFlowControlWindow(result, flowControlWindow);
+        }
         return result;
     }
 
+    private ServerServiceDefinition limitCalls(ServerServiceDefinition service) {
+        if (maxConcurrentCalls == null) {
+            return service;
+        }
+        return ServerInterceptors.intercept(service, new ConcurrentCallLimit(maxConcurrentCalls));
+    }
+
+    /**
+     * Sets the HTTP/2 flow control window to the given server builder.
+     *
+     * <p>The generic {@code ServerBuilder} API does not expose the setting, while the Netty-based
+     * builders do. As the framework does not depend on a particular transport, the setting is
+     * applied reflectively.
+     *
+     * @throws IllegalStateException
+     *         if the transport found in the classpath does not support the setting
+     */
+    private static void setFlowControlWindow(ServerBuilder<?> builder, int window) {
+        Class<?> builderClass = builder.getClass();
+        try {
+            Method method = builderClass.getMethod("flowControlWindow", int.class);
+            method.invoke(builder, window);
+        } catch (NoSuchMethodException e) {
+            throw newIllegalStateException(
+                    e, "The server builder `%s` does not support a flow control window.",
+                    builderClass.getName()
+            );
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw newIllegalStateException(
+                    e, "Unable to set the flow control window to `%s`.", builderClass.getName()
+            );
+        }
+    }
+
     /**
      * Injects a server to this container.
      *
@@ -307,10 +368,15 @@ public final class GrpcContainer {
     /**
      * The builder for {@code GrpcContainer} allows to define a port and services exposed
      * by the container.
+     *
+     * <p>Also, the builder allows to tune the threading and the flow control of the server.
      */
     public static final class Builder extends ConnectionBuilder {
 
         private final Set<ServerServiceDefinition> services = Sets.newHashSet();
+        private @Nullable Executor executor;
+        private @Nullable Integer flowControlWindow;
+        private @Nullable Integer maxConcurrentCalls;
 
         private Builder(@Nullable Integer port, @Nullable String serverName) {
             super(port, serverName);
@@ -364,6 +430,61 @@ public final class GrpcContainer {
             return ImmutableSet.copyOf(services);
         }
 
+        /**
+         * Sets the executor to serve the calls.
+         *
+         * <p>If not set, a container exposed at a port uses the default cached thread pool of
+         * gRPC, which starts a new thread whenever all the existing ones are busy. An in-process
+         * container serves the calls in the threads of the transport.
+         *
+         * <p>The executor is not shut down by the container.
+         */
+        @CanIgnoreReturnValue
+        public Builder setExecutor(Executor executor) {
+            this.executor = checkNotNull(executor);
+            return this;
+        }
+
+        /**
+         * Makes the container serve each call in a new virtual thread.
+         *
+         * @throws IllegalStateException
+         *         if the current JVM does not support virtual threads
+         * @see GrpcContainer#virtualThreadsSupported()
+         */
+        @CanIgnoreReturnValue
+        public Builder useVirtualThreads() {
+            return setExecutor(VirtualThreads.newPerTaskExecutor());
+        }
+
+        /**
+         * Sets the HTTP/2 flow control window in bytes.
+         *
+         * <p>The setting is only applicable to the containers exposed at a port and requires
+         * a Netty-based transport. It is ignored by the in-process containers.
+         */
+        @CanIgnoreReturnValue
+        public Builder setFlowControlWindow(int bytes) {
+            checkArgument(bytes > 0, "The flow control window must be positive.");
+            this.flowControlWindow = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of calls each service of the container serves simultaneously.
+         *
+         * <p>A streaming call, such as an active subscription, counts until the stream is closed.
+         * The calls beyond the limit are rejected with the {@code RESOURCE_EXHAUSTED} status.
+         *
+         * <p>By default, the number of calls is not limited.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaxConcurrentCalls(int maxCalls) {
+            checkArgument(maxCalls > 0, "The limit of concurrent calls must be positive.");
+            this.maxConcurrentCalls = maxCalls;
+            return this;
+        }
+
         public GrpcContainer build() {
             return new GrpcContainer(this);
         }
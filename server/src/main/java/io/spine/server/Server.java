@@ -31,7 +31,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
 import static io.spine.util.Exceptions.newIllegalStateException;
@@ -155,6 +157,9 @@ public final class Server implements Logging {
 
         private final Set<BoundedContextBuilder> contextBuilders = new HashSet<>();
         private @MonotonicNonNull ImmutableSet<BoundedContext> contexts;
+        private @Nullable Executor executor;
+        private @Nullable Integer flowControlWindow;
+        private @Nullable Integer maxConcurrentCalls;
 
         private Builder(@Nullable Integer port, @Nullable String serverName) {
             super(port, serverName);
@@ -181,6 +186,54 @@ public final class Server implements Logging {
             return this;
         }
 
+        /**
+         * Sets the executor to serve the calls to the services of the server.
+         *
+         * @see GrpcContainer.Builder#setExecutor(Executor)
+         */
+        @CanIgnoreReturnValue
+        public Builder setExecutor(Executor executor) {
+            this.executor = checkNotNull(executor);
+            return this;
+        }
+
+        /**
+         * Makes the server serve each call in a new virtual thread.
+         *
+         * @throws IllegalStateException
+         *         if the current JVM does not support virtual threads
+         * @see GrpcContainer#virtualThreadsSupported()
+         */
+        @CanIgnoreReturnValue
+        public Builder useVirtualThreads() {
+            return setExecutor(VirtualThreads.newPerTaskExecutor());
+        }
+
+        /**
+         * Sets the HTTP/2 flow control window in bytes.
+         *
+         * @see GrpcContainer.Builder#setFlowControlWindow(int)
+         */
+        @CanIgnoreReturnValue
+        public Builder setFlowControlWindow(int bytes) {
+            checkArgument(bytes > 0, "The flow control window must be positive.");
+            this.flowControlWindow = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of calls which each of {@code CommandService},
+         * {@code QueryService}, and {@code SubscriptionService} serves simultaneously.
+         *
+         * @see GrpcContainer.Builder#setMaxConcurrentCalls(int)
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaxConcurrentCalls(int maxCalls) {
+            checkArgument(maxCalls > 0, "The limit of concurrent calls must be positive.");
+            this.maxConcurrentCalls = maxCalls;
+            return this;
+        }
+
         /**
          * Creates a new instance of the server.
          */
@@ -229,6 +282,15 @@ public final class Server implements Logging {
                         "Neither `port` nor `serverName` assigned."));
                 result = GrpcContainer.atPort(port);
             }
+            if (executor != null) {
+                result.setExecutor(executor);
+            }
+            if (flowControlWindow != null) {
+                result.setFlowControlWindow(flowControlWindow);
+            }
+            if (maxConcurrentCalls != null) {
+                result.setMaxConcurrentCalls(maxConcurrentCalls);
+            }
             return result;
         }
     }
@@ -32,6 +32,7 @@ import io.spine.reflect.Invokables;
 import io.spine.server.commandbus.CommandScheduler;
 import io.spine.server.commandbus.ExecutorCommandScheduler;
 import io.spine.server.delivery.Delivery;
+import io.spine.server.metric.MetricRegistry;
 import io.spine.server.storage.StorageFactory;
 import io.spine.server.storage.memory.InMemoryStorageFactory;
 import io.spine.server.storage.system.SystemAwareStorageFactory;
@@ -124,6 +125,13 @@ public final class ServerEnvironment implements AutoCloseable {
      */
     private final EnvSetting<TracerFactory> tracerFactory = new EnvSetting<>();
 
+    /**
+     * The setting for the registry of metrics.
+     *
+     * <p>If not configured, the metrics are not collected.
+     */
+    private final EnvSetting<MetricRegistry> metricRegistry = new EnvSetting<>();
+
     /**
      * The setting for the factory for channel-based transport.
      *
@@ -348,6 +356,17 @@ public final class ServerEnvironment implements AutoCloseable {
         return this.tracerFactory.optionalValue(currentType);
     }
 
+    /**
+     * Obtains the {@link MetricRegistry} associated with the current environment.
+     *
+     * <p>If the registry was not set, returns a {@linkplain MetricRegistry#noOp() no-op} one.
+     */
+    public MetricRegistry metrics() {
+        Class<? extends EnvironmentType> currentType = environment().type();
+        return this.metricRegistry.optionalValue(currentType)
+                                  .orElse(MetricRegistry.noOp());
+    }
+
     /**
      * Obtains the storage factory for the current environment.
      *
@@ -407,6 +426,7 @@ public final class ServerEnvironment implements AutoCloseable {
     public void reset() {
         transportFactory.reset();
         tracerFactory.reset();
+        metricRegistry.reset();
         storageFactory.reset();
         delivery.reset();
         Class<? extends EnvironmentType> currentEnv = environment().type();
@@ -502,6 +522,19 @@ public final class ServerEnvironment implements AutoCloseable {
             return use(factory);
         }
 
+        /**
+         * Assigns the specified {@code MetricRegistry} for the selected environment.
+         *
+         * <p>The framework components obtain the registry upon their creation. Therefore,
+         * the registry should be assigned before the Bounded Contexts are built.
+         */
+        @CanIgnoreReturnValue
+        public TypeConfigurator use(MetricRegistry registry) {
+            checkNotNull(registry);
+            se.metricRegistry.use(registry, type);
+            return this;
+        }
+
         /**
          * Assigns the specified transport factory for the selected environment.
          *
@@ -25,24 +25,31 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import io.grpc.stub.StreamObserver;
+import io.spine.base.Error;
 import io.spine.client.Subscription;
+import io.spine.client.SubscriptionId;
 import io.spine.client.SubscriptionUpdate;
 import io.spine.client.Subscriptions;
 import io.spine.client.Target;
 import io.spine.client.Topic;
+import io.spine.client.grpc.SubscriptionControl;
 import io.spine.client.grpc.SubscriptionServiceGrpc;
 import io.spine.core.Response;
+import io.spine.core.Status;
 import io.spine.logging.Logging;
 import io.spine.server.stand.Stand;
 import io.spine.server.stand.SubscriptionCallback;
 import io.spine.type.TypeUrl;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.flogger.LazyArgs.lazy;
+import static io.spine.base.Errors.fromThrowable;
 import static io.spine.grpc.StreamObservers.forwardErrorsOnly;
 import static io.spine.server.stand.SubscriptionCallback.forwardingTo;
 
@@ -109,16 +116,7 @@ public final class SubscriptionService
         try {
             SubscriptionCallback callback = forwardingTo(observer);
             StreamObserver<Response> responseObserver = forwardErrorsOnly(observer);
-            Optional<BoundedContext> foundContext = findContextOf(subscription);
-            if (foundContext.isPresent()) {
-                Stand targetStand = foundContext.get().stand();
-                targetStand.activate(subscription, callback, responseObserver);
-            } else {
-                for (BoundedContext context : typeToContextMap.values()) {
-                    Stand stand = context.stand();
-                    stand.activate(subscription, callback, responseObserver);
-                }
-            }
+            activate(subscription, callback, responseObserver);
         } catch (@SuppressWarnings("OverlyBroadCatchBlock") Exception e) {
             _error().withCause(e)
                     .log("Error activating the subscription.");
@@ -126,6 +124,35 @@ public final class SubscriptionService
         }
     }
 
+    private void activate(Subscription subscription,
+                          SubscriptionCallback callback,
+                          StreamObserver<Response> responseObserver) {
+        Optional<BoundedContext> foundContext = findContextOf(subscription);
+        if (foundContext.isPresent()) {
+            Stand targetStand = foundContext.get().stand();
+            targetStand.activate(subscription, callback, responseObserver);
+        } else {
+            for (BoundedContext context : typeToContextMap.values()) {
+                Stand stand = context.stand();
+                stand.activate(subscription, callback, responseObserver);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The updates of all the subscriptions activated on the stream are sent to the passed
+     * observer. Subscription-specific errors are sent as updates with an error response, so that
+     * they do not terminate the stream.
+     */
+    @Override
+    public StreamObserver<SubscriptionControl>
+    activateAll(StreamObserver<SubscriptionUpdate> responseObserver) {
+        _debug().log("Opening a multiplexed subscription stream.");
+        return new SubscriptionStream(responseObserver);
+    }
+
     @Override
     public void cancel(Subscription subscription, StreamObserver<Response> responseObserver) {
         _debug().log("Incoming cancel request for the subscription topic: `%s`.", subscription);
@@ -162,6 +189,149 @@ public final class SubscriptionService
         return result;
     }
 
+    /**
+     * Serves a multiplexed subscription stream opened by a client.
+     *
+     * <p>The updates of the subscriptions may be produced concurrently, so the access to
+     * the response stream is synchronized.
+     */
+    private final class SubscriptionStream implements StreamObserver<SubscriptionControl> {
+
+        private final StreamObserver<SubscriptionUpdate> responseObserver;
+        private final Map<SubscriptionId, Subscription> active = new ConcurrentHashMap<>();
+        private boolean closed = false;
+
+        private SubscriptionStream(StreamObserver<SubscriptionUpdate> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(SubscriptionControl request) {
+            switch (request.getKindCase()) {
+                case ACTIVATE:
+                    activate(request.getActivate());
+                    break;
+                case CANCEL:
+                    cancel(request.getCancel());
+                    break;
+                case KIND_NOT_SET:
+                default:
+                    _warn().log("Skipping an empty subscription control request.");
+            }
+        }
+
+        private void activate(Subscription subscription) {
+            _debug().log("Activating the subscription `%s` on a multiplexed stream.",
+                         lazy(subscription::toShortString));
+            try {
+                active.put(subscription.getId(), subscription);
+                SubscriptionService.this.activate(subscription,
+                                                  this::send,
+                                                  new ErrorReporter(subscription));
+            } catch (@SuppressWarnings("OverlyBroadCatchBlock") Exception e) {
+                _error().withCause(e)
+                        .log("Error activating the subscription.");
+                reportError(subscription, e);
+            }
+        }
+
+        private void cancel(Subscription subscription) {
+            Subscription removed = active.remove(subscription.getId());
+            if (removed != null) {
+                cancelInContext(removed);
+            }
+        }
+
+        private void cancelInContext(Subscription subscription) {
+            Optional<BoundedContext> selected = findContextOf(subscription);
+            if (!selected.isPresent()) {
+                _warn().log("Trying to cancel a subscription `%s` which could not be found.",
+                            lazy(subscription::toShortString));
+                return;
+            }
+            try {
+                selected.get()
+                        .stand()
+                        .cancel(subscription, new ErrorReporter(subscription));
+            } catch (@SuppressWarnings("OverlyBroadCatchBlock") Exception e) {
+                _error().withCause(e)
+                        .log("Error cancelling the subscription.");
+            }
+        }
+
+        private void reportError(Subscription subscription, Throwable t) {
+            active.remove(subscription.getId());
+            Error error = t instanceof MessageError
+                          ? ((MessageError) t).asError()
+                          : fromThrowable(t);
+            Response response = Response
+                    .newBuilder()
+                    .setStatus(Status.newBuilder()
+                                     .setError(error))
+                    .build();
+            SubscriptionUpdate update = SubscriptionUpdate
+                    .newBuilder()
+                    .setSubscription(subscription)
+                    .setResponse(response)
+                    .build();
+            send(update);
+        }
+
+        private synchronized void send(SubscriptionUpdate update) {
+            if (!closed) {
+                responseObserver.onNext(update);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            _warn().withCause(t)
+                   .log("The multiplexed subscription stream was terminated by the client.");
+            closeStream();
+        }
+
+        @Override
+        public void onCompleted() {
+            closeStream();
+            responseObserver.onCompleted();
+        }
+
+        private void closeStream() {
+            synchronized (this) {
+                closed = true;
+            }
+            ImmutableSet.copyOf(active.values())
+                        .forEach(this::cancel);
+        }
+
+        /**
+         * Reports the errors related to a subscription via the stream.
+         */
+        private final class ErrorReporter implements StreamObserver<Response> {
+
+            private final Subscription subscription;
+
+            private ErrorReporter(Subscription subscription) {
+                this.subscription = subscription;
+            }
+
+            @Override
+            public void onNext(Response value) {
+                // Positive responses are not propagated to the client.
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                reportError(subscription, t);
+            }
+
+            @Override
+            public void onCompleted() {
+                // Do nothing.
+            }
+        }
+    }
+
     /**
      * The builder for the {@link SubscriptionService}.
      */
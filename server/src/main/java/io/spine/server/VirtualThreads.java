@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Creates executors which start a new virtual thread for each task.
+ *
+ * <p>The virtual threads are only available since Java 21. As the framework is compiled for
+ * earlier versions of Java, the executor is obtained reflectively.
+ */
+final class VirtualThreads {
+
+    private static final @Nullable Method factoryMethod = findFactoryMethod();
+
+    /** Prevents the utility class instantiation. */
+    private VirtualThreads() {
+    }
+
+    /**
+     * Tells if the current JVM supports virtual threads.
+     */
+    static boolean supported() {
+        return factoryMethod != null;
+    }
+
+    /**
+     * Creates a new executor which runs each task in a new virtual thread.
+     *
+     * @throws IllegalStateException
+     *         if the current JVM does not support virtual threads
+     */
+    static ExecutorService newPerTaskExecutor() {
+        if (factoryMethod == null) {
+            throw newIllegalStateException(
+                    "Virtual threads are not supported by the current JVM (`%s`).",
+                    System.getProperty("java.version")
+            );
+        }
+        try {
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw newIllegalStateException(e, "Unable to create a virtual thread executor.");
+        }
+    }
+
+    private static @Nullable Method findFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+}
@@ -21,6 +21,7 @@
 package io.spine.server.aggregate;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.OverridingMethodsMustInvokeSuper;
 import io.spine.annotation.Internal;
@@ -36,6 +37,8 @@ import io.spine.server.delivery.BatchDeliveryListener;
 import io.spine.server.delivery.Delivery;
 import io.spine.server.delivery.Inbox;
 import io.spine.server.delivery.InboxLabel;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardJob;
 import io.spine.server.dispatch.BatchDispatchOutcome;
 import io.spine.server.entity.EntityLifecycle;
 import io.spine.server.entity.EventProducingRepository;
@@ -47,6 +50,7 @@ import io.spine.server.route.CommandRouting;
 import io.spine.server.route.EventRouting;
 import io.spine.server.route.Route;
 import io.spine.server.storage.StorageFactory;
+import io.spine.server.tenant.TenantAwareRunner;
 import io.spine.server.type.CommandClass;
 import io.spine.server.type.CommandEnvelope;
 import io.spine.server.type.EventClass;
@@ -55,16 +59,31 @@ import io.spine.server.type.SignalEnvelope;
 import io.spine.system.server.Mirror;
 import io.spine.system.server.MirrorRepository;
 import io.spine.system.server.SystemSettings;
+import io.spine.type.TypeUrl;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
-
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Streams.stream;
 import static io.spine.option.EntityOption.Kind.AGGREGATE;
 import static io.spine.server.aggregate.model.AggregateClass.asAggregateClass;
 import static io.spine.server.tenant.TenantAwareRunner.with;
@@ -403,6 +422,74 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
                                       .toImporter(id));
     }
 
+    /**
+     * Imports the passed events in bulk.
+     *
+     * <p>The events are grouped by the target aggregates. Each aggregate applies its group of
+     * events in a single transaction and then is stored once, so that its history receives
+     * a single segment with all the events of the group.
+     *
+     * <p>Unlike {@link #importEvent(EventEnvelope)}, the events are not sent through
+     * the inbox. Instead, the groups are imported {@linkplain Delivery#runInSessions(Map) in
+     * the sessions} of the shards of their aggregates, so that an aggregate is never modified
+     * concurrently with the delivery of its inbox.
+     *
+     * <p>The session of a shard is extended before importing each group. If the session is
+     * lost, the remaining groups of the shard are not imported, and the call fails.
+     *
+     * @throws IllegalStateException
+     *         if the shards are not picked up within the
+     *         {@linkplain io.spine.server.delivery.DeliveryBuilder#setSessionTimeout session
+     *         timeout}, or if a session is lost during the import
+     */
+    final void importEvents(Collection<EventEnvelope> events) {
+        checkNotNull(events);
+        Map<I, List<EventEnvelope>> byAggregate = new LinkedHashMap<>();
+        for (EventEnvelope event : events) {
+            routeImport(event).ifPresent(
+                    id -> byAggregate.computeIfAbsent(id, k -> new ArrayList<>())
+                                     .add(event)
+            );
+        }
+        if (byAggregate.isEmpty()) {
+            return;
+        }
+        Delivery delivery = ServerEnvironment.instance()
+                                             .delivery();
+        TypeUrl stateType = entityStateType();
+        Map<ShardIndex, Map<I, List<EventEnvelope>>> byShard = new HashMap<>();
+        byAggregate.forEach(
+                (id, aggregateEvents) -> byShard
+                        .computeIfAbsent(delivery.whichShardFor(id, stateType),
+                                         index -> new LinkedHashMap<>())
+                        .put(id, aggregateEvents)
+        );
+        TenantAwareRunner runner = TenantAwareRunner.withCurrentTenant(context().isMultitenant());
+        Map<ShardIndex, ShardJob> jobs = new HashMap<>();
+        byShard.forEach(
+                (index, groups) -> jobs.put(index, heartbeat -> runner.run(
+                        () -> importGroups(groups, heartbeat)
+                ))
+        );
+        delivery.runInSessions(jobs);
+    }
+
+    /**
+     * Imports the groups of events one after another, while the session of their shard is held.
+     */
+    private void importGroups(Map<I, List<EventEnvelope>> groups, BooleanSupplier heartbeat) {
+        for (Map.Entry<I, List<EventEnvelope>> group : groups.entrySet()) {
+            if (!heartbeat.getAsBoolean()) {
+                return;
+            }
+            importGroup(group.getKey(), group.getValue());
+        }
+    }
+
+    private void importGroup(I id, List<EventEnvelope> events) {
+        new EventImportEndpoint<>(this, events).dispatchTo(id);
+    }
+
     private Optional<I> routeImport(EventEnvelope event) {
         Optional<I> id = route(eventImportRouting(), event);
         return id;
@@ -643,6 +730,67 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         return load(id);
     }
 
+    /**
+     * Loads the aggregates with the passed IDs in bulk.
+     *
+     * <p>The histories of the aggregates are {@linkplain AggregateStorage#readAll(Iterable) read}
+     * from the storage in one go. Then the aggregates are {@linkplain #play restored} from their
+     * histories in parallel, using the {@linkplain #replayPool() replay pool}.
+     *
+     * <p>Similarly to {@link #find(Object)}, aggregates are loaded even if they are archived
+     * or deleted. The IDs of aggregates which have no history in the storage are skipped.
+     *
+     * @param ids
+     *         the IDs of the aggregates to load
+     * @return the loaded aggregates in the order of the passed IDs
+     * @throws IllegalStateException
+     *         if any of the aggregates cannot be restored from its history
+     */
+    public ImmutableList<A> loadAll(Iterable<I> ids) {
+        checkNotNull(ids);
+        int batchSize = snapshotTrigger + 1;
+        ImmutableList<AggregateReadRequest<I>> requests =
+                stream(ids).map(id -> new AggregateReadRequest<>(id, batchSize))
+                           .collect(toImmutableList());
+        Iterator<@Nullable AggregateHistory> histories = aggregateStorage().readAll(requests);
+        TenantAwareRunner runner = TenantAwareRunner.withCurrentTenant(context().isMultitenant());
+        List<Callable<A>> replays = new ArrayList<>(requests.size());
+        for (AggregateReadRequest<I> request : requests) {
+            AggregateHistory history = histories.next();
+            if (history != null) {
+                I id = request.recordId();
+                replays.add(() -> runner.evaluate(() -> play(id, history)));
+            }
+        }
+        return replayAll(replays);
+    }
+
+    private ImmutableList<A> replayAll(List<Callable<A>> replays) {
+        if (replays.isEmpty()) {
+            return ImmutableList.of();
+        }
+        ForkJoinPool pool = replayPool();
+        ImmutableList<ForkJoinTask<A>> tasks = replays.stream()
+                                                      .map(pool::submit)
+                                                      .collect(toImmutableList());
+        ImmutableList<A> result = tasks.stream()
+                                       .map(ForkJoinTask::join)
+                                       .collect(toImmutableList());
+        return result;
+    }
+
+    /**
+     * Obtains the pool used for restoring aggregates {@linkplain #loadAll(Iterable) loaded
+     * in bulk}.
+     *
+     * <p>By default, the {@linkplain ForkJoinPool#commonPool() common pool} is used.
+     * Repositories may override this method to isolate bulk loads from other
+     * computations of the application.
+     */
+    protected ForkJoinPool replayPool() {
+        return ForkJoinPool.commonPool();
+    }
+
     private void onCommandTargetSet(I id, CommandEnvelope cmd) {
         EntityLifecycle lifecycle = lifecycleOf(id);
         CommandId commandId = cmd.id();
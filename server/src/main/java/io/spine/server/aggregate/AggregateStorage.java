@@ -30,6 +30,7 @@ import io.spine.client.TargetFilters;
 import io.spine.core.Event;
 import io.spine.core.EventContext;
 import io.spine.protobuf.AnyPacker;
+import io.spine.server.metric.Timer;
 import io.spine.server.storage.AbstractStorage;
 import io.spine.server.storage.StorageWithLifecycleFlags;
 import io.spine.server.tenant.TenantAwareRunner;
@@ -47,6 +48,7 @@ import java.util.function.Supplier;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.Iterators.transform;
 import static com.google.common.collect.Streams.stream;
 import static com.google.protobuf.util.Timestamps.checkValid;
 import static io.spine.client.Filters.all;
@@ -144,7 +146,54 @@ public abstract class AggregateStorage<I>
     @SuppressWarnings("CheckReturnValue") // calling builder method
     @Override
     public Optional<AggregateHistory> read(AggregateReadRequest<I> request) {
+        Timer readTimer = readTimer();
+        long start = readTimer.start();
         ReadOperation<I> op = new ReadOperation<>(this, request);
+        Optional<AggregateHistory> result = op.perform();
+        readTimer.stop(start);
+        return result;
+    }
+
+    /**
+     * Reads the histories of several aggregates at once.
+     *
+     * <p>The returned iterator yields the histories in the order of the passed requests.
+     * If there is no history for the requested aggregate, the corresponding element
+     * is {@code null}.
+     *
+     * <p>The default implementation {@linkplain #read(AggregateReadRequest) reads} the histories
+     * one by one, as the iterator is traversed. Storage implementations are encouraged to
+     * override this method in order to fetch the histories in fewer round trips.
+     *
+     * @param requests
+     *         the requests to read the histories by
+     * @return the iterator over the aggregate histories
+     * @throws IllegalStateException
+     *         if the storage was closed before
+     */
+    public Iterator<@Nullable AggregateHistory>
+    readAll(Iterable<AggregateReadRequest<I>> requests) {
+        checkNotClosed();
+        checkNotNull(requests);
+        Iterator<@Nullable AggregateHistory> result =
+                transform(requests.iterator(), request -> read(request).orElse(null));
+        return result;
+    }
+
+    /**
+     * Composes an aggregate history out of the records sorted from newer to older.
+     *
+     * <p>Storage implementations which {@linkplain #readAll(Iterable) read} the records
+     * of several aggregates at once use this method to form each history in the same way
+     * as it is done for a {@linkplain #read(AggregateReadRequest) single read}.
+     *
+     * @param historyBackward
+     *         the records of an aggregate sorted by timestamp descending
+     * @return the aggregate history or {@code Optional.empty()} if there are no records
+     */
+    protected final Optional<AggregateHistory>
+    toHistory(Iterator<AggregateEventRecord> historyBackward) {
+        ReadOperation<I> op = new ReadOperation<>(historyBackward);
         return op.perform();
     }
 
@@ -165,6 +214,8 @@ public abstract class AggregateStorage<I>
         List<Event> eventList = events.getEventList();
         checkArgument(!eventList.isEmpty(), "Event list must not be empty.");
 
+        Timer writeTimer = writeTimer();
+        long start = writeTimer.start();
         for (Event event : eventList) {
             AggregateEventRecord record = toStorageRecord(event);
             writeRecord(id, record);
@@ -172,6 +223,7 @@ public abstract class AggregateStorage<I>
         if (events.hasSnapshot()) {
             writeSnapshot(id, events.getSnapshot());
         }
+        writeTimer.stop(start);
     }
 
     /**
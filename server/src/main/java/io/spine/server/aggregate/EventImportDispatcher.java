@@ -28,6 +28,8 @@ import io.spine.server.event.EventDispatcher;
 import io.spine.server.type.EventClass;
 import io.spine.server.type.EventEnvelope;
 
+import java.util.Collection;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -81,4 +83,13 @@ public final class EventImportDispatcher<I> implements EventDispatcher, Logging
     public void dispatch(EventEnvelope event) {
         repository.importEvent(event);
     }
+
+    /**
+     * Imports the given events in bulk.
+     *
+     * @see AggregateRepository#importEvents(Collection)
+     */
+    void dispatchAll(Collection<EventEnvelope> events) {
+        repository.importEvents(events);
+    }
 }
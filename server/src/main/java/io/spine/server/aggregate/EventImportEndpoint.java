@@ -20,11 +20,19 @@
 
 package io.spine.server.aggregate;
 
+import com.google.common.collect.ImmutableList;
 import io.spine.core.Event;
 import io.spine.server.dispatch.DispatchOutcome;
 import io.spine.server.dispatch.Success;
+import io.spine.server.entity.EntityLifecycle;
 import io.spine.server.type.EventEnvelope;
 
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
 /**
  * The endpoint for importing events into aggregates.
  *
@@ -32,20 +40,47 @@ import io.spine.server.type.EventEnvelope;
  * aggregates. But unlike for event reaction, only one aggregate can be a target for event
  * being imported.
  *
+ * <p>When importing in bulk, an endpoint receives all the events imported into an aggregate
+ * at once. The events are applied in a single transaction and stored as a single segment of
+ * the aggregate history.
+ *
  * @see io.spine.server.aggregate.Apply#allowImport()
  */
 final class EventImportEndpoint<I, A extends Aggregate<I, ?, ?>>
     extends AggregateEventEndpoint<I, A> {
 
+    private final ImmutableList<Event> events;
+
     EventImportEndpoint(AggregateRepository<I, A> repository, EventEnvelope event) {
         super(repository, event);
+        this.events = ImmutableList.of(event.outerObject());
+    }
+
+    /**
+     * Creates an endpoint for importing the given events into the same aggregate.
+     *
+     * @param repository
+     *         the repository of the target aggregate
+     * @param events
+     *         the non-empty list of events to import in the order of their import
+     */
+    EventImportEndpoint(AggregateRepository<I, A> repository, List<EventEnvelope> events) {
+        super(repository, firstOf(events));
+        this.events = events.stream()
+                            .map(EventEnvelope::outerObject)
+                            .collect(toImmutableList());
+    }
+
+    private static EventEnvelope firstOf(List<EventEnvelope> events) {
+        checkNotNull(events);
+        checkArgument(!events.isEmpty(), "At least one event is required for import.");
+        return events.get(0);
     }
 
     /**
-     * Notifies the repository about the event being imported and returns the enclosed
-     * {@link Event} instance.
+     * Returns the outcome with the events being imported as the produced ones.
      *
-     * @return the list with one {@code Event} which is being imported
+     * @return the outcome with the {@code Event}s which are being imported
      * @implNote We do not need to perform anything with the aggregate and the passed
      *         event. The aggregate would consume the passed event when dispatching result is
      *         {@link io.spine.server.aggregate.AggregateEndpoint#handleAndApplyEvents(Aggregate)
@@ -56,7 +91,7 @@ final class EventImportEndpoint<I, A extends Aggregate<I, ?, ?>>
         Event event = envelope().outerObject();
         Success.Builder success = Success.newBuilder();
         success.getProducedEventsBuilder()
-               .addEvent(event);
+               .addAllEvent(events);
         DispatchOutcome outcome = DispatchOutcome
                 .newBuilder()
                 .setPropagatedSignal(event.messageId())
@@ -67,8 +102,8 @@ final class EventImportEndpoint<I, A extends Aggregate<I, ?, ?>>
 
     @Override
     protected void afterDispatched(I entityId) {
-        repository().lifecycleOf(entityId)
-                    .onEventImported(envelope().outerObject());
+        EntityLifecycle lifecycle = repository().lifecycleOf(entityId);
+        events.forEach(lifecycle::onEventImported);
     }
 
     @Override
@@ -20,7 +20,12 @@
 
 package io.spine.server.aggregate;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.LinkedListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Streams;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Ack;
 import io.spine.core.Event;
 import io.spine.core.TenantId;
 import io.spine.server.bus.BusBuilder;
@@ -30,13 +35,20 @@ import io.spine.server.bus.EnvelopeValidator;
 import io.spine.server.bus.MessageUnhandled;
 import io.spine.server.bus.UnicastBus;
 import io.spine.server.event.EventDispatcher;
+import io.spine.server.tenant.TenantAwareRunner;
 import io.spine.server.tenant.TenantIndex;
 import io.spine.server.type.EventClass;
 import io.spine.server.type.EventEnvelope;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.server.bus.Acks.acknowledge;
 import static io.spine.server.bus.BusBuilder.FieldCheck.tenantIndexNotSet;
+import static java.util.stream.Collectors.toCollection;
 
 /**
  * Dispatches events to repositories of aggregates that
@@ -72,6 +84,13 @@ import static io.spine.server.bus.BusBuilder.FieldCheck.tenantIndexNotSet;
  *
  * <p>Importing events which occurred before the events already stored in the aggregate
  * history may result in hard to track bugs, and is not recommended.
+ *
+ * <h1>Bulk Import</h1>
+ *
+ * <p>Large amounts of events, e.g. when migrating the history of a legacy system, may be
+ * {@linkplain #importAll(Iterable, StreamObserver) imported in bulk}. In this case, the events
+ * are grouped by the target aggregates, and each aggregate applies its group of events in
+ * a single transaction.
  */
 public final class ImportBus
         extends UnicastBus<Event, EventEnvelope, EventClass, EventImportDispatcher<?>> {
@@ -114,28 +133,90 @@ public final class ImportBus
         dispatcher.dispatch(event);
     }
 
+    /**
+     * Imports the given events in bulk.
+     *
+     * <p>The events go through the same validation as the {@linkplain #post(Iterable,
+     * StreamObserver) posted} ones. The accepted events are grouped by the tenant and by
+     * the target aggregate, preserving the order of the events within each group.
+     *
+     * <p>Each target aggregate is loaded once and applies all the events of its group in
+     * a single transaction. Then the aggregate is stored once, so that the events are
+     * appended to its history as a single segment.
+     *
+     * <p>Unlike the posted events, the events imported in bulk are not sent through the inboxes
+     * of the aggregates. Instead, the groups are applied in the sessions of the shards of
+     * their aggregates, picked up via the {@link io.spine.server.delivery.Delivery Delivery}.
+     * While a shard is held by the import, its messages are not delivered, so an aggregate
+     * never handles other messages concurrently with the import. The groups of different
+     * shards are applied in parallel.
+     *
+     * <p>The call blocks until the sessions of all the shards are obtained, e.g. until
+     * the shards being delivered at the moment are released. If the shards are not obtained
+     * within the {@linkplain io.spine.server.delivery.DeliveryBuilder#setSessionTimeout
+     * session timeout}, the call fails. The events of the aggregates, which shards were not
+     * obtained, are not applied.
+     *
+     * <p>If applying any event of a group fails, the whole group is not applied. The failure
+     * is reported to the system context as for the single imported events.
+     *
+     * @param events
+     *         the events to import
+     * @param observer
+     *         the observer to receive outcome of the operation
+     * @throws IllegalStateException
+     *         if the shards of the target aggregates are not obtained within the session
+     *         timeout, or if a session is lost during the import
+     */
+    public void importAll(Iterable<Event> events, StreamObserver<Ack> observer) {
+        checkNotNull(events);
+        checkNotNull(observer);
+        ImmutableList<EventEnvelope> accepted = accept(events, observer);
+        ListMultimap<TenantId, EventEnvelope> byTenant = LinkedListMultimap.create();
+        for (EventEnvelope event : accepted) {
+            observer.onNext(acknowledge(event.id()));
+            byTenant.put(event.tenantId(), event);
+        }
+        byTenant.asMap()
+                .forEach((tenant, tenantEvents) -> TenantAwareRunner
+                        .with(tenant)
+                        .run(() -> importAll(tenantEvents)));
+        observer.onCompleted();
+    }
+
+    private void importAll(Collection<EventEnvelope> events) {
+        ListMultimap<EventImportDispatcher<?>, EventEnvelope> byDispatcher =
+                LinkedListMultimap.create();
+        for (EventEnvelope event : events) {
+            byDispatcher.put(dispatcherOf(event), event);
+        }
+        byDispatcher.asMap()
+                    .forEach(EventImportDispatcher::dispatchAll);
+    }
+
     @Override
     protected Registry registry() {
         return (Registry) super.registry();
     }
 
     /**
-     * Updates the {@link io.spine.server.tenant.TenantIndex TenantIndex} with the ID
+     * Updates the {@link io.spine.server.tenant.TenantIndex TenantIndex} with the IDs
      * obtained from the passed events.
+     *
+     * <p>Each tenant is passed to the index once, no matter how many events of the tenant
+     * are passed.
      */
     @Override
     protected void store(Iterable<Event> events) {
-        TenantId tenantId = tenantOf(events);
-        tenantIndex.keep(tenantId);
+        tenantsOf(events).forEach(tenantIndex::keep);
     }
 
-    private static TenantId tenantOf(Iterable<Event> events) {
+    private static Set<TenantId> tenantsOf(Iterable<Event> events) {
         return Streams.stream(events)
                       .map((e) -> e.getContext()
                                    .getImportContext()
                                    .getTenantId())
-                      .findAny()
-                      .orElse(TenantId.getDefaultInstance());
+                      .collect(toCollection(LinkedHashSet::new));
     }
 
     /**
@@ -182,6 +263,11 @@ public final class ImportBus
             return new Registry();
         }
 
+        @Override
+        protected String busKind() {
+            return ImportBus.class.getSimpleName();
+        }
+
         @Override
         public ImportBus build() {
             return new ImportBus(this);
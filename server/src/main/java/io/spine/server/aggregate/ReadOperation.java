@@ -26,6 +26,7 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newLinkedList;
@@ -39,21 +40,32 @@ import static io.spine.util.Exceptions.newIllegalStateException;
  */
 final class ReadOperation<I> {
 
-    private final AggregateStorage<I> storage;
-    private final AggregateReadRequest<I> request;
+    private final Supplier<Iterator<AggregateEventRecord>> records;
     private final Deque<Event> history;
 
     private @MonotonicNonNull Snapshot snapshot = null;
 
     ReadOperation(AggregateStorage<I> storage, AggregateReadRequest<I> request) {
         storage.checkNotClosed();
-        this.storage = storage;
-        this.request = checkNotNull(request);
+        checkNotNull(request);
+        this.records = () -> storage.historyBackward(request);
+        this.history = newLinkedList();
+    }
+
+    /**
+     * Creates an operation over the records which were already fetched from the storage.
+     *
+     * @param historyBackward
+     *         the records of an aggregate sorted from newer to older
+     */
+    ReadOperation(Iterator<AggregateEventRecord> historyBackward) {
+        checkNotNull(historyBackward);
+        this.records = () -> historyBackward;
         this.history = newLinkedList();
     }
 
     Optional<AggregateHistory> perform() {
-        Iterator<AggregateEventRecord> historyBackward = storage.historyBackward(request);
+        Iterator<AggregateEventRecord> historyBackward = records.get();
         if (!historyBackward.hasNext()) {
             return Optional.empty();
         }
@@ -29,8 +29,13 @@ import io.spine.annotation.Internal;
 import io.spine.core.Ack;
 import io.spine.core.Signal;
 import io.spine.core.SignalId;
+import io.spine.core.Status;
 import io.spine.logging.Logging;
 import io.spine.server.Closeable;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.metric.Counter;
+import io.spine.server.metric.MetricRegistry;
+import io.spine.server.metric.Timer;
 import io.spine.server.type.MessageEnvelope;
 import io.spine.server.type.SignalEnvelope;
 import io.spine.type.MessageClass;
@@ -42,6 +47,7 @@ import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Suppliers.memoize;
+import static io.spine.core.Status.StatusCase.OK;
 import static io.spine.server.bus.Acks.acknowledge;
 import static io.spine.util.Preconditions2.checkNotDefaultArg;
 import static java.util.Collections.singleton;
@@ -70,11 +76,30 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
 
     private final Supplier<FilterChain<E>> filterChain;
 
+    /** Counts the messages posted to the bus. */
+    private final Counter posted;
+
+    /** Counts the messages processed by the bus filters with the {@code OK} status. */
+    private final Counter filtered;
+
+    /** Counts the messages rejected by the bus filters. */
+    private final Counter rejected;
+
+    /** Measures the time of dispatching a message. */
+    private final Timer dispatching;
+
     protected Bus(BusBuilder<?, T, E, C, D> builder) {
         super();
         this.listeners = new Listeners<>(builder);
         this.filterChain = memoize(() -> this.createFilterChain(builder.filters()));
         this.registry = builder.newRegistry();
+        MetricRegistry metrics = ServerEnvironment.instance()
+                                                  .metrics();
+        String prefix = builder.metricPrefix();
+        this.posted = metrics.counter(prefix + "posted");
+        this.filtered = metrics.counter(prefix + "filtered");
+        this.rejected = metrics.counter(prefix + "rejected");
+        this.dispatching = metrics.timer(prefix + "dispatch");
     }
 
     /**
@@ -141,21 +166,58 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
     public final void post(Iterable<T> messages, StreamObserver<Ack> observer) {
         checkNotNull(messages);
         checkNotNull(observer);
-        messages.forEach(message -> listeners.accept(toEnvelope(message)));
+        onPosted(messages);
         StreamObserver<Ack> wrappedObserver = prepareObserver(messages, observer);
         filterAndPost(messages, wrappedObserver);
     }
 
+    /**
+     * Accepts the given messages for dispatching in the way specific to the bus implementation.
+     *
+     * <p>The messages go through the same filters and are stored in the same way as
+     * when {@linkplain #post(Iterable, StreamObserver) posted}. The messages rejected by
+     * the filters are acknowledged to the given observer.
+     *
+     * <p>Unlike posting, the accepted messages are neither acknowledged nor dispatched.
+     * This is up to the calling bus. The observer is not completed either.
+     *
+     * @param messages
+     *         the messages to accept
+     * @param observer
+     *         the observer to receive the acknowledgements of the rejected messages
+     * @return the envelopes of the accepted messages in the order of the given messages
+     */
+    protected final ImmutableList<E> accept(Iterable<T> messages, StreamObserver<Ack> observer) {
+        checkNotNull(messages);
+        checkNotNull(observer);
+        onPosted(messages);
+        return filterAndStore(messages, observer);
+    }
+
+    private void onPosted(Iterable<T> messages) {
+        messages.forEach(message -> {
+            listeners.accept(toEnvelope(message));
+            posted.increment();
+        });
+    }
+
     private void filterAndPost(Iterable<T> messages, StreamObserver<Ack> observer) {
-        Map<T, E> filteredMessages = filter(messages, observer);
-        if (!filteredMessages.isEmpty()) {
-            store(filteredMessages.keySet());
-            Iterable<E> envelopes = filteredMessages.values();
+        ImmutableList<E> envelopes = filterAndStore(messages, observer);
+        if (!envelopes.isEmpty()) {
             doPost(envelopes, observer);
         }
         observer.onCompleted();
     }
 
+    private ImmutableList<E> filterAndStore(Iterable<T> messages, StreamObserver<Ack> observer) {
+        Map<T, E> filteredMessages = filter(messages, observer);
+        if (filteredMessages.isEmpty()) {
+            return ImmutableList.of();
+        }
+        store(filteredMessages.keySet());
+        return ImmutableList.copyOf(filteredMessages.values());
+    }
+
     /**
      * Prepares the given {@link StreamObserver} to post messages into this bus.
      *
@@ -271,7 +333,9 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
             E envelope = toEnvelope(message);
             Optional<Ack> response = filter(envelope);
             if (response.isPresent()) {
-                observer.onNext(response.get());
+                Ack ack = response.get();
+                countFiltered(ack);
+                observer.onNext(ack);
             } else {
                 result.put(message, envelope);
             }
@@ -279,6 +343,16 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
         return result;
     }
 
+    private void countFiltered(Ack ack) {
+        Status.StatusCase status = ack.getStatus()
+                                      .getStatusCase();
+        if (status == OK) {
+            filtered.increment();
+        } else {
+            rejected.increment();
+        }
+    }
+
     /**
      * Feeds the given message to the bus filters.
      *
@@ -330,6 +404,7 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
             SignalId signalId = envelope.id();
             observer.onNext(acknowledge(signalId));
             onDispatchingStarted(signalId);
+            long start = dispatching.start();
             try {
                 dispatch(envelope);
             } catch (Throwable t) {
@@ -339,6 +414,7 @@ public abstract class Bus<T extends Signal<?, ?, ?>,
                              signalId);
                 throw t;
             } finally {
+                dispatching.stop(start);
                 onDispatched(signalId);
             }
         }
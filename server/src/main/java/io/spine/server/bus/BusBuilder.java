@@ -67,7 +67,7 @@ public abstract class BusBuilder<B extends BusBuilder<B, T, E, C, D>,
 
     private @Nullable SystemWriteSide systemWriteSide;
     private @Nullable TenantIndex tenantIndex;
-    private BoundedContext context;
+    private @Nullable BoundedContext context;
 
     /**
      * Creates a new instance of the bus builder.
@@ -187,6 +187,27 @@ public abstract class BusBuilder<B extends BusBuilder<B, T, E, C, D>,
 
     protected abstract DispatcherRegistry<C, E, D> newRegistry();
 
+    /**
+     * Obtains the kind of the built bus, e.g. {@code CommandBus}, which names its metrics.
+     */
+    protected abstract String busKind();
+
+    /**
+     * Obtains the prefix of the names of the metrics reported by the built bus.
+     *
+     * <p>The prefix consists of the name of the Bounded Context, if it is
+     * {@linkplain #injectContext(BoundedContext) injected}, and the kind of the bus,
+     * e.g. {@code Airport.CommandBus.}.
+     */
+    final String metricPrefix() {
+        String kind = busKind() + '.';
+        if (context == null) {
+            return kind;
+        }
+        return context.name()
+                      .getValue() + '.' + kind;
+    }
+
     /**
      * Creates new instance of {@code Bus} with the set parameters.
      *
@@ -302,6 +302,11 @@ public final class CommandBus
             return new CommandDispatcherRegistry();
         }
 
+        @Override
+        protected String busKind() {
+            return CommandBus.class.getSimpleName();
+        }
+
         @Internal
         public Builder setMultitenant(@Nullable Boolean multitenant) {
             this.multitenant = multitenant;
@@ -24,98 +24,253 @@ import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
 import io.spine.annotation.SPI;
 import io.spine.server.NodeId;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Optional;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.protobuf.util.Timestamps.between;
+import static io.spine.base.Identifier.newUuid;
 import static io.spine.base.Time.currentTime;
 
 /**
  * An implementation base for {@link ShardedWorkRegistry ShardedWorkRegistries} based on a specific
  * persistence mechanism.
  *
+ * <h1>Leases</h1>
+ *
+ * <p>A registry may be {@linkplain #AbstractWorkRegistry(Duration) created} with the duration
+ * of a lease, which a node obtains on a shard when picking it up. While processing the shard,
+ * the node {@linkplain ShardProcessingSession#heartbeat() extends} the lease. If the node
+ * crashes, its lease expires, and the shard may be picked up by another node right away,
+ * without waiting for {@link #releaseExpiredSessions(Duration)}.
+ *
+ * <p>The records are modified via {@link #compareAndWrite(ShardSessionRecord,
+ * ShardSessionRecord) compareAndWrite(..)}. If an implementation performs it atomically,
+ * two nodes never obtain the session for the same shard at the same time.
+ *
  * @implNote This class is NOT thread safe. Synchronize the atomic persistence operations
  *         as well as the methods implemented in this class make an implementation thread safe.
+ *         Alternatively, override {@code compareAndWrite(..)} to be atomic.
  */
 @SPI
 public abstract class AbstractWorkRegistry implements ShardedWorkRegistry {
 
+    private final @Nullable Duration lease;
+
+    /**
+     * Creates a registry which grants no leases.
+     *
+     * <p>The shards picked up in such a registry are only released upon
+     * the {@linkplain ShardProcessingSession#complete() completion} of the session, or by
+     * {@link #releaseExpiredSessions(Duration)}.
+     */
+    protected AbstractWorkRegistry() {
+        this.lease = null;
+    }
+
+    /**
+     * Creates a registry which grants the leases of the given duration.
+     *
+     * @param lease
+     *         the positive duration of the lease
+     */
+    protected AbstractWorkRegistry(Duration lease) {
+        checkNotNull(lease);
+        checkArgument(Durations.isPositive(lease),
+                      "The lease duration must be positive, but was `%s`.",
+                      Durations.toString(lease));
+        this.lease = lease;
+    }
+
     @Override
     public Optional<ShardProcessingSession> pickUp(ShardIndex index, NodeId nodeId) {
         checkNotNull(index);
         checkNotNull(nodeId);
 
+        Timestamp now = currentTime();
         Optional<ShardSessionRecord> record = find(index);
-        if (record.isPresent()) {
-            ShardSessionRecord existingRecord = record.get();
-            if (hasPickedBy(existingRecord)) {
-                return Optional.empty();
-            } else {
-                ShardSessionRecord updatedRecord = updateNode(existingRecord, nodeId);
-                return Optional.of(asSession(updatedRecord));
-            }
-        } else {
-            ShardSessionRecord newRecord = createRecord(index, nodeId);
-            return Optional.of(asSession(newRecord));
+        ShardSessionRecord existingRecord = record.orElse(null);
+        if (existingRecord != null && isPicked(existingRecord, now)) {
+            return Optional.empty();
+        }
+        ShardSessionRecord.Builder builder = existingRecord != null
+                                             ? existingRecord.toBuilder()
+                                             : ShardSessionRecord.newBuilder()
+                                                                 .setIndex(index);
+        ShardSessionRecord pickedRecord = pick(builder, nodeId, now);
+        if (compareAndWrite(existingRecord, pickedRecord)) {
+            return Optional.of(asSession(pickedRecord));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Tells if the session is picked by some node, which lease did not expire by
+     * the given moment.
+     */
+    private static boolean isPicked(ShardSessionRecord record, Timestamp now) {
+        if (!hasPickedBy(record)) {
+            return false;
         }
+        return !record.hasLeaseExpires()
+                || Timestamps.compare(now, record.getLeaseExpires()) < 0;
     }
 
     private static boolean hasPickedBy(ShardSessionRecord record) {
         return !NodeId.getDefaultInstance().equals(record.getPickedBy());
     }
 
-    private ShardSessionRecord createRecord(ShardIndex index, NodeId nodeId) {
-        ShardSessionRecord newRecord = ShardSessionRecord
-                .newBuilder()
-                .setIndex(index)
-                .setPickedBy(nodeId)
-                .setWhenLastPicked(currentTime())
-                .vBuild();
-        write(newRecord);
-        return newRecord;
+    private ShardSessionRecord pick(ShardSessionRecord.Builder record,
+                                    NodeId nodeId,
+                                    Timestamp now) {
+        record.setPickedBy(nodeId)
+              .setWhenLastPicked(now)
+              .setSessionId(newUuid());
+        if (lease != null) {
+            record.setLeaseExpires(Timestamps.add(now, lease));
+        }
+        return record.build();
+    }
+
+    /**
+     * Extends the lease of the node, which picked up the shard of the given session.
+     *
+     * <p>If the registry grants no leases, the session is kept as long as the shard is not
+     * picked up again.
+     *
+     * @param session
+     *         the session to extend the lease for
+     * @return {@code true} if the shard is still held by the given session,
+     *         {@code false} if the shard has been released or picked up again, by another
+     *         node or by the same one
+     * @see ShardProcessingSession#heartbeat()
+     */
+    protected final boolean extendLease(ShardProcessingSession session) {
+        checkNotNull(session);
+        while (true) {
+            Optional<ShardSessionRecord> record = find(session.shardIndex());
+            if (!record.isPresent()) {
+                return false;
+            }
+            ShardSessionRecord existingRecord = record.get();
+            if (!holds(session, existingRecord)) {
+                return false;
+            }
+            if (lease == null) {
+                return true;
+            }
+            ShardSessionRecord extended = existingRecord
+                    .toBuilder()
+                    .setLeaseExpires(Timestamps.add(currentTime(), lease))
+                    .build();
+            if (compareAndWrite(existingRecord, extended)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the shard of the given session, if it is still held by the session.
+     *
+     * <p>If the shard has been picked up again since the lease of the session expired, the record
+     * stays untouched, even if the shard was picked by the same node.
+     */
+    protected final void release(ShardProcessingSession session) {
+        checkNotNull(session);
+        find(session.shardIndex())
+                .filter(record -> holds(session, record))
+                .ifPresent(this::clearNode);
     }
 
-    private ShardSessionRecord updateNode(ShardSessionRecord record, NodeId nodeId) {
-        ShardSessionRecord updatedRecord = record
-                .toBuilder()
-                .setPickedBy(nodeId)
-                .setWhenLastPicked(currentTime())
-                .build();
-        write(updatedRecord);
-        return updatedRecord;
+    /**
+     * Tells if the given record describes the pickup which started the given session.
+     *
+     * <p>The node ID alone is not enough, since the threads of a node share it.
+     */
+    private static boolean holds(ShardProcessingSession session, ShardSessionRecord record) {
+        return session.pickedBy().equals(record.getPickedBy())
+                && session.sessionId().equals(record.getSessionId());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A session which lease is not expired is never released, as its node keeps
+     * {@linkplain ShardProcessingSession#heartbeat() reporting} the activity. Otherwise,
+     * the inactivity is counted from the moment the shard was picked up.
+     */
     @Override
     public Iterable<ShardIndex> releaseExpiredSessions(Duration inactivityPeriod) {
         checkNotNull(inactivityPeriod);
         ImmutableSet.Builder<ShardIndex> resultBuilder = ImmutableSet.builder();
         allRecords().forEachRemaining(record -> {
-            if (record.hasPickedBy()) {
-                Timestamp whenPicked = record.getWhenLastPicked();
-                Duration elapsed = between(whenPicked, currentTime());
-
-                int comparison = Durations.compare(elapsed, inactivityPeriod);
-                if (comparison >= 0) {
-                    clearNode(record);
-                    resultBuilder.add(record.getIndex());
-                }
+            if (record.hasPickedBy() && isInactive(record, inactivityPeriod, currentTime())) {
+                clearNode(record);
+                resultBuilder.add(record.getIndex());
             }
         });
         return resultBuilder.build();
     }
 
+    private static boolean isInactive(ShardSessionRecord record,
+                                      Duration inactivityPeriod,
+                                      Timestamp now) {
+        if (record.hasLeaseExpires() && Timestamps.compare(now, record.getLeaseExpires()) < 0) {
+            return false;
+        }
+        Duration elapsed = between(record.getWhenLastPicked(), now);
+        return Durations.compare(elapsed, inactivityPeriod) >= 0;
+    }
+
     /**
-     * Clears the value of {@code ShardSessionRecord.when_last_picked} and stores the session.
+     * Clears the value of {@code ShardSessionRecord.picked_by} along with the lease and
+     * the session ID, and stores the session.
+     *
+     * <p>The record is only stored if it was not modified since it was read.
      */
     protected void clearNode(ShardSessionRecord session) {
         ShardSessionRecord record = session.toBuilder()
                                            .clearPickedBy()
+                                           .clearLeaseExpires()
+                                           .clearSessionId()
                                            .build();
-        write(record);
+        compareAndWrite(session, record);
+    }
+
+    /**
+     * Stores the given session record if the currently stored record equals to
+     * the {@code expected} one.
+     *
+     * <p>If {@code expected} is {@code null}, the record is only stored if there is no record
+     * for the same shard index in the registry.
+     *
+     * <p>The default implementation compares and writes the records non-atomically. Storage
+     * implementations are encouraged to override this method using the conditional write
+     * operation of the underlying storage.
+     *
+     * @param expected
+     *         the record expected to be currently stored, or {@code null} if no record is
+     *         expected to be stored
+     * @param update
+     *         the record to store
+     * @return {@code true} if the record has been stored, {@code false} otherwise
+     */
+    protected boolean compareAndWrite(@Nullable ShardSessionRecord expected,
+                                      ShardSessionRecord update) {
+        checkNotNull(update);
+        ShardSessionRecord current = find(update.getIndex()).orElse(null);
+        if (!Objects.equals(current, expected)) {
+            return false;
+        }
+        write(update);
+        return true;
     }
 
     /**
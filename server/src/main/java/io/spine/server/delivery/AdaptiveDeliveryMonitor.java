@@ -0,0 +1,363 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code DeliveryMonitor} which adapts the delivery to the observed latency.
+ *
+ * <p>For each shard, the monitor measures how long it takes to deliver a message and keeps
+ * an exponentially weighted moving average of this value. Based on it:
+ * <ol>
+ *     <li>the {@linkplain #pageSize(ShardIndex, int) page size} of the next run is chosen so that
+ *     a single {@link DeliveryStage} takes about the {@linkplain Builder#setTargetStageLatency
+ *     target stage latency};
+ *     <li>the delivery run is stopped once the next stage is expected to exceed
+ *     the {@linkplain Builder#setMaxRunDuration maximum run duration}. The shard is released
+ *     and the remaining messages are delivered in the next run, which lets other shards
+ *     be served on this node.
+ * </ol>
+ *
+ * <p>If the monitor is {@linkplain Builder#setInboxStorage given} the {@code InboxStorage},
+ * it also takes the backlog of the shard into account. The messages
+ * {@linkplain InboxStorage#countToDeliver(ShardIndex) to deliver} are counted once per run,
+ * and the count is decreased by the messages delivered in each stage. Then:
+ * <ul>
+ *     <li>the page is not made larger than the remaining backlog;
+ *     <li>while the remaining backlog exceeds the maximum page size, the run continues until
+ *     the {@linkplain Builder#setMaxBacklogRunDuration maximum backlog run duration}, so that
+ *     a hot shard is drained in fewer pickups.
+ * </ul>
+ *
+ * <p>Until the first stage of a shard is measured, the page size configured for
+ * the {@code Delivery} is used.
+ *
+ * <p>The monitor also keeps the {@linkplain #lastStats(ShardIndex) statistics} of the last
+ * completed delivery per shard.
+ */
+public final class AdaptiveDeliveryMonitor extends DeliveryMonitor {
+
+    private static final Duration DEFAULT_TARGET_STAGE_LATENCY = Durations.fromMillis(500);
+    private static final Duration DEFAULT_MAX_RUN_DURATION = Durations.fromSeconds(5);
+    private static final Duration DEFAULT_MAX_BACKLOG_RUN_DURATION = Durations.fromSeconds(15);
+    private static final int DEFAULT_MIN_PAGE_SIZE = 10;
+    private static final int DEFAULT_MAX_PAGE_SIZE = 2_000;
+
+    /**
+     * The weight of the newest observation in the moving average of the message latency.
+     */
+    private static final double SMOOTHING = 0.3;
+
+    /**
+     * The value of the backlog when it is not counted.
+     */
+    private static final int UNKNOWN = -1;
+
+    private final long targetStageNanos;
+    private final long maxRunNanos;
+    private final long maxBacklogRunNanos;
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final Ticker ticker;
+    private final @Nullable ToIntFunction<ShardIndex> backlog;
+    private final Map<ShardIndex, ShardState> shards = new ConcurrentHashMap<>();
+
+    private AdaptiveDeliveryMonitor(Builder builder) {
+        super();
+        this.targetStageNanos = Durations.toNanos(builder.targetStageLatency);
+        this.maxRunNanos = Durations.toNanos(builder.maxRunDuration);
+        this.maxBacklogRunNanos = Math.max(maxRunNanos,
+                                           Durations.toNanos(builder.maxBacklogRunDuration));
+        this.minPageSize = builder.minPageSize;
+        this.maxPageSize = builder.maxPageSize;
+        this.ticker = builder.ticker;
+        this.backlog = builder.backlog;
+    }
+
+    /**
+     * Creates a new instance with the default settings.
+     */
+    public static AdaptiveDeliveryMonitor newInstance() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Creates a new instance of {@code Builder} for {@code AdaptiveDeliveryMonitor}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public void onDeliveryStarted(ShardIndex index) {
+        int pending = backlog != null
+                      ? backlog.applyAsInt(index)
+                      : UNKNOWN;
+        stateOf(index).startRun(ticker.read(), pending);
+    }
+
+    @Override
+    public int pageSize(ShardIndex index, int configuredPageSize) {
+        ShardState state = stateOf(index);
+        return state.startPass(ticker.read(), configuredPageSize);
+    }
+
+    @Override
+    public boolean shouldContinueAfter(DeliveryStage stage) {
+        ShardState state = stateOf(stage.getIndex());
+        return state.completeStage(ticker.read(), stage.getMessagesDelivered());
+    }
+
+    @Override
+    public void onDeliveryCompleted(DeliveryStats stats) {
+        stateOf(stats.shardIndex()).complete(stats);
+    }
+
+    /**
+     * Returns the statistics of the last completed delivery from the shard with the given index.
+     */
+    public Optional<DeliveryStats> lastStats(ShardIndex index) {
+        checkNotNull(index);
+        ShardState state = shards.get(index);
+        return state == null
+               ? Optional.empty()
+               : Optional.ofNullable(state.lastStats());
+    }
+
+    private ShardState stateOf(ShardIndex index) {
+        return shards.computeIfAbsent(index, i -> new ShardState());
+    }
+
+    private int clampPageSize(double value) {
+        long rounded = Math.round(value);
+        return (int) Math.max(minPageSize, Math.min(maxPageSize, rounded));
+    }
+
+    /**
+     * The latency observations and the remaining backlog for a single shard.
+     *
+     * <p>A shard is served by one thread at a time. The methods are synchronized to make
+     * the state visible to the thread serving the shard next.
+     */
+    private final class ShardState {
+
+        /** The moving average of nanoseconds per delivered message, or zero if unknown. */
+        private double nanosPerMessage;
+
+        /** The page size to use in the next pass, or zero if unknown. */
+        private int pageSize;
+
+        /** The page size used in the ongoing pass. */
+        private int passPageSize;
+
+        /** The estimated number of messages left to deliver, or {@link #UNKNOWN}. */
+        private int remaining = UNKNOWN;
+
+        private long runStart;
+        private long stageStart;
+        private @Nullable DeliveryStats lastStats;
+
+        private synchronized void startRun(long now, int backlog) {
+            runStart = now;
+            stageStart = now;
+            remaining = backlog;
+        }
+
+        private synchronized int startPass(long now, int configuredPageSize) {
+            stageStart = now;
+            passPageSize = pageSize > 0
+                           ? pageSize
+                           : clampPageSize(configuredPageSize);
+            if (remaining != UNKNOWN) {
+                passPageSize = Math.min(passPageSize, clampPageSize(remaining));
+            }
+            return passPageSize;
+        }
+
+        private synchronized boolean completeStage(long now, int delivered) {
+            long stageNanos = now - stageStart;
+            stageStart = now;
+            if (delivered > 0) {
+                double observed = (double) stageNanos / delivered;
+                nanosPerMessage = nanosPerMessage > 0
+                                  ? SMOOTHING * observed + (1 - SMOOTHING) * nanosPerMessage
+                                  : observed;
+                pageSize = nanosPerMessage > 0
+                           ? clampPageSize(targetStageNanos / nanosPerMessage)
+                           : maxPageSize;
+            }
+            if (remaining != UNKNOWN) {
+                remaining = Math.max(0, remaining - delivered);
+            }
+            long budget = remaining > maxPageSize
+                          ? maxBacklogRunNanos
+                          : maxRunNanos;
+            long expectedNextStage = (long) (nanosPerMessage * passPageSize);
+            long runNanos = now - runStart;
+            return runNanos + expectedNextStage <= budget;
+        }
+
+        private synchronized void complete(DeliveryStats stats) {
+            lastStats = stats;
+        }
+
+        private synchronized @Nullable DeliveryStats lastStats() {
+            return lastStats;
+        }
+    }
+
+    /**
+     * A builder for {@code AdaptiveDeliveryMonitor}.
+     */
+    public static final class Builder {
+
+        private Duration targetStageLatency = DEFAULT_TARGET_STAGE_LATENCY;
+        private Duration maxRunDuration = DEFAULT_MAX_RUN_DURATION;
+        private Duration maxBacklogRunDuration = DEFAULT_MAX_BACKLOG_RUN_DURATION;
+        private int minPageSize = DEFAULT_MIN_PAGE_SIZE;
+        private int maxPageSize = DEFAULT_MAX_PAGE_SIZE;
+        private Ticker ticker = Ticker.systemTicker();
+        private @Nullable ToIntFunction<ShardIndex> backlog;
+
+        /**
+         * Prevents direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the desired duration of delivering a single page of messages.
+         *
+         * <p>If not set, 500 milliseconds are used.
+         */
+        @CanIgnoreReturnValue
+        public Builder setTargetStageLatency(Duration latency) {
+            checkNotNull(latency);
+            checkArgument(Durations.toNanos(latency) > 0,
+                          "The target stage latency must be positive.");
+            this.targetStageLatency = latency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum duration of a single delivery run for a shard.
+         *
+         * <p>If not set, 5 seconds are used.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaxRunDuration(Duration duration) {
+            checkNotNull(duration);
+            checkArgument(Durations.toNanos(duration) > 0,
+                          "The maximum run duration must be positive.");
+            this.maxRunDuration = duration;
+            return this;
+        }
+
+        /**
+         * Sets the maximum duration of a single delivery run for a shard, which remaining
+         * backlog exceeds the maximum page size.
+         *
+         * <p>Only applies if the {@linkplain #setInboxStorage inbox storage} is set. A value
+         * lower than the {@linkplain #setMaxRunDuration maximum run duration} has no effect.
+         *
+         * <p>If not set, 15 seconds are used.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaxBacklogRunDuration(Duration duration) {
+            checkNotNull(duration);
+            checkArgument(Durations.toNanos(duration) > 0,
+                          "The maximum backlog run duration must be positive.");
+            this.maxBacklogRunDuration = duration;
+            return this;
+        }
+
+        /**
+         * Sets the storage in which the backlog of the shards is counted.
+         *
+         * <p>This should be the same storage which is used by the {@code Delivery}.
+         * The messages to deliver are counted at the start of each run.
+         *
+         * <p>If not set, the monitor adapts to the observed latency only.
+         */
+        @CanIgnoreReturnValue
+        public Builder setInboxStorage(InboxStorage storage) {
+            checkNotNull(storage);
+            this.backlog = storage::countToDeliver;
+            return this;
+        }
+
+        /**
+         * Sets the bounds of the page size.
+         *
+         * <p>If not set, the page size varies from 10 to 2000 messages.
+         */
+        @CanIgnoreReturnValue
+        public Builder setPageSizeBounds(int min, int max) {
+            checkArgument(min > 0, "The minimum page size must be positive.");
+            checkArgument(max >= min,
+                          "The maximum page size must not be less than the minimum one.");
+            this.minPageSize = min;
+            this.maxPageSize = max;
+            return this;
+        }
+
+        /**
+         * Sets the source of time for measuring the latency.
+         */
+        @VisibleForTesting
+        @CanIgnoreReturnValue
+        Builder setTicker(Ticker ticker) {
+            this.ticker = checkNotNull(ticker);
+            return this;
+        }
+
+        /**
+         * Sets the source of the backlog of the shards.
+         */
+        @VisibleForTesting
+        @CanIgnoreReturnValue
+        Builder setBacklog(ToIntFunction<ShardIndex> backlog) {
+            this.backlog = checkNotNull(backlog);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code AdaptiveDeliveryMonitor}.
+         */
+        public AdaptiveDeliveryMonitor build() {
+            return new AdaptiveDeliveryMonitor(this);
+        }
+    }
+}
@@ -31,32 +31,36 @@ import java.util.Comparator;
 /**
  * The comparator which sorts the messages chronologically, but ensures that if there is
  * a {@link CatchUpStarted} event in the sorted batch, it goes on top.
+ *
+ * <p>Several {@code CatchUpStarted} events are sorted chronologically among themselves.
  */
 final class CatchUpMessageComparator
         implements Comparator<InboxMessage>, Serializable {
 
     private static final long serialVersionUID = 0L;
-    private static final TypeUrl CATCH_UP_STARTED =
-            TypeUrl.from(CatchUpStarted.getDescriptor());
+    private static final String CATCH_UP_STARTED =
+            TypeUrl.from(CatchUpStarted.getDescriptor())
+                   .value();
 
     @Override
     public int compare(InboxMessage m1, InboxMessage m2) {
         if (m1.hasEvent() && m2.hasEvent()) {
             Event e1 = m1.getEvent();
-            String typeOfFirst = e1.getMessage()
-                                   .getTypeUrl();
-            if (typeOfFirst.equals(CATCH_UP_STARTED.toString())) {
-                return -1;
-            }
             Event e2 = m2.getEvent();
-            String typeOfSecond = e2.getMessage()
-                                    .getTypeUrl();
-            if (typeOfSecond.equals(CATCH_UP_STARTED.toString())) {
-                return 1;
+            boolean firstStarted = isCatchUpStarted(e1);
+            boolean secondStarted = isCatchUpStarted(e2);
+            if (firstStarted != secondStarted) {
+                return firstStarted ? -1 : 1;
             }
-            return EventComparator.chronological().compare(e1, e2);
+            return EventComparator.chronological()
+                                  .compare(e1, e2);
         } else {
             return InboxMessageComparator.chronologically.compare(m1, m2);
         }
     }
+
+    private static boolean isCatchUpStarted(Event event) {
+        return CATCH_UP_STARTED.equals(event.getMessage()
+                                            .getTypeUrl());
+    }
 }
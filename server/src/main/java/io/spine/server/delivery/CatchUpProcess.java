@@ -63,6 +63,7 @@ import java.util.TreeSet;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.protobuf.util.Durations.fromMillis;
 import static com.google.protobuf.util.Durations.fromNanos;
 import static com.google.protobuf.util.Timestamps.subtract;
@@ -182,6 +183,16 @@ import static java.util.stream.Collectors.toSet;
  * each shard involved. By dispatching them, the system guarantees that the {@code Delivery}
  * observes the {@code COMPLETED} status of this process and delivers the remainer of the messages.
  *
+ * <p><b>Rebuild mode</b>
+ *
+ * <p>When {@linkplain #startRebuild(Timestamp, Set) started in the rebuild mode}, the process
+ * does not send the historical events read in the {@code IN_PROGRESS} status to the inboxes
+ * of the projections. Instead, they are applied to the projections directly via
+ * the {@link RebuildCatchingUp} operation. Instead of dispatching the {@code CatchUpStarted}
+ * event to the targets, their state is reset by the same operation. The events read in the
+ * {@code FINALIZING} status are dispatched through the inboxes as usual, so the hand-over
+ * to the live delivery remains the same.
+ *
  * @implNote Technically, the instances of this class are not
  *         {@linkplain io.spine.server.procman.ProcessManager process managers}, since it is
  *         impossible to register the process managers with the same state in
@@ -205,6 +216,7 @@ public final class CatchUpProcess<I>
 
     private final ProjectionRepository<I, ?, ?> repository;
     private final DispatchCatchingUp<I> dispatchOperation;
+    private final @Nullable RebuildCatchingUp<I> rebuildOperation;
     private final CatchUpStorage storage;
     private final CatchUpStarter.Builder<I> starterTemplate;
     private final Limit queryLimit;
@@ -216,6 +228,7 @@ public final class CatchUpProcess<I>
         super(TYPE);
         this.repository = builder.getRepository();
         this.dispatchOperation = builder.getDispatchOp();
+        this.rebuildOperation = builder.getRebuildOp();
         this.storage = builder.getStorage();
         this.queryLimit = limitOf(builder.getPageSize());
         this.starterTemplate = CatchUpStarter.newBuilder(this.repository, this.storage);
@@ -255,7 +268,38 @@ public final class CatchUpProcess<I>
     @Internal
     public CatchUpId startCatchUp(Timestamp since, @Nullable Set<I> ids)
             throws CatchUpAlreadyStartedException {
-        return catchUpStarter.start(ids, since);
+        return catchUpStarter.start(ids, since, false);
+    }
+
+    /**
+     * Starts the catch-up for the projection instances selecting them by their identifiers,
+     * applying the historical events to the projections directly.
+     *
+     * <p>See the {@linkplain CatchUpProcess class-level documentation} for the details
+     * of the rebuild mode.
+     *
+     * @param since
+     *         since when the catch-up should be performed
+     * @param ids
+     *         identifiers of the projections to catch up, or {@code null} if all of the
+     *         instances should be caught up
+     * @throws CatchUpAlreadyStartedException
+     *         if at least one of the selected instances is already catching up at the moment
+     * @throws IllegalStateException
+     *         if this process is not configured to rebuild the projections
+     * @return identifier of the catch-up operation
+     */
+    @Internal
+    public CatchUpId startRebuild(Timestamp since, @Nullable Set<I> ids)
+            throws CatchUpAlreadyStartedException {
+        checkState(rebuildOperation != null,
+                   "The catch-up process of `%s` is not configured to rebuild projections.",
+                   repository.entityStateType());
+        return catchUpStarter.start(ids, since, true);
+    }
+
+    private RebuildCatchingUp<I> rebuildOperation() {
+        return checkNotNull(rebuildOperation);
     }
 
     /**
@@ -298,9 +342,13 @@ public final class CatchUpProcess<I>
         builder().setStatus(CatchUpStatus.IN_PROGRESS);
         flushState();
 
-        Event event = wrapAsEvent(started, ctx);
         Set<I> ids = targetsForCatchUpSignals(request);
-        dispatchAll(ImmutableList.of(event), ids);
+        if (request.getRebuild()) {
+            rebuildOperation().reset(ids);
+        } else {
+            Event event = wrapAsEvent(started, ctx);
+            dispatchAll(ImmutableList.of(event), ids);
+        }
 
         return started;
     }
@@ -363,7 +411,7 @@ public final class CatchUpProcess<I>
             Timestamp lastEventTimestamp = lastEvent.getContext()
                                                     .getTimestamp();
             builder().setWhenLastRead(lastEventTimestamp);
-            dispatchAll(stripped);
+            dispatchHistory(stripped);
         } else {
             return EitherOf2.withB(fullyRecalled(id));
         }
@@ -494,6 +542,25 @@ public final class CatchUpProcess<I>
                  .setTotalShards(totalShards);
     }
 
+    /**
+     * Dispatches the historical events read in the {@code IN_PROGRESS} status.
+     *
+     * <p>In the rebuild mode, applies the events to the target projections directly.
+     * Otherwise, dispatches them to the inboxes of the targets.
+     */
+    private void dispatchHistory(List<Event> events) {
+        CatchUp.Request request = builder().getRequest();
+        if (!request.getRebuild()) {
+            dispatchAll(events);
+            return;
+        }
+        List<Any> packedIds = request.getTargetList();
+        @Nullable Set<I> targets = packedIds.isEmpty()
+                                   ? null
+                                   : unpack(packedIds);
+        rebuildOperation().apply(events, targets);
+    }
+
     private void dispatchAll(List<Event> events) {
         if (events.isEmpty()) {
             return;
@@ -635,4 +702,37 @@ public final class CatchUpProcess<I>
          */
         Set<I> perform(Event event, @Nullable Set<I> narrowDownToIds);
     }
+
+    /**
+     * A method object applying the historical events to the catching-up entities directly,
+     * bypassing their inboxes.
+     *
+     * @param <I>
+     *         the type of the identifiers of the entities to which the events are applied
+     */
+    public interface RebuildCatchingUp<I> {
+
+        /**
+         * Resets the state of the entities with the given identifiers before the history
+         * is applied to them.
+         *
+         * @param ids
+         *         identifiers of the entities to reset
+         */
+        void reset(Set<I> ids);
+
+        /**
+         * Applies the given events to the entities, optionally narrowing down the entities
+         * by the set of entity identifiers.
+         *
+         * <p>If no particular IDs are specified, the events are applied according to the
+         * repository routing rules.
+         *
+         * @param events
+         *         the historical events in the chronological order
+         * @param narrowDownToIds
+         *         optional set of identifiers of the targets to narrow down the event targets
+         */
+        void apply(List<Event> events, @Nullable Set<I> narrowDownToIds);
+    }
 }
@@ -21,8 +21,10 @@
 package io.spine.server.delivery;
 
 import io.spine.server.delivery.CatchUpProcess.DispatchCatchingUp;
+import io.spine.server.delivery.CatchUpProcess.RebuildCatchingUp;
 import io.spine.server.projection.ProjectionRepository;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Preconditions2.checkPositive;
@@ -35,6 +37,7 @@ public final class CatchUpProcessBuilder<I> {
     private final ProjectionRepository<I, ?, ?> repository;
     private @MonotonicNonNull CatchUpStorage storage;
     private @MonotonicNonNull DispatchCatchingUp<I> dispatchOp;
+    private @MonotonicNonNull RebuildCatchingUp<I> rebuildOp;
     private int pageSize;
 
     /**
@@ -108,6 +111,25 @@ public final class CatchUpProcessBuilder<I> {
         return checkNotNull(dispatchOp);
     }
 
+    /**
+     * Sets the way to apply the historical events when the projections are rebuilt.
+     *
+     * <p>If not set, the process cannot be {@linkplain CatchUpProcess#startRebuild started}
+     * in the rebuild mode.
+     */
+    public CatchUpProcessBuilder<I> setRebuildOp(RebuildCatchingUp<I> operation) {
+        this.rebuildOp = checkNotNull(operation);
+        return this;
+    }
+
+    /**
+     * Obtains the pre-configured way to apply the historical events when the projections
+     * are rebuilt, or {@code null} if it has not been set.
+     */
+    @Nullable RebuildCatchingUp<I> getRebuildOp() {
+        return rebuildOp;
+    }
+
     /**
      * Creates a new instance of {@code CatchUpProcess}.
      */
@@ -87,14 +87,18 @@ final class CatchUpStarter<I> {
      *         this kind need to catch up.
      * @param since
      *         since when the catch-up is going to read the events
+     * @param rebuild
+     *         whether the historical events should be applied to the projections directly,
+     *         bypassing their inboxes
      * @throws CatchUpAlreadyStartedException
      *         if the catch-up is already in progress for at least one of the requested entities
      * @return identifier of the catch-up operation
      */
-    CatchUpId start(@Nullable Set<I> ids, Timestamp since) throws CatchUpAlreadyStartedException {
+    CatchUpId start(@Nullable Set<I> ids, Timestamp since, boolean rebuild)
+            throws CatchUpAlreadyStartedException {
         checkNotActive(ids);
 
-        CatchUp.Request request = buildRequest(ids, since);
+        CatchUp.Request request = buildRequest(ids, since, rebuild);
         CatchUpId id = CatchUpId.newBuilder()
                                 .setUuid(Identifier.newUuid())
                                 .setProjectionType(projectionStateType.value())
@@ -113,7 +117,7 @@ final class CatchUpStarter<I> {
     }
 
     @SuppressWarnings("MethodWithMultipleLoops")
-    private CatchUp.Request buildRequest(@Nullable Set<I> ids, Timestamp since) {
+    private CatchUp.Request buildRequest(@Nullable Set<I> ids, Timestamp since, boolean rebuild) {
         CatchUp.Request.Builder requestBuilder = CatchUp.Request.newBuilder();
         if (ids != null) {
             for (I id : ids) {
@@ -122,7 +126,8 @@ final class CatchUpStarter<I> {
             }
         }
 
-        requestBuilder.setSinceWhen(since);
+        requestBuilder.setSinceWhen(since)
+                      .setRebuild(rebuild);
         for (EventClass eventClass : eventClasses) {
             TypeName name = eventClass.typeName();
             requestBuilder.addEventType(name.value());
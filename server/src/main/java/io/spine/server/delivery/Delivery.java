@@ -22,6 +22,7 @@ package io.spine.server.delivery;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.Duration;
 import com.google.protobuf.util.Durations;
 import io.spine.annotation.Internal;
@@ -31,19 +32,40 @@ import io.spine.server.NodeId;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.bus.MulticastDispatchListener;
 import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
+import io.spine.server.metric.MetricRegistry;
 import io.spine.server.projection.ProjectionRepository;
 import io.spine.string.Stringifiers;
 import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.flogger.LazyArgs.lazy;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalStateException;
 import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Delivers the messages to the entities.
@@ -218,6 +240,16 @@ public final class Delivery implements Logging {
      */
     private static final Duration LOCAL_DEDUPLICATION_WINDOW = Durations.fromSeconds(30);
 
+    /**
+     * For how long to wait before trying to pick up the busy shards again.
+     */
+    private static final long SESSION_RETRY_MILLIS = 50;
+
+    /**
+     * For how long an idle thread running the jobs in the sessions of shards is kept alive.
+     */
+    private static final long SESSION_THREAD_KEEP_ALIVE_SECONDS = 30;
+
     /**
      * The strategy of assigning a shard index for a message that is delivered to a particular
      * target.
@@ -252,6 +284,26 @@ public final class Delivery implements Logging {
      */
     private final ShardedWorkRegistry workRegistry;
 
+    /**
+     * The sessions of the shards, which are currently held by the calling thread.
+     */
+    private final ThreadLocal<Map<ShardIndex, ShardProcessingSession>> heldSessions =
+            ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * For how long to wait for the sessions of shards, in which the jobs are
+     * {@linkplain #runInSessions(Map) run}.
+     */
+    private final Duration sessionTimeout;
+
+    /**
+     * The executor running the jobs in the sessions of shards.
+     *
+     * <p>The number of threads is bounded by the number of available processors. The idle
+     * threads are not kept.
+     */
+    private final ExecutorService sessionExecutor;
+
     /**
      * The storage of messages to deliver.
      */
@@ -283,6 +335,11 @@ public final class Delivery implements Logging {
      */
     private final int pageSize;
 
+    /**
+     * The metrics of this delivery.
+     */
+    private final DeliveryMetrics metrics;
+
     /**
      * The listener of the dispatching operations inside the {@link io.spine.server.bus.MulticastBus
      * MulticastBus}es.
@@ -301,9 +358,14 @@ public final class Delivery implements Logging {
         this.catchUpPageSize = builder.getCatchUpPageSize();
         this.monitor = builder.getMonitor();
         this.pageSize = builder.getPageSize();
+        this.sessionTimeout = builder.getSessionTimeout();
+        this.sessionExecutor = newSessionExecutor();
         this.deliveries = new InboxDeliveries();
         this.shardObservers = synchronizedList(new ArrayList<>());
         this.deliveredMessages = new DeliveredMessages();
+        MetricRegistry registry = ServerEnvironment.instance()
+                                                   .metrics();
+        this.metrics = DeliveryMetrics.register(registry, inboxStorage, strategy.shardCount());
     }
 
     /**
@@ -414,12 +476,15 @@ public final class Delivery implements Logging {
 
         RunResult runResult;
         int totalDelivered = 0;
+        Map<ShardIndex, ShardProcessingSession> held = heldSessions.get();
+        held.put(index, session);
         try {
             do {
                 runResult = runDelivery(session);
                 totalDelivered += runResult.deliveredCount();
             } while (runResult.shouldRunAgain());
         } finally {
+            held.remove(index);
             session.complete();
         }
         DeliveryStats stats = new DeliveryStats(index, totalDelivered);
@@ -433,18 +498,32 @@ public final class Delivery implements Logging {
     /**
      * Runs the delivery for the shard, which session is passed.
      *
-     * <p>The messages are read page-by-page according to the {@link #pageSize page size} setting.
+     * <p>The messages are read page-by-page according to the {@link #pageSize page size} setting,
+     * which the {@code DeliveryMonitor} may {@linkplain DeliveryMonitor#pageSize adjust}
+     * for each run.
      *
      * <p>After delivering each page of messages, a {@code DeliveryStage} is produced.
      * The configured {@link #monitor DeliveryMonitor} may stop the execution according to
      * the monitored {@code DeliveryStage}.
      *
+     * <p>Before delivering each page, the {@linkplain ShardProcessingSession#heartbeat() lease}
+     * on the shard is extended. If the session has been lost, e.g. because the lease expired
+     * and another node picked up the shard, the run is stopped.
+     *
      * @return the results of the run
      */
     private RunResult runDelivery(ShardProcessingSession session) {
         ShardIndex index = session.shardIndex();
 
-        Page<InboxMessage> startingPage = inboxStorage.readAll(index, pageSize);
+        int runPageSize = monitor.pageSize(index, pageSize);
+        checkState(runPageSize > 0,
+                   "`DeliveryMonitor` returned a non-positive page size %s for the shard %s.",
+                   runPageSize, index.getIndex());
+        long readStart = metrics.inboxRead()
+                                .start();
+        Page<InboxMessage> startingPage = inboxStorage.readAll(index, runPageSize);
+        metrics.inboxRead()
+               .stop(readStart);
         Optional<Page<InboxMessage>> maybePage = Optional.of(startingPage);
 
         boolean continueAllowed = true;
@@ -452,6 +531,9 @@ public final class Delivery implements Logging {
         while (continueAllowed && maybePage.isPresent()) {
             Page<InboxMessage> currentPage = maybePage.get();
             ImmutableList<InboxMessage> messages = currentPage.contents();
+            if (!session.heartbeat()) {
+                break;
+            }
             if (!messages.isEmpty()) {
                 DeliveryAction action = new GroupByTargetAndDeliver(deliveries);
                 Conveyor conveyor = new Conveyor(messages, deliveredMessages);
@@ -462,14 +544,19 @@ public final class Delivery implements Logging {
                 stages.add(stage);
             }
             if (continueAllowed) {
+                long nextStart = metrics.inboxRead()
+                                        .start();
                 maybePage = currentPage.next();
+                metrics.inboxRead()
+                       .stop(nextStart);
             }
         }
 
         int totalMessagesDelivered = stages.stream()
                                            .map(DeliveryStage::getMessagesDelivered)
                                            .reduce(0, Integer::sum);
-        return new RunResult(totalMessagesDelivered, !continueAllowed);
+        boolean stopped = !continueAllowed || maybePage.isPresent();
+        return new RunResult(totalMessagesDelivered, stopped);
     }
 
     /**
@@ -484,14 +571,24 @@ public final class Delivery implements Logging {
     private DeliveryStage launch(Conveyor conveyor, Iterable<Station> stations, ShardIndex index) {
         int deliveredInBatch = 0;
 
+        long stageStart = metrics.stage()
+                                 .start();
         for (Station station : stations) {
             Station.Result result = station.process(conveyor);
             result.errors()
                   .throwIfAny();
             deliveredInBatch += result.deliveredCount();
         }
+        metrics.stage()
+               .stop(stageStart);
+        metrics.delivered()
+               .increment(deliveredInBatch);
         notifyOfDuplicatesIn(conveyor);
+        long writeStart = metrics.inboxWrite()
+                                 .start();
         conveyor.flushTo(inboxStorage);
+        metrics.inboxWrite()
+               .stop(writeStart);
 
         return newStage(index, deliveredInBatch);
     }
@@ -596,6 +693,221 @@ public final class Delivery implements Logging {
         return dispatchListener;
     }
 
+    /**
+     * Runs the given jobs, each in the session of its shard.
+     *
+     * <p>A job for a shard, which session is held by the calling thread, e.g. because the job is
+     * started while delivering the messages of this shard, is run in the same session.
+     * The sessions of the other shards are picked up by the current node all at once, in
+     * the ascending order of the shard indexes. If some of the shards are processed by another
+     * node or thread, the shards picked so far are released, and the whole batch is retried.
+     * This way the calling thread never holds some of the shards while waiting for the others.
+     *
+     * <p>The call blocks until all the shards are picked up. If it does not happen within
+     * the {@linkplain DeliveryBuilder#setSessionTimeout(Duration) session timeout}, the call
+     * fails with {@code IllegalStateException} and no job is run.
+     *
+     * <p>Once picked up, the jobs are run in parallel by a bounded executor of this
+     * {@code Delivery}. If the calling thread already holds a session, the jobs are run in
+     * the calling thread one after another. Each shard is released once its job completes.
+     *
+     * <p>The jobs {@linkplain ShardJob#run(BooleanSupplier) heartbeat} to keep the sessions.
+     * If a session is lost, the call fails with {@code IllegalStateException}.
+     *
+     * <p>Returns when all the jobs complete. The first exception thrown by a job is rethrown.
+     *
+     * @param jobs
+     *         the jobs by the indexes of the shards in which to run them
+     */
+    @Internal
+    public void runInSessions(Map<ShardIndex, ShardJob> jobs) {
+        checkNotNull(jobs);
+        Map<ShardIndex, ShardProcessingSession> held = heldSessions.get();
+        ImmutableList<ShardIndex> toPickUp =
+                jobs.keySet()
+                    .stream()
+                    .filter(index -> !held.containsKey(index))
+                    .sorted(Comparator.comparingInt(ShardIndex::getIndex))
+                    .collect(toImmutableList());
+        Map<ShardIndex, ShardProcessingSession> picked = pickUpAll(toPickUp);
+        try {
+            if (held.isEmpty()) {
+                runConcurrently(jobs, picked);
+            } else {
+                jobs.forEach((index, job) -> {
+                    if (picked.containsKey(index)) {
+                        runInSession(picked.get(index), job);
+                    } else {
+                        runInHeldSession(held.get(index), job);
+                    }
+                });
+            }
+        } finally {
+            // Releases the shards of the jobs which did not run due to a failure.
+            // The sessions of the completed jobs are already released, so it's a no-op for them.
+            picked.values()
+                  .forEach(ShardProcessingSession::complete);
+            picked.keySet()
+                  .forEach(this::checkLateMessages);
+        }
+    }
+
+    /**
+     * Submits each of the jobs to the session executor, and waits for all of them to complete.
+     */
+    private void runConcurrently(Map<ShardIndex, ShardJob> jobs,
+                                 Map<ShardIndex, ShardProcessingSession> picked) {
+        List<Future<?>> tasks = new ArrayList<>(picked.size());
+        picked.forEach((index, session) -> tasks.add(
+                sessionExecutor.submit(() -> runInSession(session, jobs.get(index)))
+        ));
+        @Nullable Throwable failure = null;
+        for (Future<?> task : tasks) {
+            try {
+                getUninterruptibly(task);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure != null) {
+            throwIfUnchecked(failure);
+            throw illegalStateWithCauseOf(failure);
+        }
+    }
+
+    /**
+     * Runs the job in the picked up session, and releases the session.
+     */
+    private void runInSession(ShardProcessingSession session, ShardJob job) {
+        ShardIndex index = session.shardIndex();
+        Map<ShardIndex, ShardProcessingSession> held = heldSessions.get();
+        held.put(index, session);
+        try {
+            runInHeldSession(session, job);
+        } finally {
+            held.remove(index);
+            session.complete();
+        }
+    }
+
+    /**
+     * Runs the job in the given session, which is held by the calling thread.
+     *
+     * @throws IllegalStateException
+     *         if the session is lost before the job starts, or during the job
+     */
+    private static void runInHeldSession(ShardProcessingSession session, ShardJob job) {
+        SessionHeartbeat heartbeat = new SessionHeartbeat(session);
+        if (heartbeat.getAsBoolean()) {
+            job.run(heartbeat);
+        }
+        if (heartbeat.lost) {
+            throw newIllegalStateException(
+                    "The session of the shard %d was lost before its job completed.",
+                    session.shardIndex()
+                           .getIndex()
+            );
+        }
+    }
+
+    /**
+     * Picks up all the shards with the given indexes, retrying the whole batch until
+     * the session timeout passes.
+     *
+     * @throws IllegalStateException
+     *         if the shards are not picked up within the session timeout
+     */
+    private Map<ShardIndex, ShardProcessingSession> pickUpAll(List<ShardIndex> indexes) {
+        if (indexes.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        NodeId currentNode = ServerEnvironment.instance()
+                                              .nodeId();
+        long deadline = System.nanoTime() + Durations.toNanos(sessionTimeout);
+        Optional<Map<ShardIndex, ShardProcessingSession>> picked =
+                tryPickUpAll(indexes, currentNode);
+        while (!picked.isPresent()) {
+            if (System.nanoTime() - deadline >= 0) {
+                ImmutableList<Integer> numbers = indexes.stream()
+                                                        .map(ShardIndex::getIndex)
+                                                        .collect(toImmutableList());
+                throw newIllegalStateException("Unable to pick up the shards %s within %s.",
+                                               numbers, Durations.toString(sessionTimeout));
+            }
+            sleepUninterruptibly(SESSION_RETRY_MILLIS, MILLISECONDS);
+            picked = tryPickUpAll(indexes, currentNode);
+        }
+        return picked.get();
+    }
+
+    /**
+     * Picks up the shards one after another, or none of them if any of the shards is busy.
+     */
+    private Optional<Map<ShardIndex, ShardProcessingSession>>
+    tryPickUpAll(List<ShardIndex> indexes, NodeId nodeId) {
+        Map<ShardIndex, ShardProcessingSession> result = new LinkedHashMap<>();
+        for (ShardIndex index : indexes) {
+            Optional<ShardProcessingSession> session = workRegistry.pickUp(index, nodeId);
+            if (!session.isPresent()) {
+                result.values()
+                      .forEach(ShardProcessingSession::complete);
+                result.keySet()
+                      .forEach(this::checkLateMessages);
+                return Optional.empty();
+            }
+            result.put(index, session.get());
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Triggers the delivery from the released shard, if any messages were written into it
+     * while it was held.
+     */
+    private void checkLateMessages(ShardIndex index) {
+        Optional<InboxMessage> lateMessage = inboxStorage.newestMessageToDeliver(index);
+        lateMessage.ifPresent(this::onNewMessage);
+    }
+
+    private static ExecutorService newSessionExecutor() {
+        int threads = Runtime.getRuntime()
+                             .availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                SESSION_THREAD_KEEP_ALIVE_SECONDS, SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("delivery-session-%d")
+                                          .setDaemon(true)
+                                          .build()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Extends the session of a shard on behalf of a {@link ShardJob}, remembering if the session
+     * has been lost.
+     */
+    private static final class SessionHeartbeat implements BooleanSupplier {
+
+        private final ShardProcessingSession session;
+        private boolean lost;
+
+        private SessionHeartbeat(ShardProcessingSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            if (!lost && !session.heartbeat()) {
+                lost = true;
+            }
+            return !lost;
+        }
+    }
+
     /**
      * Subscribes to the updates of shard contents.
      *
@@ -628,7 +940,8 @@ public final class Delivery implements Logging {
      *         the state type of the entity, to which the message is heading
      * @return the index of the shard for the message
      */
-    ShardIndex whichShardFor(Object entityId, TypeUrl entityStateType) {
+    @Internal
+    public ShardIndex whichShardFor(Object entityId, TypeUrl entityStateType) {
         return strategy.determineIndex(entityId, entityStateType);
     }
 
@@ -640,7 +953,6 @@ public final class Delivery implements Logging {
         deliveries.unregister(inbox);
     }
 
-    @VisibleForTesting
     InboxStorage inboxStorage() {
         return inboxStorage;
     }
@@ -655,7 +967,7 @@ public final class Delivery implements Logging {
     }
 
     private InboxWriter inboxWriter() {
-        return new NotifyingWriter(inboxStorage) {
+        return new NotifyingWriter(inboxStorage, metrics.inboxWrite()) {
 
             @Override
             protected void onShardUpdated(InboxMessage message) {
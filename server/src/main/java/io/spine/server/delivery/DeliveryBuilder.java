@@ -22,6 +22,7 @@ package io.spine.server.delivery;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
 import io.spine.server.storage.StorageFactory;
@@ -49,6 +50,12 @@ public final class DeliveryBuilder {
      */
     private static final int DEFAULT_CATCH_UP_PAGE_SIZE = 500;
 
+    /**
+     * The default time to wait for the sessions of the shards, in which the jobs are
+     * {@linkplain Delivery#runInSessions(java.util.Map) run}.
+     */
+    private static final Duration DEFAULT_SESSION_TIMEOUT = Durations.fromSeconds(30);
+
     private @MonotonicNonNull InboxStorage inboxStorage;
     private @MonotonicNonNull CatchUpStorage catchUpStorage;
     private @MonotonicNonNull DeliveryStrategy strategy;
@@ -57,6 +64,7 @@ public final class DeliveryBuilder {
     private @MonotonicNonNull DeliveryMonitor deliveryMonitor;
     private @MonotonicNonNull Integer pageSize;
     private @MonotonicNonNull Integer catchUpPageSize;
+    private @MonotonicNonNull Duration sessionTimeout;
 
     /**
      * Prevents a direct instantiation of this class.
@@ -175,6 +183,18 @@ public final class DeliveryBuilder {
         return checkNotNull(catchUpPageSize);
     }
 
+    /**
+     * Returns the value of the configured session timeout or {@code Optional.empty()}
+     * if no such value was configured.
+     */
+    public Optional<Duration> sessionTimeout() {
+        return Optional.ofNullable(sessionTimeout);
+    }
+
+    Duration getSessionTimeout() {
+        return checkNotNull(sessionTimeout);
+    }
+
     @CanIgnoreReturnValue
     public DeliveryBuilder setWorkRegistry(ShardedWorkRegistry workRegistry) {
         this.workRegistry = checkNotNull(workRegistry);
@@ -271,6 +291,22 @@ public final class DeliveryBuilder {
         return this;
     }
 
+    /**
+     * Sets for how long to wait for the sessions of the shards, in which the jobs are
+     * {@linkplain Delivery#runInSessions(java.util.Map) run}.
+     *
+     * <p>If the shards are not picked up by the time, the run fails.
+     *
+     * <p>If none set, {@linkplain #DEFAULT_SESSION_TIMEOUT 30 seconds} are used.
+     */
+    @CanIgnoreReturnValue
+    public DeliveryBuilder setSessionTimeout(Duration sessionTimeout) {
+        checkNotNull(sessionTimeout);
+        checkArgument(Durations.isPositive(sessionTimeout));
+        this.sessionTimeout = sessionTimeout;
+        return this;
+    }
+
     @SuppressWarnings("PMD.NPathComplexity")    // The readability of this method is fine.
     public Delivery build() {
         if (strategy == null) {
@@ -306,6 +342,10 @@ public final class DeliveryBuilder {
             catchUpPageSize = DEFAULT_CATCH_UP_PAGE_SIZE;
         }
 
+        if (sessionTimeout == null) {
+            sessionTimeout = DEFAULT_SESSION_TIMEOUT;
+        }
+
         Delivery delivery = new Delivery(this);
         return delivery;
     }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import io.spine.core.TenantId;
+import io.spine.server.metric.Counter;
+import io.spine.server.metric.MetricRegistry;
+import io.spine.server.metric.Timer;
+import io.spine.server.tenant.TenantAwareRunner;
+
+import java.util.Optional;
+
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+import static io.spine.server.delivery.InboxMessageStatus.TO_DELIVER;
+
+/**
+ * The metrics reported by the {@link Delivery}.
+ *
+ * <p>Besides the delivery itself, measures the latency of the {@link InboxStorage} operations
+ * performed by the {@code Delivery}, so that the metrics are available for any storage
+ * implementation.
+ *
+ * <p>For each shard, registers a {@code Delivery.backlog.shard-<index>} gauge, which tells how
+ * many messages in the shard are waiting to be delivered. The gauge reads the storage on behalf
+ * of a single-tenant application. The backlog of the tenants in a multitenant application is not
+ * reported, as the gauges are evaluated outside of any tenant context.
+ */
+final class DeliveryMetrics {
+
+    /**
+     * The size of the page used when calculating the backlog of a shard.
+     */
+    private static final int BACKLOG_PAGE_SIZE = 1000;
+
+    /** Counts the messages delivered to their targets. */
+    private final Counter delivered;
+
+    /** Measures the time of processing a page of messages by the conveyor stations. */
+    private final Timer stage;
+
+    /** Measures the time of reading a page of messages from the {@code InboxStorage}. */
+    private final Timer inboxRead;
+
+    /** Measures the time of writing the messages to the {@code InboxStorage}. */
+    private final Timer inboxWrite;
+
+    private DeliveryMetrics(MetricRegistry registry) {
+        this.delivered = registry.counter("Delivery.delivered");
+        this.stage = registry.timer("Delivery.stage");
+        this.inboxRead = registry.timer("InboxStorage.read");
+        this.inboxWrite = registry.timer("InboxStorage.write");
+    }
+
+    /**
+     * Creates the metrics of a {@code Delivery} and registers the backlog gauges for its shards.
+     */
+    static DeliveryMetrics register(MetricRegistry registry,
+                                    InboxStorage storage,
+                                    int shardCount) {
+        for (int indexValue = 0; indexValue < shardCount; indexValue++) {
+            ShardIndex index = newIndex(indexValue, shardCount);
+            registry.gauge("Delivery.backlog.shard-" + indexValue,
+                           () -> backlogOf(storage, index));
+        }
+        return new DeliveryMetrics(registry);
+    }
+
+    private static long backlogOf(InboxStorage storage, ShardIndex index) {
+        return TenantAwareRunner.with(TenantId.getDefaultInstance())
+                                .evaluate(() -> countToDeliver(storage, index));
+    }
+
+    private static long countToDeliver(InboxStorage storage, ShardIndex index) {
+        long result = 0;
+        Optional<Page<InboxMessage>> page = Optional.of(storage.readAll(index, BACKLOG_PAGE_SIZE));
+        while (page.isPresent()) {
+            Page<InboxMessage> current = page.get();
+            result += current.contents()
+                             .stream()
+                             .filter(message -> message.getStatus() == TO_DELIVER)
+                             .count();
+            page = current.next();
+        }
+        return result;
+    }
+
+    Counter delivered() {
+        return delivered;
+    }
+
+    Timer stage() {
+        return stage;
+    }
+
+    Timer inboxRead() {
+        return inboxRead;
+    }
+
+    Timer inboxWrite() {
+        return inboxWrite;
+    }
+}
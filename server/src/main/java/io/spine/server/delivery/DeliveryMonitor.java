@@ -87,6 +87,27 @@ public class DeliveryMonitor {
         // do nothing.
     }
 
+    /**
+     * Determines how many messages to read per page in the next delivery run
+     * for the given shard.
+     *
+     * <p>Called before each run of the delivery for the shard, i.e. after the
+     * {@link #onDeliveryStarted(ShardIndex) onDeliveryStarted(ShardIndex)} and before
+     * the first {@link #shouldContinueAfter(DeliveryStage) shouldContinueAfter(DeliveryStage)}
+     * of the run.
+     *
+     * @param index
+     *         the index of the shard to deliver the messages from
+     * @param configuredPageSize
+     *         the page size {@linkplain DeliveryBuilder#setPageSize(int) configured}
+     *         for the {@code Delivery}
+     * @return the positive number of messages to read per page
+     * @implNote The default implementation returns the configured page size.
+     */
+    public int pageSize(ShardIndex index, int configuredPageSize) {
+        return configuredPageSize;
+    }
+
     /**
      * Returns an instance of {@code DeliveryMonitor} which always tells to continue.
      */
@@ -20,6 +20,7 @@
 
 package io.spine.server.delivery;
 
+import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 import io.spine.annotation.Internal;
 
@@ -41,18 +42,24 @@ public final class InboxMessageComparator implements Comparator<InboxMessage>, S
 
     private static final long serialVersionUID = 0L;
     public static final InboxMessageComparator chronologically = new InboxMessageComparator();
+    private static final Comparator<Timestamp> timestamps = Timestamps.comparator();
 
     private InboxMessageComparator() {
     }
 
     @Override
     public int compare(InboxMessage m1, InboxMessage m2) {
-        int result = Comparator
-                .comparing(InboxMessage::getWhenReceived, Timestamps.comparator())
-                .thenComparing(InboxMessage::getVersion)
-                .thenComparing((m) -> m.getId()
-                                       .getUuid())
-                .compare(m1, m2);
-        return result;
+        int result = timestamps.compare(m1.getWhenReceived(), m2.getWhenReceived());
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(m1.getVersion(), m2.getVersion());
+        if (result != 0) {
+            return result;
+        }
+        return m1.getId()
+                 .getUuid()
+                 .compareTo(m2.getId()
+                              .getUuid());
     }
 }
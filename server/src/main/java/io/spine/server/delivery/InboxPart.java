@@ -20,7 +20,6 @@
 
 package io.spine.server.delivery;
 
-import io.spine.base.Time;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.tenant.TenantAwareRunner;
 import io.spine.server.type.SignalEnvelope;
@@ -83,6 +82,7 @@ abstract class InboxPart<I, M extends SignalEnvelope<?, ?, ?>> {
                                              .delivery();
         ShardIndex shardIndex = delivery.whichShardFor(entityId, entityStateType);
         InboxMessageId id = InboxMessageMixin.generateIdWith(shardIndex);
+        VersionCounter.Stamp stamp = VersionCounter.next(shardIndex);
         InboxMessage.Builder builder = InboxMessage
                 .newBuilder()
                 .setId(id)
@@ -90,8 +90,8 @@ abstract class InboxPart<I, M extends SignalEnvelope<?, ?, ?>> {
                 .setInboxId(inboxId)
                 .setLabel(label)
                 .setStatus(determineStatus(envelope, label))
-                .setWhenReceived(Time.currentTime())
-                .setVersion(VersionCounter.next());
+                .setWhenReceived(stamp.whenReceived())
+                .setVersion(stamp.version());
         setRecordPayload(envelope, builder);
         InboxMessage message = builder.vBuild();
 
@@ -64,6 +64,33 @@ public interface InboxStorage
      */
     Optional<InboxMessage> newestMessageToDeliver(ShardIndex index);
 
+    /**
+     * Counts the messages {@linkplain InboxMessageStatus#TO_DELIVER to deliver}
+     * in the given shard.
+     *
+     * <p>The default implementation reads all the messages of the shard page by page.
+     * Storage implementations are encouraged to override this method with a cheaper query.
+     *
+     * @param index
+     *         the shard index to count the messages in
+     * @return the number of messages to deliver
+     */
+    default int countToDeliver(ShardIndex index) {
+        int pageSize = 500;
+        int count = 0;
+        Optional<Page<InboxMessage>> page = Optional.of(readAll(index, pageSize));
+        while (page.isPresent()) {
+            Page<InboxMessage> current = page.get();
+            for (InboxMessage message : current.contents()) {
+                if (message.getStatus() == InboxMessageStatus.TO_DELIVER) {
+                    count++;
+                }
+            }
+            page = current.next();
+        }
+        return count;
+    }
+
     /**
      * Writes a message to the storage.
      *
@@ -20,6 +20,8 @@
 
 package io.spine.server.delivery;
 
+import io.spine.server.metric.Timer;
+
 /**
  * A writer of {@link Inbox Inbox} messages.
  *
@@ -29,9 +31,11 @@ package io.spine.server.delivery;
 abstract class NotifyingWriter implements InboxWriter {
 
     private final InboxStorage storage;
+    private final Timer writeTimer;
 
-    NotifyingWriter(InboxStorage storage) {
+    NotifyingWriter(InboxStorage storage, Timer writeTimer) {
         this.storage = storage;
+        this.writeTimer = writeTimer;
     }
 
     /**
@@ -44,7 +48,9 @@ abstract class NotifyingWriter implements InboxWriter {
 
     @Override
     public void write(InboxMessage message) {
+        long start = writeTimer.start();
         storage.write(message);
+        writeTimer.stop(start);
         onShardUpdated(message);
     }
 }
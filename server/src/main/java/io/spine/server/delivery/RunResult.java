@@ -38,7 +38,7 @@ class RunResult {
      * Tells if another run is required.
      *
      * <p>The run is not required either if there were no messages delivered or if
-     * the {@code DeliveryMonitor} stopped the execution.
+     * the execution was stopped by the {@code DeliveryMonitor} or due to the lost session.
      */
     boolean shouldRunAgain() {
         return !stoppedByMonitor && deliveredMsgCount > 0;
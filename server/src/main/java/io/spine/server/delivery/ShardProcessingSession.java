@@ -33,9 +33,13 @@ import io.spine.server.NodeId;
 public abstract class ShardProcessingSession {
 
     private final ShardIndex index;
+    private final NodeId pickedBy;
+    private final String sessionId;
 
     protected ShardProcessingSession(ShardSessionRecord record) {
         this.index = record.getIndex();
+        this.pickedBy = record.getPickedBy();
+        this.sessionId = record.getSessionId();
     }
 
     /**
@@ -45,6 +49,40 @@ public abstract class ShardProcessingSession {
         return index;
     }
 
+    /**
+     * Returns the identifier of the node, which picked up the shard.
+     */
+    public NodeId pickedBy() {
+        return pickedBy;
+    }
+
+    /**
+     * Returns the identifier of the pickup, which started this session.
+     *
+     * <p>Distinguishes the sessions started by the same node for the same shard.
+     */
+    public String sessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Notifies the registry that the node still processes the shard.
+     *
+     * <p>The registries which grant leases extend the lease of the node on the shard.
+     * The node is expected to call this method while processing the shard more often than
+     * the lease expires.
+     *
+     * <p>By default, the session is considered kept by the node until it is
+     * {@linkplain #complete() completed}.
+     *
+     * @return {@code true} if the shard is still picked by the node of this session,
+     *         {@code false} if the session has been lost, and the node should stop processing
+     *         the shard
+     */
+    protected boolean heartbeat() {
+        return true;
+    }
+
     /**
      * Completes this session and releases the picked shard, making it available for picking up.
      */
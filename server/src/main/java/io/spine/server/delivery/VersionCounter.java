@@ -20,35 +20,122 @@
 
 package io.spine.server.delivery;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newConcurrentMap;
 
 /**
- * A counter providing the version for the incoming {@code InboxMessage}s.
+ * A counter providing the receiving time and the version for the incoming
+ * {@code InboxMessage}s.
  *
- * <p>Serves to distinguish the messages arrived at the very same millisecond, even from
+ * <p>Serves to distinguish the messages arrived at the very same moment, even from
  * different threads.
  *
- * <p>Hard-coded to reset the value to zero every {@link #MAX_VERSION} times. This allows
- * to avoid any number overflows, but still is sufficient for realistic use-cases.
+ * <p>Each shard has its own counter. The counter issues the {@linkplain Stamp stamps}, which
+ * strictly increase in the order of the {@link InboxMessageComparator}: the version grows
+ * while the time stays the same, and is reset to zero as the time advances. If the clock
+ * goes back, the counter keeps the last issued time. Therefore, two messages of the same
+ * shard never get the same stamp, and the version never rolls over within the same time.
+ *
+ * <p>The counter is lock-free. The threads writing to different shards do not contend at all.
  */
 @ThreadSafe
 final class VersionCounter {
 
-    private static final int MAX_VERSION = 10_000;
-    private static final VersionCounter instance = new VersionCounter();
+    private static final Map<ShardIndex, VersionCounter> counters = newConcurrentMap();
 
-    private int counter;
+    private final AtomicReference<Stamp> last = new AtomicReference<>(Stamp.INITIAL);
 
-    private synchronized int getNextValue() {
-        counter++;
-        counter = counter % MAX_VERSION;
-        return counter;
+    @VisibleForTesting
+    VersionCounter() {
     }
 
     /**
-     * Obtains the next version value.
+     * Obtains the next stamp for a message written to the shard with the given index.
      */
-    static int next() {
-        return instance.getNextValue();
+    static Stamp next(ShardIndex index) {
+        checkNotNull(index);
+        VersionCounter counter = counters.get(index);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(index, i -> new VersionCounter());
+        }
+        return counter.next(Time.currentTime());
+    }
+
+    /**
+     * Obtains the stamp following the last issued one, given the current time.
+     */
+    @VisibleForTesting
+    Stamp next(Timestamp now) {
+        while (true) {
+            Stamp previous = last.get();
+            Stamp next = previous.following(now);
+            if (last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * The time of receiving of a message along with its version.
+     */
+    @Immutable
+    static final class Stamp {
+
+        private static final Stamp INITIAL = new Stamp(Timestamp.getDefaultInstance(), 0);
+
+        private final Timestamp whenReceived;
+        private final int version;
+
+        @VisibleForTesting
+        Stamp(Timestamp whenReceived, int version) {
+            this.whenReceived = whenReceived;
+            this.version = version;
+        }
+
+        /**
+         * Obtains the stamp following this one.
+         *
+         * <p>If the given time is after the time of this stamp, the time is taken with
+         * the zero version. Otherwise, the time of this stamp is kept, and the version is
+         * incremented. In the unlikely case the version cannot be incremented any more,
+         * the time is advanced by a nanosecond.
+         */
+        @VisibleForTesting
+        Stamp following(Timestamp now) {
+            if (Timestamps.compare(now, whenReceived) > 0) {
+                return new Stamp(now, 0);
+            }
+            if (version < Integer.MAX_VALUE) {
+                return new Stamp(whenReceived, version + 1);
+            }
+            Timestamp nextNano = Timestamps.add(whenReceived, Durations.fromNanos(1));
+            return new Stamp(nextNano, 0);
+        }
+
+        /**
+         * Obtains the time of receiving of the message.
+         */
+        Timestamp whenReceived() {
+            return whenReceived;
+        }
+
+        /**
+         * Obtains the version of the message, unique among the messages received at
+         * the same time.
+         */
+        int version() {
+            return version;
+        }
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+
+/**
+ * Lets an idle application node help the busy ones by delivering the messages from
+ * the shard with the largest backlog.
+ *
+ * <p>Typically, a node delivers the messages only from the shards it is
+ * {@linkplain ShardObserver notified} about. With many shards and few nodes, some of the nodes
+ * may stay idle, while the others process the hot shards. An idle node may
+ * {@linkplain #stealWork() steal} the work:
+ *
+ * <pre>{@code
+ * WorkStealingCoordinator coordinator = WorkStealingCoordinator.of(delivery);
+ * while (coordinator.stealWork().isPresent()) {
+ *     // Keep helping while there are shards with pending messages.
+ * }
+ * }</pre>
+ *
+ * <p>The shards are ordered by the number of messages
+ * {@linkplain InboxStorage#countToDeliver(ShardIndex) to deliver}. The coordinator tries to
+ * {@linkplain ShardedWorkRegistry#pickUp(ShardIndex, io.spine.server.NodeId) pick up}
+ * the shards in this order, skipping those currently processed by other nodes. If a node
+ * processing a shard crashes, its shard is picked up once its lease expires, provided that
+ * the {@code ShardedWorkRegistry} grants leases.
+ *
+ * <p>The backlog is estimated by the moment of the call, and may change before the shard is
+ * picked up. Among the shards with the same backlog, the one with the lower index goes first.
+ */
+public final class WorkStealingCoordinator {
+
+    private final Delivery delivery;
+
+    private WorkStealingCoordinator(Delivery delivery) {
+        this.delivery = delivery;
+    }
+
+    /**
+     * Creates a coordinator which delivers the messages via the given {@code Delivery}.
+     */
+    public static WorkStealingCoordinator of(Delivery delivery) {
+        checkNotNull(delivery);
+        return new WorkStealingCoordinator(delivery);
+    }
+
+    /**
+     * Delivers the messages from the shard with the largest backlog, which is not processed
+     * by other nodes at the moment.
+     *
+     * @return the statistics on the performed delivery, or {@code Optional.empty()} if there
+     *         are no shards with the messages to deliver available for picking up
+     */
+    public Optional<DeliveryStats> stealWork() {
+        for (ShardIndex index : shardsByBacklog()) {
+            Optional<DeliveryStats> stats = delivery.deliverMessagesFrom(index);
+            if (stats.isPresent()) {
+                return stats;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Obtains the indexes of the shards having messages to deliver, the largest backlog first.
+     */
+    ImmutableList<ShardIndex> shardsByBacklog() {
+        InboxStorage storage = delivery.inboxStorage();
+        int shardCount = delivery.shardCount();
+        List<Backlog> backlogs = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            ShardIndex index = newIndex(i, shardCount);
+            int pending = storage.countToDeliver(index);
+            if (pending > 0) {
+                backlogs.add(new Backlog(index, pending));
+            }
+        }
+        return backlogs.stream()
+                       .sorted(Backlog.largestFirst)
+                       .map(Backlog::index)
+                       .collect(toImmutableList());
+    }
+
+    /**
+     * The number of messages to deliver in a shard.
+     */
+    private static final class Backlog {
+
+        private static final Comparator<Backlog> largestFirst =
+                Comparator.comparingInt((Backlog b) -> b.pending)
+                          .reversed()
+                          .thenComparingInt(b -> b.index.getIndex());
+
+        private final ShardIndex index;
+        private final int pending;
+
+        private Backlog(ShardIndex index, int pending) {
+            this.index = index;
+            this.pending = pending;
+        }
+
+        private ShardIndex index() {
+            return index;
+        }
+    }
+}
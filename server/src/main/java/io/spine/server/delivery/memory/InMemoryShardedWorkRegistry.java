@@ -21,16 +21,16 @@
 package io.spine.server.delivery.memory;
 
 import com.google.protobuf.Duration;
-import io.spine.server.NodeId;
 import io.spine.server.delivery.AbstractWorkRegistry;
 import io.spine.server.delivery.ShardIndex;
 import io.spine.server.delivery.ShardProcessingSession;
 import io.spine.server.delivery.ShardSessionRecord;
 import io.spine.server.delivery.ShardedWorkRegistry;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.collect.Iterators.unmodifiableIterator;
 import static com.google.common.collect.Maps.newConcurrentMap;
@@ -38,26 +38,28 @@ import static com.google.common.collect.Maps.newConcurrentMap;
 /**
  * An in-memory implementation of {@link ShardedWorkRegistry ShardedWorkRegistry}.
  *
- * @implNote This implementation synchronizes methods of {@code AbstractWorkRegistry} and
- *         uses a concurrent collection in order to guarantee thread safety.
+ * @implNote This implementation stores the records in a concurrent collection and modifies
+ *         them via its atomic conditional operations in order to guarantee thread safety.
  */
 public final class InMemoryShardedWorkRegistry extends AbstractWorkRegistry {
 
-    private final Map<ShardIndex, ShardSessionRecord> workByNode = newConcurrentMap();
+    private final ConcurrentMap<ShardIndex, ShardSessionRecord> workByNode = newConcurrentMap();
 
-    @Override
-    public synchronized Optional<ShardProcessingSession> pickUp(ShardIndex index, NodeId nodeId) {
-        return super.pickUp(index, nodeId);
-    }
-
-    @Override
-    public synchronized Iterable<ShardIndex> releaseExpiredSessions(Duration inactivityPeriod) {
-        return super.releaseExpiredSessions(inactivityPeriod);
+    /**
+     * Creates a registry which grants no leases.
+     */
+    public InMemoryShardedWorkRegistry() {
+        super();
     }
 
-    @Override
-    protected synchronized void clearNode(ShardSessionRecord session) {
-        super.clearNode(session);
+    /**
+     * Creates a registry which grants the leases of the given duration.
+     *
+     * @param lease
+     *         the positive duration of the lease
+     */
+    public InMemoryShardedWorkRegistry(Duration lease) {
+        super(lease);
     }
 
     @Override
@@ -70,6 +72,16 @@ public final class InMemoryShardedWorkRegistry extends AbstractWorkRegistry {
         workByNode.put(session.getIndex(), session);
     }
 
+    @Override
+    protected boolean compareAndWrite(@Nullable ShardSessionRecord expected,
+                                      ShardSessionRecord update) {
+        ShardIndex index = update.getIndex();
+        if (expected == null) {
+            return workByNode.putIfAbsent(index, update) == null;
+        }
+        return workByNode.replace(index, expected, update);
+    }
+
     @Override
     protected Optional<ShardSessionRecord> find(ShardIndex index) {
         return Optional.ofNullable(workByNode.get(index));
@@ -89,11 +101,15 @@ public final class InMemoryShardedWorkRegistry extends AbstractWorkRegistry {
             super(record);
         }
 
+        @Override
+        protected boolean heartbeat() {
+            return extendLease(this);
+        }
+
         @Override
         protected void complete() {
-            ShardSessionRecord record = workByNode.get(shardIndex());
             // Clear the node ID value and release the session.
-            clearNode(record);
+            release(this);
         }
     }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.enrich;
+
+import com.google.protobuf.Message;
+import io.spine.base.EntityState;
+import io.spine.base.EventMessage;
+import io.spine.core.EventContext;
+import io.spine.server.entity.Entity;
+import io.spine.server.entity.Repository;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * An event enrichment function which computes enrichments from the state of an entity
+ * and caches them.
+ *
+ * <p>Events referring to the same entity reuse the enrichment computed once, until
+ * the entity changes its state:
+ *
+ * <pre>{@code
+ * EventEnricher enricher = EventEnricher
+ *         .newBuilder()
+ *         .add(TaskAssigned.class, ProjectName.class,
+ *              CachingEnrichmentFn.of(projects, TaskAssigned::getProject,
+ *                                     project -> ProjectName.of(project.getName()),
+ *                                     1_000))
+ *         .build();
+ * }</pre>
+ *
+ * <p>The cache is bounded and keyed by the ID of the entity and the tenant.
+ * The cached enrichments are dropped upon the {@link io.spine.system.server.event.EntityStateChanged
+ * EntityStateChanged} events emitted for the entities of the repository. Therefore, the function
+ * reuses the cached enrichments only after the enricher is passed to a Bounded Context.
+ *
+ * @param <M>
+ *         the type of the enriched events
+ * @param <I>
+ *         the type of the entity IDs
+ * @param <S>
+ *         the type of the entity states
+ * @param <R>
+ *         the type of the enrichments
+ */
+public final class CachingEnrichmentFn<M extends EventMessage,
+                                       I,
+                                       S extends EntityState,
+                                       R extends Message>
+        implements EventEnrichmentFn<M, R> {
+
+    private final Repository<I, ? extends Entity<I, S>> repository;
+    private final Function<M, I> idOf;
+    private final Function<S, R> toEnrichment;
+    private final EnrichmentCache<R> cache;
+
+    private CachingEnrichmentFn(Repository<I, ? extends Entity<I, S>> repository,
+                                Function<M, I> idOf,
+                                Function<S, R> toEnrichment,
+                                int maxSize) {
+        this.repository = repository;
+        this.idOf = idOf;
+        this.toEnrichment = toEnrichment;
+        this.cache = new EnrichmentCache<>(repository.entityStateType(), maxSize);
+    }
+
+    /**
+     * Creates a new caching function.
+     *
+     * @param repository
+     *         the repository of the entities the enrichments are computed from
+     * @param idOf
+     *         obtains the ID of the entity referred to by an event
+     * @param toEnrichment
+     *         computes the enrichment from the state of the entity
+     * @param maxSize
+     *         the maximum number of the cached enrichments
+     * @param <M>
+     *         the type of the enriched events
+     * @param <I>
+     *         the type of the entity IDs
+     * @param <S>
+     *         the type of the entity states
+     * @param <R>
+     *         the type of the enrichments
+     * @return new function
+     */
+    public static <M extends EventMessage, I, S extends EntityState, R extends Message>
+    CachingEnrichmentFn<M, I, S, R> of(Repository<I, ? extends Entity<I, S>> repository,
+                                       Function<M, I> idOf,
+                                       Function<S, R> toEnrichment,
+                                       int maxSize) {
+        checkNotNull(repository);
+        checkNotNull(idOf);
+        checkNotNull(toEnrichment);
+        return new CachingEnrichmentFn<>(repository, idOf, toEnrichment, maxSize);
+    }
+
+    @Override
+    public R apply(M message, EventContext context) {
+        I id = idOf.apply(message);
+        Optional<R> cached = cache.get(id);
+        return cached.orElseGet(() -> compute(id));
+    }
+
+    private R compute(I id) {
+        long stamp = cache.stamp();
+        Entity<I, S> entity = repository.find(id)
+                                        .orElseThrow(() -> newIllegalStateException(
+                                                "Unable to find an entity with the ID `%s` " +
+                                                        "in the repository `%s`.",
+                                                id, repository
+                                        ));
+        R enrichment = toEnrichment.apply(entity.state());
+        cache.put(id, entity.version(), enrichment, stamp);
+        return enrichment;
+    }
+
+    /**
+     * Obtains the cache of this function.
+     */
+    EnrichmentCache<R> cache() {
+        return cache;
+    }
+}
@@ -20,26 +20,56 @@
 
 package io.spine.server.enrich;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Message;
 import io.spine.core.EnrichableMessageContext;
 import io.spine.core.Enrichment.Container;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * A schema function which contains two or more functions on the same enrichable message type.
+ *
+ * <p>If the {@linkplain EnricherBuilder#enrichConcurrently concurrent enrichment} is enabled,
+ * the functions which are not {@linkplain EnrichmentFn#isCheap() cheap} are applied
+ * concurrently. The enrichments are then put into the container in the same order as if
+ * the functions were applied one after another.
  */
 final class CompositeFn<M extends Message, C extends EnrichableMessageContext>
         extends SchemaFn<M, C> {
 
-    private final ImmutableSet<EnrichmentFn<M, C, ? extends Message>> functions;
+    private final ImmutableList<EnrichmentFn<M, C, ? extends Message>> functions;
+    private final @Nullable Concurrency concurrency;
+
+    /**
+     * The number of functions which are applied concurrently, if the concurrency is enabled.
+     */
+    private final int expensiveCount;
 
     CompositeFn(Iterable<EnrichmentFn<M, C, ? extends Message>> functions) {
+        this(functions, null);
+    }
+
+    CompositeFn(Iterable<EnrichmentFn<M, C, ? extends Message>> functions,
+                @Nullable Concurrency concurrency) {
         super();
         checkNotNull(functions);
-        ImmutableSet<EnrichmentFn<M, C, ?>> fns = ImmutableSet.copyOf(functions);
+        ImmutableList<EnrichmentFn<M, C, ?>> fns = ImmutableSet.copyOf(functions)
+                                                               .asList();
         int size = fns.size();
         checkArgument(
                 size >= 2,
@@ -47,14 +77,91 @@ final class CompositeFn<M extends Message, C extends EnrichableMessageContext>
                 size
         );
         this.functions = fns;
+        this.concurrency = concurrency;
+        this.expensiveCount = (int) fns.stream()
+                                       .filter(fn -> !fn.isCheap())
+                                       .count();
     }
 
     @Override
-    protected void applyAndPut(Container.Builder container, M m, C c) {
+    void applyAndPut(Container.Builder container, M m, C c) {
+        if (concurrency == null || expensiveCount < 2) {
+            applySequentially(container, m, c);
+        } else {
+            applyConcurrently(concurrency, container, m, c);
+        }
+    }
+
+    private void applySequentially(Container.Builder container, M m, C c) {
         for (EnrichmentFn<M, C, ?> function : functions) {
             Message enrichment = function.apply(m, c);
             checkResult(enrichment, m, c, function);
             put(container, enrichment);
         }
     }
+
+    /**
+     * Submits the expensive functions to the executor, applies the cheap ones in
+     * the current thread, and then waits for the submitted ones.
+     *
+     * <p>The functions which are not complete by the deadline are cancelled, so that
+     * the threads of the executor which apply them are interrupted.
+     */
+    private void applyConcurrently(Concurrency concurrency, Container.Builder container, M m, C c) {
+        long deadline = System.nanoTime() + concurrency.timeoutNanos();
+        int size = functions.size();
+        List<@Nullable FutureTask<? extends Message>> submitted = new ArrayList<>(size);
+        for (EnrichmentFn<M, C, ?> function : functions) {
+            FutureTask<? extends Message> task = null;
+            if (!function.isCheap()) {
+                task = new FutureTask<>(() -> function.apply(m, c));
+                concurrency.executor()
+                           .execute(task);
+            }
+            submitted.add(task);
+        }
+        Message[] enrichments = new Message[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                EnrichmentFn<M, C, ?> function = functions.get(i);
+                if (function.isCheap()) {
+                    enrichments[i] = function.apply(m, c);
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                FutureTask<? extends Message> future = submitted.get(i);
+                if (future != null) {
+                    enrichments[i] = await(future, deadline, m);
+                }
+            }
+        } finally {
+            submitted.stream()
+                     .filter(Objects::nonNull)
+                     .forEach(future -> future.cancel(true));
+        }
+        for (int i = 0; i < size; i++) {
+            checkResult(enrichments[i], m, c, functions.get(i));
+            put(container, enrichments[i]);
+        }
+    }
+
+    private static Message await(FutureTask<? extends Message> future,
+                                 long deadline,
+                                 Message source) {
+        long remaining = deadline - System.nanoTime();
+        try {
+            return future.get(remaining, NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw newIllegalStateException(
+                    e, "The enrichment of the message `%s` has timed out.", source);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw illegalStateWithCauseOf(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.enrich;
+
+import io.spine.server.tenant.TenantContext;
+
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Settings of the concurrent application of enrichment functions.
+ *
+ * @see EnricherBuilder#enrichConcurrently(Executor, com.google.protobuf.Duration)
+ */
+final class Concurrency {
+
+    private final Executor executor;
+    private final long timeoutNanos;
+
+    Concurrency(Executor executor, long timeoutNanos) {
+        this.executor = TenantContext.propagating(checkNotNull(executor));
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Obtains the executor which applies the functions in the tenant context of
+     * the submitting thread.
+     */
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Obtains the maximum time to wait for the enrichment of a single message.
+     */
+    long timeoutNanos() {
+        return timeoutNanos;
+    }
+}
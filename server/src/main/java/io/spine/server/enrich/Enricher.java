@@ -20,14 +20,21 @@
 
 package io.spine.server.enrich;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
 import io.spine.core.EnrichableMessageContext;
 import io.spine.core.Enrichment;
+import io.spine.server.BoundedContext;
 import io.spine.server.type.EnrichableMessageEnvelope;
+import io.spine.system.server.SystemReadSide;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+
 /**
  * Enriches messages <em>after</em> they are stored, and <em>before</em> they are dispatched.
  */
@@ -36,11 +43,38 @@ public abstract class Enricher<M extends Message, C extends EnrichableMessageCon
 
     private final Schema<M, C> schema;
 
+    /** The caches of the {@linkplain CachingEnrichmentFn caching functions}. */
+    private final ImmutableSet<EnrichmentCache<?>> caches;
+
     /**
      * Creates a new instance taking functions from the passed builder.
      */
     protected Enricher(EnricherBuilder<M, C, ?> builder) {
         this.schema = Schema.newInstance(builder);
+        this.caches = builder.functions()
+                             .values()
+                             .stream()
+                             .filter(CachingEnrichmentFn.class::isInstance)
+                             .map(fn -> ((CachingEnrichmentFn<?, ?, ?, ?>) fn).cache())
+                             .collect(toImmutableSet());
+    }
+
+    /**
+     * Subscribes the caches of the enrichment functions to the system events of
+     * the given context.
+     *
+     * <p>Until then, the {@linkplain CachingEnrichmentFn caching functions} compute
+     * the enrichments anew for each message.
+     */
+    @Internal
+    public void registerCachesWith(BoundedContext context) {
+        checkNotNull(context);
+        SystemReadSide readSide = context.systemClient()
+                                         .readSide();
+        for (EnrichmentCache<?> cache : caches) {
+            readSide.register(cache);
+            cache.activate(context.isMultitenant());
+        }
     }
 
     /**
@@ -22,13 +22,19 @@ package io.spine.server.enrich;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Duration;
 import com.google.protobuf.Message;
+import com.google.protobuf.util.Durations;
 import io.spine.core.EnrichableMessageContext;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -48,11 +54,13 @@ public abstract class EnricherBuilder<M extends Message,
      */
     private final Map<Key, EnrichmentFn<? extends M, C, ?>> functions = new HashMap<>();
 
+    /** The settings of the concurrent enrichment, or {@code null} if it is not enabled. */
+    private @Nullable Concurrency concurrency;
+
     /** Creates new instance. */
     protected EnricherBuilder() {
     }
 
-
     /**
      * Adds an enrichment function to the builder.
      *
@@ -143,6 +151,37 @@ public abstract class EnricherBuilder<M extends Message,
         return self();
     }
 
+    /**
+     * Enables concurrent application of the enrichment functions.
+     *
+     * <p>If a message is enriched by several functions, the functions which are not
+     * {@linkplain EnrichmentFn#isCheap() cheap} are applied concurrently using the passed
+     * executor, while the cheap ones are applied in the thread which enriches the message.
+     * The resulting enrichment is the same as the one produced by applying the functions
+     * one after another.
+     *
+     * <p>The functions are applied in the tenant context of the enriched message.
+     *
+     * <p>By default, the functions are applied one after another in the thread which enriches
+     * the message.
+     *
+     * @param executor
+     *         the executor to apply the functions; it is recommended to bound the number of
+     *         its threads
+     * @param timeout
+     *         the maximum time to wait for all the functions enriching a single message;
+     *         if exceeded, the enrichment fails with {@code IllegalStateException}
+     * @return {@code this} builder
+     */
+    @CanIgnoreReturnValue
+    public B enrichConcurrently(Executor executor, Duration timeout) {
+        checkNotNull(executor);
+        checkNotNull(timeout);
+        checkArgument(Durations.toNanos(timeout) > 0, "The enrichment timeout must be positive.");
+        this.concurrency = new Concurrency(executor, Durations.toNanos(timeout));
+        return self();
+    }
+
     /** Creates a new {@code Enricher}. */
     public abstract Enricher build();
 
@@ -153,6 +192,13 @@ public abstract class EnricherBuilder<M extends Message,
         return ImmutableMap.copyOf(functions);
     }
 
+    /**
+     * Obtains the settings of the concurrent enrichment, if it is enabled.
+     */
+    Optional<Concurrency> concurrency() {
+        return Optional.ofNullable(concurrency);
+    }
+
     /**
      * A pair of source message class and enrichment message class which is used to match
      * the pair to a function which produces the enrichment.
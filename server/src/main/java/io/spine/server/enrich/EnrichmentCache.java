@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.enrich;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import io.spine.base.Identifier;
+import io.spine.core.MessageId;
+import io.spine.core.TenantId;
+import io.spine.core.Version;
+import io.spine.server.event.EventDispatcher;
+import io.spine.server.tenant.TenantContext;
+import io.spine.server.type.EventClass;
+import io.spine.server.type.EventEnvelope;
+import io.spine.system.server.event.EntityStateChanged;
+import io.spine.type.TypeUrl;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of the enrichments computed from the states of entities of one type.
+ *
+ * <p>The enrichments are keyed by the tenant and the ID of the entity, and remember
+ * the version of the entity they were computed from.
+ *
+ * <p>The cache listens to the {@link EntityStateChanged} system events. An enrichment is
+ * dropped once the entity it was computed from gets a newer version. An enrichment which is
+ * computed concurrently with such an event is not stored, as it may reflect the previous
+ * state of the entity.
+ *
+ * @param <E>
+ *         the type of the enrichments
+ */
+final class EnrichmentCache<E extends Message> implements EventDispatcher {
+
+    private static final ImmutableSet<EventClass> EVENT_CLASSES =
+            EventClass.setOf(EntityStateChanged.class);
+
+    private final TypeUrl entityStateType;
+    private final Cache<Key, Entry<E>> cache;
+
+    /**
+     * The number of processed state changes.
+     *
+     * <p>Used for telling if an enrichment could have been computed from a stale state.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /** Tells if the cache receives the state changes and thus may store enrichments. */
+    private volatile boolean active;
+    private volatile boolean multitenant;
+
+    EnrichmentCache(TypeUrl entityStateType, int maxSize) {
+        checkNotNull(entityStateType);
+        checkArgument(maxSize > 0, "The enrichment cache size must be positive.");
+        this.entityStateType = entityStateType;
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maxSize)
+                                 .build();
+    }
+
+    /**
+     * Enables storing the enrichments once the cache is registered to receive
+     * the state changes.
+     *
+     * @param multitenant
+     *         whether the enrichments are looked up in a multitenant context; in
+     *         a single-tenant context, the enrichments are keyed by the entity IDs only
+     */
+    void activate(boolean multitenant) {
+        this.multitenant = multitenant;
+        this.active = true;
+    }
+
+    /**
+     * Obtains the stamp to be passed to {@link #put(Object, Version, Message, long) put(..)}
+     * after the enrichment is computed.
+     */
+    long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Obtains the enrichment computed for the entity with the given ID for the current tenant.
+     */
+    Optional<E> get(Object entityId) {
+        checkNotNull(entityId);
+        if (!active) {
+            return Optional.empty();
+        }
+        Entry<E> entry = cache.getIfPresent(keyOf(currentTenant(), Identifier.pack(entityId)));
+        return entry == null
+               ? Optional.empty()
+               : Optional.of(entry.enrichment);
+    }
+
+    /**
+     * Stores the enrichment computed for the entity with the given ID for the current tenant.
+     *
+     * <p>The enrichment is not stored until the cache is {@linkplain #activate(boolean) activated},
+     * or if any state change was processed by this cache after
+     * the given {@code stamp} was {@linkplain #stamp() obtained}.
+     */
+    void put(Object entityId, Version version, E enrichment, long stamp) {
+        checkNotNull(entityId);
+        checkNotNull(version);
+        checkNotNull(enrichment);
+        if (!active) {
+            return;
+        }
+        Key key = keyOf(currentTenant(), Identifier.pack(entityId));
+        Entry<E> entry = new Entry<>(version, enrichment);
+        cache.asMap()
+             .compute(key, (k, existing) -> {
+                 if (invalidations.get() != stamp) {
+                     return existing;
+                 }
+                 boolean newer = existing == null
+                         || existing.version.getNumber() < version.getNumber();
+                 return newer ? entry : existing;
+             });
+    }
+
+    @Override
+    public ImmutableSet<EventClass> messageClasses() {
+        return EVENT_CLASSES;
+    }
+
+    @Override
+    public ImmutableSet<EventClass> domesticEventClasses() {
+        return eventClasses();
+    }
+
+    @Override
+    public ImmutableSet<EventClass> externalEventClasses() {
+        return EventClass.emptySet();
+    }
+
+    /**
+     * Drops the enrichment of the changed entity, unless it is computed from a newer version
+     * of the entity than the one in the event.
+     */
+    @Override
+    public void dispatch(EventEnvelope event) {
+        EntityStateChanged changed = (EntityStateChanged) event.message();
+        MessageId entity = changed.getEntity();
+        if (!entityStateType.value()
+                            .equals(entity.getTypeUrl())) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        Key key = keyOf(event.tenantId(), entity.getId());
+        long newVersion = changed.getNewVersion()
+                                 .getNumber();
+        cache.asMap()
+             .computeIfPresent(key, (k, existing) -> {
+                 boolean stale = newVersion == 0
+                         || existing.version.getNumber() < newVersion;
+                 return stale ? null : existing;
+             });
+    }
+
+    private static TenantId currentTenant() {
+        return TenantContext.current()
+                            .tenantId()
+                            .orElse(TenantId.getDefaultInstance());
+    }
+
+    private Key keyOf(TenantId tenant, Any entityId) {
+        TenantId keyTenant = multitenant
+                             ? tenant
+                             : TenantId.getDefaultInstance();
+        return new Key(keyTenant, entityId);
+    }
+
+    /**
+     * The ID of a cached enrichment.
+     */
+    private static final class Key {
+
+        private final TenantId tenant;
+        private final Any entityId;
+
+        private Key(TenantId tenant, Any entityId) {
+            this.tenant = tenant;
+            this.entityId = entityId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return tenant.equals(other.tenant) && entityId.equals(other.entityId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(tenant, entityId);
+        }
+    }
+
+    /**
+     * A cached enrichment along with the version of the entity it was computed from.
+     */
+    private static final class Entry<E extends Message> {
+
+        private final Version version;
+        private final E enrichment;
+
+        private Entry(Version version, E enrichment) {
+            this.version = version;
+            this.enrichment = enrichment;
+        }
+    }
+}
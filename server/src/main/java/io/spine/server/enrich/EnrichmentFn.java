@@ -36,4 +36,19 @@ public interface EnrichmentFn<M extends Message,
                               C extends EnrichableMessageContext,
                               E extends Message>
         extends BiFunction<M, C, E> {
+
+    /**
+     * Tells if the function is cheap to compute.
+     *
+     * <p>When the {@linkplain EnricherBuilder#enrichConcurrently(java.util.concurrent.Executor,
+     * com.google.protobuf.Duration) concurrent enrichment} is enabled, cheap functions are
+     * always applied in the thread which enriches the message, saving on the hand-off to
+     * the executor. Functions which only transform the enrichable message or its context,
+     * without reading any storage, are good candidates.
+     *
+     * @return {@code false} by default
+     */
+    default boolean isCheap() {
+        return false;
+    }
 }
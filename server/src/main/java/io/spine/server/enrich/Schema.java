@@ -75,6 +75,9 @@ final class Schema<M extends Message, C extends EnrichableMessageContext> implem
         /** Functions we got from {@link EnricherBuilder}. */
         private final ImmutableMap<EnricherBuilder.Key, EnrichmentFn<? extends M, C, ?>> functions;
 
+        /** The settings of the concurrent enrichment, or {@code null} if it is not enabled. */
+        private final @Nullable Concurrency concurrency;
+
         /** The types of messages that these functions enrich. */
         private final ImmutableSet<Class<? extends M>> sourceTypes;
 
@@ -86,6 +89,8 @@ final class Schema<M extends Message, C extends EnrichableMessageContext> implem
         private Factory(EnricherBuilder<? extends M, C, ?> eBuilder) {
             checkNotNull(eBuilder);
             this.functions = ImmutableMap.copyOf(eBuilder.functions());
+            this.concurrency = eBuilder.concurrency()
+                                       .orElse(null);
             this.sourceTypes =
                     functions.keySet()
                              .stream()
@@ -114,7 +119,7 @@ final class Schema<M extends Message, C extends EnrichableMessageContext> implem
             if (fns.size() == 1) {
                 return new SingularFn<>(fns.iterator().next());
             } else {
-                return new CompositeFn<M, C>(fns);
+                return new CompositeFn<M, C>(fns, concurrency);
             }
         }
     }
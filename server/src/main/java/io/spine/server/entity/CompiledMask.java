@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.entity;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * A {@link FieldMask} compiled for the messages of a particular type.
+ *
+ * <p>Produces the same result as {@link FieldMasks#applyMask(FieldMask, Message)}. Unlike
+ * the latter, the paths of the mask are resolved to the field descriptors only once. Also, if
+ * a message has none of the fields which the mask clears, the message is returned as-is,
+ * without copying.
+ *
+ * <p>As with {@link com.google.protobuf.util.FieldMaskUtil FieldMaskUtil}, the paths which do not
+ * refer to a field of the message type are ignored.
+ */
+final class CompiledMask {
+
+    private static final Splitter PATH_SPLITTER = Splitter.on('.');
+
+    /** The fields retained in a message as a whole. */
+    private final ImmutableList<FieldDescriptor> retained;
+
+    /** The message fields retained partially, along with the masks for their values. */
+    private final ImmutableMap<FieldDescriptor, CompiledMask> nested;
+
+    /** The fields of the message type which are not retained at all. */
+    private final ImmutableList<FieldDescriptor> cleared;
+
+    private CompiledMask(Descriptor type,
+                         ImmutableList<FieldDescriptor> retained,
+                         ImmutableMap<FieldDescriptor, CompiledMask> nested) {
+        this.retained = retained;
+        this.nested = nested;
+        this.cleared = type.getFields()
+                           .stream()
+                           .filter(field -> !retained.contains(field) && !nested.containsKey(field))
+                           .collect(toImmutableList());
+    }
+
+    /**
+     * Compiles the given mask for the messages of the given type.
+     *
+     * @return the compiled mask or {@code null} if the mask has no paths and thus does not
+     *         change any message
+     */
+    static @Nullable CompiledMask compile(FieldMask mask, Descriptor type) {
+        checkNotNull(mask);
+        checkNotNull(type);
+        if (mask.getPathsList()
+                .isEmpty()) {
+            return null;
+        }
+        Node root = new Node();
+        for (String path : mask.getPathsList()) {
+            root.add(PATH_SPLITTER.split(path));
+        }
+        return root.compile(type);
+    }
+
+    /**
+     * Applies the mask to the given message.
+     *
+     * @return the message with only the retained fields, or the same instance if the message
+     *         has no fields to clear
+     */
+    <M extends Message> M apply(M message) {
+        checkNotNull(message);
+        if (!affects(message)) {
+            return message;
+        }
+        Message.Builder builder = message.newBuilderForType();
+        for (FieldDescriptor field : retained) {
+            if (isSet(message, field)) {
+                builder.setField(field, message.getField(field));
+            }
+        }
+        nested.forEach((field, mask) -> {
+            if (message.hasField(field)) {
+                Message value = (Message) message.getField(field);
+                builder.setField(field, mask.apply(value));
+            }
+        });
+        @SuppressWarnings("unchecked") // safe as we got builder of `M`.
+        M result = (M) builder.build();
+        return result;
+    }
+
+    /**
+     * Tells if applying the mask changes the given message.
+     */
+    private boolean affects(Message message) {
+        for (FieldDescriptor field : cleared) {
+            if (isSet(message, field)) {
+                return true;
+            }
+        }
+        for (Map.Entry<FieldDescriptor, CompiledMask> entry : nested.entrySet()) {
+            FieldDescriptor field = entry.getKey();
+            if (message.hasField(field)
+                    && entry.getValue()
+                            .affects((Message) message.getField(field))) {
+                return true;
+            }
+        }
+        boolean hasUnknownFields = !message.getUnknownFields()
+                                           .asMap()
+                                           .isEmpty();
+        return hasUnknownFields;
+    }
+
+    private static boolean isSet(Message message, FieldDescriptor field) {
+        return field.isRepeated()
+               ? message.getRepeatedFieldCount(field) > 0
+               : message.hasField(field);
+    }
+
+    /**
+     * A node of the tree of the field names met in the paths of a mask.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new LinkedHashMap<>();
+
+        /** {@code true} if the field denoted by this node is retained as a whole. */
+        private boolean whole;
+
+        private void add(Iterable<String> path) {
+            Node node = this;
+            for (String name : path) {
+                if (node.whole) {
+                    return;
+                }
+                node = node.children.computeIfAbsent(name, n -> new Node());
+            }
+            node.whole = true;
+            node.children.clear();
+        }
+
+        private CompiledMask compile(Descriptor type) {
+            ImmutableList.Builder<FieldDescriptor> retained = ImmutableList.builder();
+            ImmutableMap.Builder<FieldDescriptor, CompiledMask> nested = ImmutableMap.builder();
+            children.forEach((name, child) -> {
+                FieldDescriptor field = type.findFieldByName(name);
+                if (field == null) {
+                    return;
+                }
+                if (child.whole) {
+                    retained.add(field);
+                } else if (isSingularMessage(field)) {
+                    nested.put(field, child.compile(field.getMessageType()));
+                }
+            });
+            return new CompiledMask(type, retained.build(), nested.build());
+        }
+
+        private static boolean isSingularMessage(FieldDescriptor field) {
+            return !field.isRepeated() && field.getJavaType() == JavaType.MESSAGE;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.FieldMask;
 import io.spine.base.EventMessage;
 import io.spine.core.Event;
-import io.spine.server.type.EventClass;
+import io.spine.type.TypeName;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -35,8 +37,6 @@ import java.util.Optional;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.spine.protobuf.AnyPacker.pack;
-import static io.spine.protobuf.Messages.isDefault;
-import static io.spine.server.entity.FieldMasks.applyMask;
 
 /**
  * An {@link EventFilter} which allows all the events but trims some of their message fields.
@@ -47,10 +47,14 @@ import static io.spine.server.entity.FieldMasks.applyMask;
  *
  * <p>Note that the mask should contain all the {@code (required) = true} fields. Otherwise,
  * the event will not be acknowledged by the bus.
+ *
+ * <p>The masks are compiled for the event types once, when the filter is built. An event which
+ * does not have any of the trimmed fields set is passed as-is, without being copied.
  */
 public final class EventFieldFilter implements EventFilter {
 
-    private final ImmutableMap<EventClass, FieldMask> fieldMasks;
+    /** The compiled masks by the type URLs of the masked event types. */
+    private final ImmutableMap<String, CompiledMask> fieldMasks;
 
     private EventFieldFilter(Builder builder) {
         this.fieldMasks = ImmutableMap.copyOf(builder.masks);
@@ -69,21 +73,34 @@ public final class EventFieldFilter implements EventFilter {
                      .collect(toImmutableList());
     }
 
+    /**
+     * Applies the mask to the message of the given event.
+     *
+     * <p>The event message is not unpacked if there is no mask for its type.
+     */
     private Event maskEvent(Event event) {
+        @Nullable CompiledMask mask = fieldMasks.get(event.getMessage()
+                                                          .getTypeUrl());
+        if (mask == null) {
+            return event;
+        }
         EventMessage message = event.enclosedMessage();
-        EventMessage masked = mask(message);
+        EventMessage masked = mask.apply(message);
+        if (masked == message) {
+            return event;
+        }
         return event.toBuilder()
                     .setMessage(pack(masked))
                     .build();
     }
 
     private EventMessage mask(EventMessage event) {
-        EventClass eventClass = EventClass.of(event);
-        FieldMask mask = fieldMasks.get(eventClass);
-        if (mask == null || isDefault(mask)) {
+        @Nullable CompiledMask mask = fieldMasks.get(TypeUrl.of(event)
+                                                            .value());
+        if (mask == null) {
             return event;
         } else {
-            EventMessage maskedEvent = applyMask(mask, event);
+            EventMessage maskedEvent = mask.apply(event);
             return maskedEvent;
         }
     }
@@ -102,7 +119,7 @@ public final class EventFieldFilter implements EventFilter {
      */
     public static final class Builder {
 
-        private final Map<EventClass, FieldMask> masks = new HashMap<>();
+        private final Map<String, CompiledMask> masks = new HashMap<>();
 
         /**
          * Prevents direct instantiation.
@@ -122,8 +139,15 @@ public final class EventFieldFilter implements EventFilter {
         public Builder putMask(Class<? extends EventMessage> eventClass, FieldMask mask) {
             checkNotNull(eventClass);
             checkNotNull(mask);
-            EventClass eventType = EventClass.from(eventClass);
-            masks.put(eventType, mask);
+            TypeUrl type = TypeUrl.of(eventClass);
+            @Nullable CompiledMask compiled =
+                    CompiledMask.compile(mask, TypeName.of(eventClass)
+                                                       .messageDescriptor());
+            if (compiled == null) {
+                masks.remove(type.value());
+            } else {
+                masks.put(type.value(), compiled);
+            }
             return this;
         }
 
@@ -29,7 +29,7 @@ import java.util.Collection;
 import java.util.Optional;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.server.entity.FilteredEvents.withMessage;
 
 /**
  * A filter accepting {@link Event}s posted by a {@link Repository}.
@@ -88,9 +88,8 @@ public interface EventFilter {
                 .map(event -> {
                     EventMessage eventMessage = event.enclosedMessage();
                     Optional<? extends EventMessage> filtered = filter(eventMessage);
-                    Optional<Event> result = filtered.map(message -> event.toBuilder()
-                                                                          .setMessage(pack(message))
-                                                                          .build());
+                    Optional<Event> result =
+                            filtered.map(message -> withMessage(event, eventMessage, message));
                     return result;
                 })
                 .filter(Optional::isPresent)
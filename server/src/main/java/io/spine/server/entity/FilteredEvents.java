@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.entity;
+
+import io.spine.base.EventMessage;
+import io.spine.core.Event;
+
+import static io.spine.protobuf.AnyPacker.pack;
+
+/**
+ * Utilities for building the events passed through an {@link EventFilter}.
+ */
+final class FilteredEvents {
+
+    /** Prevents the utility class instantiation. */
+    private FilteredEvents() {
+    }
+
+    /**
+     * Obtains the event with the given filtered message.
+     *
+     * <p>If the filter returned the same message instance, the event is returned as-is,
+     * without repacking the message.
+     *
+     * @param event
+     *         the filtered event
+     * @param original
+     *         the message of the filtered event
+     * @param filtered
+     *         the message returned by the filter
+     */
+    static Event withMessage(Event event, EventMessage original, EventMessage filtered) {
+        if (filtered == original) {
+            return event;
+        }
+        return event.toBuilder()
+                    .setMessage(pack(filtered))
+                    .build();
+    }
+}
@@ -36,6 +36,7 @@ import io.spine.server.ContextAware;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.entity.model.EntityClass;
 import io.spine.server.route.Route;
+import io.spine.server.storage.AbstractStorage;
 import io.spine.server.storage.Storage;
 import io.spine.server.storage.StorageFactory;
 import io.spine.server.type.SignalEnvelope;
@@ -306,10 +307,23 @@ public abstract class Repository<I, E extends Entity<I, ?>>
     protected final Storage<I, ?, ?> storage() {
         if (storage == null) {
             this.storage = createStorage();
+            measure(storage);
         }
         return checkStorage(storage);
     }
 
+    /**
+     * Makes the given storage report its metrics named after the context of this repository
+     * and the type of its entities, e.g. {@code Airport.FlightAggregate.read}.
+     */
+    private void measure(@Nullable Storage<I, ?, ?> storage) {
+        if (storage instanceof AbstractStorage && hasContext()) {
+            String name = context().name()
+                                   .getValue() + '.' + entityClass().getSimpleName();
+            ((AbstractStorage<?, ?, ?>) storage).measureAs(name);
+        }
+    }
+
     /**
      * Returns {@code true} if the storage is assigned, {@code false} otherwise.
      */
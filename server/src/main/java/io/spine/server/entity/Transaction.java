@@ -101,6 +101,11 @@ public abstract class Transaction<I,
      */
     private final Version initialVersion;
 
+    /**
+     * The lifecycle flags of the entity before the beginning of the transaction.
+     */
+    private final LifecycleFlags initialLifecycleFlags;
+
     /**
      * The builder for the entity state at the current phase of the transaction.
      *
@@ -113,10 +118,20 @@ public abstract class Transaction<I,
     private B builder;
 
     /**
-     * The {@link EntityRecord} containing the entity data and meta-info before the transaction
-     * start.
+     * Is {@code true} if the {@linkplain #builder builder} may contain changes which are not yet
+     * propagated to the entity.
+     *
+     * <p>The flag is raised when the builder is {@linkplain #builder() obtained} for
+     * modification, and is cleared when the state built from the builder is passed to
+     * the entity. Phases which do not touch the builder therefore do not cause building and
+     * validating the state.
      */
-    private final EntityRecord entityBeforeTransaction;
+    private boolean builderDirty;
+
+    /**
+     * The packed ID of the entity.
+     */
+    private final Any entityId;
 
     /**
      * The version of the entity, modified within this transaction.
@@ -178,14 +193,17 @@ public abstract class Transaction<I,
         this.entity = checkNotNull(entity);
         this.initialState = entity.state();
         this.initialVersion = entity.version();
-        this.builder = toBuilder(entity);
+        this.initialLifecycleFlags = entity.lifecycleFlags();
+        boolean hasDefaultState = initialState.equals(entity.defaultState());
+        this.builder = toBuilder(entity, hasDefaultState);
+        this.builderDirty = hasDefaultState;
+        this.entityId = Identifier.pack(entity.id());
         this.version = entity.version();
         this.lifecycleFlags = entity.lifecycleFlags();
         this.active = true;
 
         this.transactionListener = new SilentWitness<>();
         injectTo(entity);
-        this.entityBeforeTransaction = entityRecord();
     }
 
     /**
@@ -201,10 +219,18 @@ public abstract class Transaction<I,
             B extends ValidatingBuilder<S>>
     B toBuilder(E entity) {
         S currentState = entity.state();
-        @SuppressWarnings("unchecked") // ensured by argument of <E>.
-                B result = (B) currentState.toBuilder();
+        return toBuilder(entity, currentState.equals(entity.defaultState()));
+    }
 
-        if (currentState.equals(entity.defaultState())) {
+    private static <I,
+                    E extends TransactionalEntity<I, S, B>,
+                    S extends EntityState,
+                    B extends ValidatingBuilder<S>>
+    B toBuilder(E entity, boolean hasDefaultState) {
+        @SuppressWarnings("unchecked") // ensured by argument of <E>.
+                B result = (B) entity.state()
+                                     .toBuilder();
+        if (hasDefaultState) {
             IdField idField = IdField.of(entity.modelClass());
             idField.initBuilder(result, entity.id());
         }
@@ -252,7 +278,7 @@ public abstract class Transaction<I,
         TypeUrl typeUrl = entity.state().typeUrl();
         return MessageId
                 .newBuilder()
-                .setId(Identifier.pack(entity.id()))
+                .setId(entityId)
                 .setTypeUrl(typeUrl.value())
                 .setVersion(entity.version())
                 .vBuild();
@@ -333,17 +359,24 @@ public abstract class Transaction<I,
      * After the state is propagated to the entity, its message handler which is invoked during
      * the next step would “see” the {@linkplain Entity#state() state of the entity}.
      *
+     * <p>The same builder is used for all the phases of the transaction. If the builder was not
+     * obtained for modification since the previous phase, the entity already has the actual
+     * state, and only the version is advanced.
+     *
      * @param increment
      *         the strategy for incrementing the version
      */
-    @SuppressWarnings("unchecked")
     final void incrementStateAndVersion(VersionIncrement increment) {
         Version nextVersion = increment.nextVersion();
         checkIsIncrement(version(), nextVersion);
         setVersion(nextVersion);
-        S newState = builder().build();
-        builder = (B) newState.toBuilder();
-        entity().updateState(newState, nextVersion);
+        if (builderDirty) {
+            S newState = builder.build();
+            entity().updateState(newState, nextVersion);
+            builderDirty = false;
+        } else {
+            entity().updateVersion(nextVersion);
+        }
     }
 
     /**
@@ -369,9 +402,8 @@ public abstract class Transaction<I,
      */
     @VisibleForTesting
     public final void commit() throws InvalidEntityStateException, IllegalStateException {
-        B builder = builder();
         // If the transaction is running with phases, the entity already got its state.
-        S newState = withPhases()
+        S newState = withPhases() || !builderDirty
                      ? entity.state()
                      : builder.buildPartial();
         doCommit(newState);
@@ -389,18 +421,25 @@ public abstract class Transaction<I,
      *
      * <p>In case something goes wrong during the commit, the transaction is rolled back and the
      * entity keeps its current state.
+     *
+     * <p>The new state is packed only once and the packed value is shared by the records passed
+     * to the {@linkplain #listener() listener}. It is packed again only if the entity columns
+     * changed the state.
      */
     private void doCommit(@NonValidated S newState) {
         try {
             Version pendingVersion = version();
-            beforeCommit(newState, pendingVersion);
+            Any packedState = pack(newState);
+            beforeCommit(packedState, pendingVersion);
             updateState(newState);
-            updateColumns();
+            boolean columnsUpdated = updateColumns();
             updateVersion();
-            updateStateChanged();
+            boolean stateUpdated = updateStateChanged();
             commitAttributeChanges();
-            EntityRecord newRecord = entityRecord();
-            afterCommit(newRecord);
+            Any committedState = columnsUpdated
+                                 ? pack(entity.state())
+                                 : packedState;
+            afterCommit(committedState, stateUpdated);
         } catch (RuntimeException e) {
             rollback(causeOf(e));
         } finally {
@@ -410,9 +449,12 @@ public abstract class Transaction<I,
 
     /**
      * Propagates the state update to the entity.
+     *
+     * <p>If the transaction is running with phases, the entity already has the new state, which
+     * is validated, so nothing is done.
      */
     private void updateState(@NonValidated S newState) {
-        if (!initialState.equals(newState)) {
+        if (newState != entity.state() && !initialState.equals(newState)) {
             entity.updateState(newState);
         }
     }
@@ -422,12 +464,18 @@ public abstract class Transaction<I,
      *
      * <p>This method should only be invoked after all entity state changes are already applied to
      * the entity, so the column getters that rely on entity state are evaluated correctly.
+     *
+     * @return {@code true} if the state of the entity was updated, {@code false} if the entity
+     *         has no columns with the values calculated by the entity, or if the state already
+     *         has the calculated values
      */
-    private void updateColumns() {
+    private boolean updateColumns() {
         S stateWithColumns = stateWithColumns();
-        if (!stateWithColumns.equals(entity.state())) {
+        if (stateWithColumns != entity.state()) {
             entity.updateState(stateWithColumns);
+            return true;
         }
+        return false;
     }
 
     /**
@@ -444,11 +492,19 @@ public abstract class Transaction<I,
      * Marks entity state as changed if there are any changes.
      *
      * <p>This triggers the storage mechanism.
+     *
+     * <p>The states are compared only if the entity received a new state object within
+     * this transaction.
+     *
+     * @return {@code true} if the state was changed within this transaction
      */
-    private void updateStateChanged() {
-        if (!entity.state().equals(initialState)) {
+    private boolean updateStateChanged() {
+        S state = entity.state();
+        boolean changed = state != initialState && !state.equals(initialState);
+        if (changed) {
             markStateChanged();
         }
+        return changed;
     }
 
     /**
@@ -457,6 +513,8 @@ public abstract class Transaction<I,
      * <p>Some of the columns may be {@linkplain InterfaceBasedColumn implemented} with custom
      * getters declared in the entity class. The values of such columns need to be propagated to
      * the entity state during the transaction commit.
+     *
+     * <p>If the column values are already in the state, returns the current state instance.
      */
     @SuppressWarnings("unchecked") // Logically correct.
     private S stateWithColumns() {
@@ -471,7 +529,8 @@ public abstract class Transaction<I,
         columns.values()
                .forEach(column -> propagateValue(column, stateWithColumns));
         S result = (S) stateWithColumns.build();
-        return result;
+        S current = entity.state();
+        return result.equals(current) ? current : result;
     }
 
     /**
@@ -504,23 +563,49 @@ public abstract class Transaction<I,
         this.active = false;
     }
 
-    private void beforeCommit(S newState, Version newVersion) {
+    private void beforeCommit(Any newState, Version newVersion) {
         LifecycleFlags newFlags = lifecycleFlags();
         @NonValidated EntityRecord record = EntityRecord
                 .newBuilder()
-                .setEntityId(Identifier.pack(entity.id()))
-                .setState(pack(newState))
+                .setEntityId(entityId)
+                .setState(newState)
                 .setLifecycleFlags(newFlags)
                 .setVersion(newVersion)
                 .buildPartial();
         transactionListener.onBeforeCommit(record);
     }
 
-    private void afterCommit(EntityRecord newEntity) {
+    /**
+     * Notifies the listener of the committed change.
+     *
+     * @param committedState
+     *         the packed state of the entity after the commit
+     * @param stateUpdated
+     *         {@code true} if the state was changed within this transaction, {@code false} if
+     *         the committed state may be used as the previous state as well
+     */
+    private void afterCommit(Any committedState, boolean stateUpdated) {
+        Any stateBefore = stateUpdated
+                          ? pack(initialState)
+                          : committedState;
+        EntityRecord previousValue = EntityRecord
+                .newBuilder()
+                .setEntityId(entityId)
+                .setVersion(initialVersion)
+                .setState(stateBefore)
+                .setLifecycleFlags(initialLifecycleFlags)
+                .build();
+        EntityRecord newValue = EntityRecord
+                .newBuilder()
+                .setEntityId(entityId)
+                .setVersion(entity.version())
+                .setState(committedState)
+                .setLifecycleFlags(entity.lifecycleFlags())
+                .build();
         EntityRecordChange change = EntityRecordChange
                 .newBuilder()
-                .setPreviousValue(entityBeforeTransaction)
-                .setNewValue(newEntity)
+                .setPreviousValue(previousValue)
+                .setNewValue(newValue)
                 .build();
         transactionListener.onAfterCommit(change);
     }
@@ -552,7 +637,7 @@ public abstract class Transaction<I,
     private void doRollback(Consumer<EntityRecord> recordConsumer) {
         @NonValidated EntityRecord record = EntityRecord
                 .newBuilder()
-                .setEntityId(Identifier.pack(entity.id()))
+                .setEntityId(entityId)
                 .setState(pack(currentBuilderState()))
                 .setVersion(version)
                 .setLifecycleFlags(lifecycleFlags())
@@ -567,7 +652,7 @@ public abstract class Transaction<I,
      * Does the entity state and version rollback.
      */
     private void rollbackStateAndVersion() {
-        if (!initialState.equals(entity.state())) {
+        if (initialState != entity.state()) {
             entity.setState(initialState);
         }
         if (!initialVersion.equals(entity.version())) {
@@ -575,26 +660,6 @@ public abstract class Transaction<I,
         }
     }
 
-    /**
-     * Creates an {@link EntityRecord} for the entity under transaction.
-     *
-     * @return new {@link EntityRecord}
-     */
-    private EntityRecord entityRecord() {
-        E entity = entity();
-        Any entityId = Identifier.pack(entity.id());
-        Version version = entity.version();
-        Any state = pack(entity.state());
-        LifecycleFlags lifecycleFlags = entity.lifecycleFlags();
-        return EntityRecord
-                .newBuilder()
-                .setEntityId(entityId)
-                .setVersion(version)
-                .setState(state)
-                .setLifecycleFlags(lifecycleFlags)
-                .build();
-    }
-
     private @NonValidated S currentBuilderState() {
         return builder.buildPartial();
     }
@@ -621,8 +686,12 @@ public abstract class Transaction<I,
 
     /**
      * Obtains the builder for the current transaction.
+     *
+     * <p>The builder is considered modified since it is obtained, so the state built from it
+     * is propagated to the entity by the next phase or upon the commit.
      */
     final B builder() {
+        builderDirty = true;
         return builder;
     }
 
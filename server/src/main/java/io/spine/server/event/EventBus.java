@@ -274,6 +274,9 @@ public final class EventBus
                                  .storageFactory()
                                  .createEventStore(context.spec());
         eventStore.registerWith(context);
+        if (enricher != null) {
+            enricher.registerCachesWith(context);
+        }
     }
 
     @Override
@@ -307,6 +310,11 @@ public final class EventBus
             return new EventDispatcherRegistry();
         }
 
+        @Override
+        protected String busKind() {
+            return EventBus.class.getSimpleName();
+        }
+
         /**
          * Sets a custom {@link Enricher} for events posted to
          * the {@code EventBus} which is being built.
@@ -38,6 +38,7 @@ import io.spine.server.tenant.EventOperation;
 import io.spine.server.tenant.TenantAwareOperation;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -46,7 +47,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.flogger.LazyArgs.lazy;
-import static io.spine.server.event.EventComparator.chronological;
+import static io.spine.server.event.EventComparator.sortChronologically;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -161,13 +163,13 @@ public final class DefaultEventStore
         Iterator<EEntity> iterator = find(query);
         ImmutableList<EEntity> entities = ImmutableList.copyOf(iterator);
         Predicate<Event> predicate = new MatchesStreamQuery(query);
-        Iterator<Event> result = entities
+        List<Event> events = entities
                 .stream()
                 .map(EEntity::state)
                 .filter(predicate)
-                .sorted(chronological())
-                .iterator();
-        return result;
+                .collect(toList());
+        sortChronologically(events);
+        return events.iterator();
     }
 
     @Override
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.metric;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code MetricRegistry} which keeps the reported values in memory.
+ *
+ * <p>Suitable for tests and local development, as it allows to read the recorded values.
+ */
+public final class InMemoryMetricRegistry implements MetricRegistry {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, MemoizingTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    private InMemoryMetricRegistry() {
+    }
+
+    /**
+     * Creates a new empty registry.
+     */
+    public static InMemoryMetricRegistry newInstance() {
+        return new InMemoryMetricRegistry();
+    }
+
+    @Override
+    public Counter counter(String name) {
+        checkNotNull(name);
+        LongAdder adder = counters.computeIfAbsent(name, n -> new LongAdder());
+        return adder::add;
+    }
+
+    @Override
+    public Timer timer(String name) {
+        checkNotNull(name);
+        return timers.computeIfAbsent(name, n -> new MemoizingTimer());
+    }
+
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        checkNotNull(name);
+        checkNotNull(value);
+        gauges.put(name, value);
+    }
+
+    /**
+     * Obtains the current value of the counter with the given name.
+     *
+     * @return the counted value or zero if the counter was never obtained
+     */
+    public long count(String name) {
+        LongAdder adder = counters.get(name);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * Obtains the number of durations recorded by the timer with the given name.
+     */
+    public long timedCount(String name) {
+        MemoizingTimer timer = timers.get(name);
+        return timer == null ? 0L : timer.count.sum();
+    }
+
+    /**
+     * Obtains the total of durations in nanoseconds recorded by the timer with the given name.
+     */
+    public long timedNanos(String name) {
+        MemoizingTimer timer = timers.get(name);
+        return timer == null ? 0L : timer.nanos.sum();
+    }
+
+    /**
+     * Calculates the current value of the gauge with the given name.
+     *
+     * @return the value of the gauge or {@code OptionalLong.empty()} if there is no such gauge
+     */
+    public OptionalLong gaugeValue(String name) {
+        LongSupplier gauge = gauges.get(name);
+        return gauge == null
+               ? OptionalLong.empty()
+               : OptionalLong.of(gauge.getAsLong());
+    }
+
+    /**
+     * Obtains the names of all the gauges registered so far.
+     */
+    public ImmutableSet<String> gauges() {
+        return ImmutableSet.copyOf(gauges.keySet());
+    }
+
+    /**
+     * A timer which accumulates the number and the total of the recorded durations.
+     */
+    private static final class MemoizingTimer implements Timer {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        @Override
+        public void record(long nanos) {
+            this.count.increment();
+            this.nanos.add(nanos);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.metric;
+
+import io.spine.annotation.SPI;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A registry of the metrics reported by the framework.
+ *
+ * <p>The metrics are identified by their names. By convention, a name consists of the name
+ * of the Bounded Context, the reporting component and the measured value separated by dots,
+ * e.g. {@code Airport.CommandBus.posted}. The storages are named after the type of their
+ * entities, e.g. {@code Airport.FlightAggregate.read}. The components shared by all
+ * the contexts, such as {@code Delivery}, omit the context name.
+ *
+ * <p>Implementations must be thread-safe. Asking for a counter or a timer with the same name
+ * several times should give the metric instances reporting to the same value.
+ */
+@SPI
+public interface MetricRegistry {
+
+    /**
+     * Obtains the counter with the given name.
+     */
+    Counter counter(String name);
+
+    /**
+     * Obtains the timer with the given name.
+     */
+    Timer timer(String name);
+
+    /**
+     * Registers a gauge with the given name.
+     *
+     * <p>The passed function is only called when the value of the gauge is requested
+     * by the monitoring system. Registering a gauge with the same name again replaces
+     * the previous one.
+     *
+     * @param name
+     *         the name of the gauge
+     * @param value
+     *         the function calculating the current value of the gauge
+     */
+    void gauge(String name, LongSupplier value);
+
+    /**
+     * Obtains a registry which discards all the reported values.
+     */
+    static MetricRegistry noOp() {
+        return NoOpMetricRegistry.INSTANCE;
+    }
+}
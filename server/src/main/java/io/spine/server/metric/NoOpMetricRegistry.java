@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.metric;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A null-object implementation of {@code MetricRegistry}.
+ *
+ * <p>The instance serves as all the counters and the timers it produces. Its timers do not
+ * read the system clock, so that the instrumented code pays only for an empty call.
+ */
+enum NoOpMetricRegistry implements MetricRegistry, Counter, Timer {
+
+    INSTANCE;
+
+    @Override
+    public Counter counter(String name) {
+        return this;
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return this;
+    }
+
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        // Do nothing.
+    }
+
+    @Override
+    public void increment(long delta) {
+        // Do nothing.
+    }
+
+    @Override
+    public void increment() {
+        // Do nothing.
+    }
+
+    @Override
+    public void record(long nanos) {
+        // Do nothing.
+    }
+
+    @Override
+    public long start() {
+        return 0L;
+    }
+
+    @Override
+    public void stop(long start) {
+        // Do nothing.
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.metric;
+
+import io.spine.annotation.SPI;
+
+/**
+ * A metric which records the duration of operations, such as dispatching of a message.
+ *
+ * <p>A typical usage is:
+ * <pre>
+ *     long start = timer.start();
+ *     try {
+ *         // Perform the operation.
+ *     } finally {
+ *         timer.stop(start);
+ *     }
+ * </pre>
+ */
+@SPI
+public interface Timer {
+
+    /**
+     * Records a duration of an operation.
+     *
+     * @param nanos
+     *         the duration in nanoseconds
+     */
+    void record(long nanos);
+
+    /**
+     * Marks the start of a timed operation.
+     *
+     * @return the value to pass to {@link #stop(long)} once the operation is completed
+     */
+    default long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the duration of an operation started at the given mark.
+     *
+     * @param start
+     *         the value returned by {@link #start()} when the operation started
+     */
+    default void stop(long start) {
+        record(System.nanoTime() - start);
+    }
+}
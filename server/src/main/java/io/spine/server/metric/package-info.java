@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/**
+ * This package defines the Spine Metrics API.
+ *
+ * <p>The API allows users to integrate with various monitoring systems in order to observe
+ * the load on the buses, the delivery and the storages of their applications.
+ *
+ * <p>The entry point to integrating a third-party monitoring system is
+ * {@link io.spine.server.metric.MetricRegistry}. The registry is configured per environment
+ * type via {@link io.spine.server.ServerEnvironment}. If none is configured,
+ * {@linkplain io.spine.server.metric.MetricRegistry#noOp() a no-op registry} is used.
+ *
+ * <p>The framework components obtain their metrics from the registry upon creation. Therefore,
+ * the registry should be configured before the Bounded Contexts are built.
+ *
+ * @see io.spine.server.metric.MetricRegistry
+ * @see io.spine.server.ServerEnvironment#metrics()
+ */
+
+@CheckReturnValue
+@ParametersAreNonnullByDefault
+package io.spine.server.metric;
+
+import com.google.errorprone.annotations.CheckReturnValue;
+
+import javax.annotation.ParametersAreNonnullByDefault;
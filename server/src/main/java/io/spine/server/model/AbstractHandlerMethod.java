@@ -83,6 +83,14 @@ public abstract class AbstractHandlerMethod<T,
     @SuppressWarnings("Immutable")
     private final Method method;
 
+    /**
+     * The invoker calling the {@linkplain #method method} directly, if its signature allows.
+     *
+     * @see MethodInvoker
+     */
+    @SuppressWarnings("Immutable") // Invokers are stateless wrappers over the method.
+    private final MethodInvoker invoker;
+
     /** The class of the first parameter. */
     private final Class<M> messageClass;
 
@@ -130,6 +138,7 @@ public abstract class AbstractHandlerMethod<T,
         this.parameterSpec = parameterSpec;
         this.producedTypes = memoize(() -> collectMessageClasses(method));
         method.setAccessible(true);
+        this.invoker = MethodInvoker.of(method);
     }
 
     /**
@@ -289,7 +298,7 @@ public abstract class AbstractHandlerMethod<T,
     private Success doInvoke(T target, E envelope)
             throws IllegalAccessException, InvocationTargetException {
         Object[] arguments = parameterSpec.extractArguments(envelope);
-        Object rawOutput = method.invoke(target, arguments);
+        Object rawOutput = invoker.invoke(target, arguments);
         return toSuccessfulOutcome(rawOutput, target, envelope);
     }
 
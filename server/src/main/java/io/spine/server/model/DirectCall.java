@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.model;
+
+/**
+ * Functional interfaces, implementations of which are generated for handler methods by
+ * {@link java.lang.invoke.LambdaMetafactory LambdaMetafactory}.
+ *
+ * <p>Each interface describes a shape of an instance method with one to three parameters,
+ * either returning a value or {@code void}. The first argument of each functional method is
+ * the object on which the handler method is called.
+ *
+ * <p>The interfaces are {@code public} because the generated implementations are defined
+ * in the context of classes declaring the handler methods, which may reside in any package.
+ *
+ * @see MethodInvoker
+ */
+public final class DirectCall {
+
+    /** Prevents the utility class instantiation. */
+    private DirectCall() {
+    }
+
+    /**
+     * A method with one parameter returning a value.
+     */
+    @FunctionalInterface
+    public interface Fn1 {
+
+        Object call(Object target, Object arg);
+    }
+
+    /**
+     * A method with two parameters returning a value.
+     */
+    @FunctionalInterface
+    public interface Fn2 {
+
+        Object call(Object target, Object arg1, Object arg2);
+    }
+
+    /**
+     * A method with three parameters returning a value.
+     */
+    @FunctionalInterface
+    public interface Fn3 {
+
+        Object call(Object target, Object arg1, Object arg2, Object arg3);
+    }
+
+    /**
+     * A {@code void} method with one parameter.
+     */
+    @FunctionalInterface
+    public interface VoidFn1 {
+
+        void call(Object target, Object arg);
+    }
+
+    /**
+     * A {@code void} method with two parameters.
+     */
+    @FunctionalInterface
+    public interface VoidFn2 {
+
+        void call(Object target, Object arg1, Object arg2);
+    }
+
+    /**
+     * A {@code void} method with three parameters.
+     */
+    @FunctionalInterface
+    public interface VoidFn3 {
+
+        void call(Object target, Object arg1, Object arg2, Object arg3);
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.primitives.Primitives;
+import io.spine.server.model.DirectCall.Fn1;
+import io.spine.server.model.DirectCall.Fn2;
+import io.spine.server.model.DirectCall.Fn3;
+import io.spine.server.model.DirectCall.VoidFn1;
+import io.spine.server.model.DirectCall.VoidFn2;
+import io.spine.server.model.DirectCall.VoidFn3;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.invoke.MethodType.genericMethodType;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Calls a handler method on a target object.
+ *
+ * <p>An invoker is created once per {@linkplain AbstractHandlerMethod handler method} when
+ * the model class is built, and is then reused for every dispatched message. The way of calling
+ * the method is selected by its signature:
+ * <ol>
+ *     <li>An instance method with one to three parameters of reference types is called through
+ *         an implementation of a {@link DirectCall} interface generated by
+ *         {@link LambdaMetafactory}. This requires {@code MethodHandles.privateLookupIn(..)},
+ *         which is available since Java 9.
+ *     <li>Other instance methods are called through a {@link MethodHandle} which accepts
+ *         an array of arguments.
+ *     <li>Static and varargs methods, as well as the methods which cannot be looked up,
+ *         are called via Reflection.
+ * </ol>
+ *
+ * <p>Regardless of the way of calling, an exception thrown by the handler method is
+ * propagated wrapped into an {@link InvocationTargetException}, just like
+ * {@link Method#invoke(Object, Object...)} does. Arguments which do not match the method
+ * parameters are reported with an {@link IllegalArgumentException} instead.
+ */
+abstract class MethodInvoker {
+
+    /**
+     * The maximum number of parameters of a method which may be called through
+     * a generated lambda.
+     */
+    private static final int MAX_DIRECT_PARAMS = 3;
+
+    /**
+     * The name of the functional method in the {@link DirectCall} interfaces.
+     */
+    private static final String FUNCTION_NAME = "call";
+
+    /**
+     * Functional interfaces for methods returning a value, indexed by the number of parameters.
+     */
+    private static final ImmutableList<Class<?>> FUNCTIONS =
+            ImmutableList.of(Fn1.class, Fn2.class, Fn3.class);
+
+    /**
+     * Functional interfaces for {@code void} methods, indexed by the number of parameters.
+     */
+    private static final ImmutableList<Class<?>> VOID_FUNCTIONS =
+            ImmutableList.of(VoidFn1.class, VoidFn2.class, VoidFn3.class);
+
+    /**
+     * The {@code MethodHandles.privateLookupIn(Class, Lookup)} method, or {@code null} if
+     * the current JVM does not provide it.
+     */
+    private static final @Nullable Method privateLookupIn = findPrivateLookupIn();
+
+    /**
+     * The primitive widening conversions allowed when passing an argument to
+     * a primitive parameter.
+     */
+    private static final ImmutableSetMultimap<Class<?>, Class<?>> WIDENING =
+            ImmutableSetMultimap.<Class<?>, Class<?>>builder()
+                    .putAll(byte.class, short.class, int.class, long.class,
+                            float.class, double.class)
+                    .putAll(short.class, int.class, long.class, float.class, double.class)
+                    .putAll(char.class, int.class, long.class, float.class, double.class)
+                    .putAll(int.class, long.class, float.class, double.class)
+                    .putAll(long.class, float.class, double.class)
+                    .putAll(float.class, double.class)
+                    .build();
+
+    /**
+     * Calls the method on the given target with the given arguments.
+     *
+     * @param target
+     *         the object on which to call the method
+     * @param arguments
+     *         the arguments of the call
+     * @return the value returned by the method, or {@code null} if the method is {@code void}
+     * @throws InvocationTargetException
+     *         if the method throws an exception
+     * @throws IllegalArgumentException
+     *         if the target or the arguments do not match the method
+     * @throws IllegalAccessException
+     *         if the method is called via Reflection and is not accessible
+     */
+    abstract @Nullable Object invoke(Object target, Object[] arguments)
+            throws InvocationTargetException, IllegalAccessException;
+
+    /**
+     * Creates a new invoker for the given method.
+     *
+     * <p>The method is expected to be {@linkplain Method#setAccessible(boolean) accessible}.
+     */
+    static MethodInvoker of(Method method) {
+        checkNotNull(method);
+        if (Modifier.isStatic(method.getModifiers()) || method.isVarArgs()) {
+            return new Reflective(method);
+        }
+        Optional<MethodInvoker> direct = direct(method);
+        if (direct.isPresent()) {
+            return direct.get();
+        }
+        Optional<MethodInvoker> viaHandle = viaHandle(method);
+        return viaHandle.orElseGet(() -> new Reflective(method));
+    }
+
+    /**
+     * Attempts to generate a lambda calling the given method.
+     *
+     * @return the invoker calling the generated lambda, or {@code Optional.empty()} if
+     *         the method has an unsupported signature or the lambda cannot be generated
+     */
+    @SuppressWarnings("OverlyBroadCatchBlock")
+        // Any failure of generating the lambda means falling back to other ways of calling.
+    private static Optional<MethodInvoker> direct(Method method) {
+        int paramCount = method.getParameterCount();
+        if (paramCount == 0 || paramCount > MAX_DIRECT_PARAMS || hasPrimitiveParams(method)) {
+            return Optional.empty();
+        }
+        Optional<Lookup> lookup = privateLookupIn(method.getDeclaringClass());
+        if (!lookup.isPresent()) {
+            return Optional.empty();
+        }
+        boolean returnsVoid = method.getReturnType() == void.class;
+        Class<?> function = returnsVoid
+                            ? VOID_FUNCTIONS.get(paramCount - 1)
+                            : FUNCTIONS.get(paramCount - 1);
+        MethodType functionType = returnsVoid
+                                  ? genericMethodType(paramCount + 1).changeReturnType(void.class)
+                                  : genericMethodType(paramCount + 1);
+        try {
+            Lookup caller = lookup.get();
+            MethodHandle implementation = caller.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(caller,
+                                                          FUNCTION_NAME,
+                                                          methodType(function),
+                                                          functionType,
+                                                          implementation,
+                                                          implementation.type());
+            Object lambda = site.getTarget()
+                                .invoke();
+            return Optional.of(wrap(method, lambda));
+        } catch (Throwable ignored) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean hasPrimitiveParams(Method method) {
+        for (Class<?> type : method.getParameterTypes()) {
+            if (type.isPrimitive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MethodInvoker wrap(Method method, Object lambda) {
+        if (lambda instanceof Fn1) {
+            return new Direct1(method, (Fn1) lambda);
+        }
+        if (lambda instanceof Fn2) {
+            return new Direct2(method, (Fn2) lambda);
+        }
+        if (lambda instanceof Fn3) {
+            return new Direct3(method, (Fn3) lambda);
+        }
+        if (lambda instanceof VoidFn1) {
+            return new DirectVoid1(method, (VoidFn1) lambda);
+        }
+        if (lambda instanceof VoidFn2) {
+            return new DirectVoid2(method, (VoidFn2) lambda);
+        }
+        return new DirectVoid3(method, (VoidFn3) lambda);
+    }
+
+    /**
+     * Obtains a lookup with private access to the given class.
+     *
+     * @return the lookup or {@code Optional.empty()} if running on Java 8 or if the access
+     *         is denied
+     */
+    private static Optional<Lookup> privateLookupIn(Class<?> cls) {
+        if (privateLookupIn == null) {
+            return Optional.empty();
+        }
+        try {
+            Lookup result = (Lookup) privateLookupIn.invoke(null, cls, MethodHandles.lookup());
+            return Optional.of(result);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static @Nullable Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, Lookup.class);
+        } catch (NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Attempts to create an invoker which calls the given method through a method handle.
+     */
+    private static Optional<MethodInvoker> viaHandle(Method method) {
+        int paramCount = method.getParameterCount();
+        try {
+            MethodHandle handle = MethodHandles
+                    .lookup()
+                    .unreflect(method)
+                    .asType(genericMethodType(paramCount + 1))
+                    .asSpreader(Object[].class, paramCount);
+            return Optional.of(new ViaHandle(method, handle));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Calls a method via Reflection.
+     */
+    static final class Reflective extends MethodInvoker {
+
+        private final Method method;
+
+        private Reflective(Method method) {
+            super();
+            this.method = method;
+        }
+
+        @Override
+        @Nullable Object invoke(Object target, Object[] arguments)
+                throws InvocationTargetException, IllegalAccessException {
+            return method.invoke(target, arguments);
+        }
+    }
+
+    /**
+     * Base for invokers which call a method bypassing Reflection.
+     *
+     * <p>The target and the arguments are checked before the call, so that only
+     * the throwables raised by the method itself are wrapped into
+     * an {@link InvocationTargetException}. A mismatching argument is reported with
+     * an {@link IllegalArgumentException}, and a {@code null} target with
+     * a {@link NullPointerException}, as {@link Method#invoke(Object, Object...)} does.
+     */
+    abstract static class Checked extends MethodInvoker {
+
+        private final Class<?> declaringClass;
+        private final Class<?>[] parameterTypes;
+
+        private Checked(Method method) {
+            super();
+            this.declaringClass = method.getDeclaringClass();
+            this.parameterTypes = method.getParameterTypes();
+        }
+
+        @Override
+        final @Nullable Object invoke(Object target, Object[] arguments)
+                throws InvocationTargetException {
+            checkCall(target, arguments);
+            try {
+                return call(target, arguments);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        /**
+         * Calls the method with the arguments which are already checked.
+         */
+        abstract @Nullable Object call(Object target, Object[] arguments) throws Throwable;
+
+        private void checkCall(Object target, Object[] arguments) {
+            checkNotNull(target);
+            if (!declaringClass.isInstance(target)) {
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+            if (arguments.length != parameterTypes.length) {
+                throw new IllegalArgumentException("wrong number of arguments");
+            }
+            for (int i = 0; i < arguments.length; i++) {
+                if (!isAssignable(parameterTypes[i], arguments[i])) {
+                    throw new IllegalArgumentException("argument type mismatch");
+                }
+            }
+        }
+
+        /**
+         * Verifies if the argument may be passed as a parameter of the given type.
+         *
+         * <p>A primitive parameter accepts a wrapper of the same primitive type or of
+         * a type which widens to it.
+         */
+        private static boolean isAssignable(Class<?> type, @Nullable Object argument) {
+            if (!type.isPrimitive()) {
+                return argument == null || type.isInstance(argument);
+            }
+            if (argument == null) {
+                return false;
+            }
+            Class<?> argumentType = Primitives.unwrap(argument.getClass());
+            return argumentType == type || WIDENING.containsEntry(argumentType, type);
+        }
+    }
+
+    /**
+     * Calls a method through a method handle accepting the target and an array of arguments.
+     */
+    static final class ViaHandle extends Checked {
+
+        private final MethodHandle handle;
+
+        private ViaHandle(Method method, MethodHandle handle) {
+            super(method);
+            this.handle = handle;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            return (Object) handle.invokeExact(target, arguments);
+        }
+    }
+
+    /**
+     * Base for invokers calling a generated lambda.
+     */
+    abstract static class Direct extends Checked {
+
+        private Direct(Method method) {
+            super(method);
+        }
+    }
+
+    private static final class Direct1 extends Direct {
+
+        private final Fn1 fn;
+
+        private Direct1(Method method, Fn1 fn) {
+            super(method);
+            this.fn = fn;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            return fn.call(target, arguments[0]);
+        }
+    }
+
+    private static final class Direct2 extends Direct {
+
+        private final Fn2 fn;
+
+        private Direct2(Method method, Fn2 fn) {
+            super(method);
+            this.fn = fn;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            return fn.call(target, arguments[0], arguments[1]);
+        }
+    }
+
+    private static final class Direct3 extends Direct {
+
+        private final Fn3 fn;
+
+        private Direct3(Method method, Fn3 fn) {
+            super(method);
+            this.fn = fn;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            return fn.call(target, arguments[0], arguments[1], arguments[2]);
+        }
+    }
+
+    private static final class DirectVoid1 extends Direct {
+
+        private final VoidFn1 fn;
+
+        private DirectVoid1(Method method, VoidFn1 fn) {
+            super(method);
+            this.fn = fn;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            fn.call(target, arguments[0]);
+            return null;
+        }
+    }
+
+    private static final class DirectVoid2 extends Direct {
+
+        private final VoidFn2 fn;
+
+        private DirectVoid2(Method method, VoidFn2 fn) {
+            super(method);
+            this.fn = fn;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            fn.call(target, arguments[0], arguments[1]);
+            return null;
+        }
+    }
+
+    private static final class DirectVoid3 extends Direct {
+
+        private final VoidFn3 fn;
+
+        private DirectVoid3(Method method, VoidFn3 fn) {
+            super(method);
+            this.fn = fn;
+        }
+
+        @Override
+        @Nullable Object call(Object target, Object[] arguments) throws Throwable {
+            fn.call(target, arguments[0], arguments[1], arguments[2]);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.projection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.FieldMask;
+import io.spine.base.EntityState;
+import io.spine.core.Event;
+import io.spine.server.delivery.CatchUpProcess.RebuildCatchingUp;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardJob;
+import io.spine.server.dispatch.DispatchOutcome;
+import io.spine.server.entity.EntityLifecycleMonitor;
+import io.spine.server.entity.TransactionListener;
+import io.spine.server.storage.RecordStorage;
+import io.spine.server.tenant.TenantAwareRunner;
+import io.spine.server.type.EventEnvelope;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.server.projection.ProjectionTransaction.start;
+import static io.spine.server.tenant.TenantAwareRunner.withCurrentTenant;
+
+/**
+ * Applies the historical events to the projections under the catch-up directly, bypassing
+ * their inboxes.
+ *
+ * <p>The events are routed to their targets, which are grouped by their shards. The shards are
+ * processed in parallel, each in its {@linkplain Delivery#runInSessions(Map) session}, so that
+ * the projections are never modified concurrently with the delivery of their inboxes.
+ * Within a session, the projections of the shard are loaded from the storage in bulk, and each
+ * of them receives its events in the chronological order, one transaction per event. Then
+ * the changed projections of the shard are written to the storage in a single bulk operation.
+ * The session is extended before each projection is processed. If the session is lost,
+ * the projections of the shard are not stored, and the rebuild fails.
+ *
+ * <p>Similarly to the {@link CatchUpEndpoint}, no lifecycle events are emitted upon
+ * a successful dispatching.
+ *
+ * @param <I>
+ *         the type of IDs of projections
+ * @param <P>
+ *         the type of projections
+ * @param <S>
+ *         the type of projection state messages
+ */
+final class ProjectionRebuild<I, P extends Projection<I, S, ?>, S extends EntityState>
+        implements RebuildCatchingUp<I> {
+
+    private final ProjectionRepository<I, P, S> repository;
+    private final Delivery delivery;
+    private final boolean multitenant;
+
+    ProjectionRebuild(ProjectionRepository<I, P, S> repository,
+                      Delivery delivery,
+                      boolean multitenant) {
+        this.repository = repository;
+        this.delivery = delivery;
+        this.multitenant = multitenant;
+    }
+
+    /**
+     * Deletes the records of the projections with the given IDs.
+     *
+     * <p>The records of each shard are deleted in bulk in the session of the shard.
+     */
+    @Override
+    public void reset(Set<I> ids) {
+        RecordStorage<I> storage = repository.recordStorage();
+        runPerShard(ids, (shardIds, heartbeat) -> storage.deleteAll(shardIds));
+    }
+
+    @Override
+    public void apply(List<Event> events, @Nullable Set<I> narrowDownToIds) {
+        Map<I, List<EventEnvelope>> eventsByTarget = groupByTarget(events, narrowDownToIds);
+        if (eventsByTarget.isEmpty()) {
+            return;
+        }
+        runPerShard(eventsByTarget.keySet(),
+                    (shardIds, heartbeat) -> replay(shardIds, eventsByTarget, heartbeat));
+    }
+
+    /**
+     * Groups the given projection IDs by their shards and runs the given operation upon
+     * the IDs of each shard in the session of the shard.
+     *
+     * <p>The operation receives the heartbeat of the session along with the IDs.
+     */
+    private void runPerShard(Set<I> ids, BiConsumer<List<I>, BooleanSupplier> operation) {
+        TenantAwareRunner runner = withCurrentTenant(multitenant);
+        Map<ShardIndex, ShardJob> jobs = new HashMap<>();
+        groupByShard(ids).forEach(
+                (shard, shardIds) -> jobs.put(shard, heartbeat -> runner.run(
+                        () -> operation.accept(shardIds, heartbeat)
+                ))
+        );
+        delivery.runInSessions(jobs);
+    }
+
+    private Map<I, List<EventEnvelope>>
+    groupByTarget(List<Event> events, @Nullable Set<I> narrowDownToIds) {
+        Map<I, List<EventEnvelope>> result = new LinkedHashMap<>();
+        for (Event event : events) {
+            EventEnvelope envelope = EventEnvelope.of(event);
+            Set<I> targets = repository.routeCatchingUp(envelope, narrowDownToIds);
+            for (I target : targets) {
+                result.computeIfAbsent(target, id -> new ArrayList<>())
+                      .add(envelope);
+            }
+        }
+        return result;
+    }
+
+    private Map<ShardIndex, List<I>> groupByShard(Set<I> ids) {
+        TypeUrl stateType = repository.entityStateType();
+        Map<ShardIndex, List<I>> result = new HashMap<>();
+        for (I id : ids) {
+            ShardIndex shard = delivery.whichShardFor(id, stateType);
+            result.computeIfAbsent(shard, index -> new ArrayList<>())
+                  .add(id);
+        }
+        return result;
+    }
+
+    private void replay(List<I> ids,
+                        Map<I, List<EventEnvelope>> eventsByTarget,
+                        BooleanSupplier heartbeat) {
+        Map<I, P> projections = findOrCreate(ids);
+        for (I id : ids) {
+            if (!heartbeat.getAsBoolean()) {
+                return;
+            }
+            P projection = projections.get(id);
+            for (EventEnvelope event : eventsByTarget.get(id)) {
+                dispatch(projection, event);
+            }
+        }
+        ImmutableList<P> changed = projections.values()
+                                              .stream()
+                                              .filter(Projection::changed)
+                                              .collect(toImmutableList());
+        if (!changed.isEmpty()) {
+            repository.store(changed);
+        }
+    }
+
+    private Map<I, P> findOrCreate(List<I> ids) {
+        Map<I, P> result = new HashMap<>(ids.size());
+        Iterator<P> found = repository.loadAll(ids, FieldMask.getDefaultInstance());
+        found.forEachRemaining(projection -> result.put(projection.id(), projection));
+        for (I id : ids) {
+            if (!result.containsKey(id)) {
+                result.put(id, repository.create(id));
+            }
+        }
+        return result;
+    }
+
+    private void dispatch(P projection, EventEnvelope event) {
+        ProjectionTransaction<I, S, ?> tx = start(projection);
+        TransactionListener<I> listener =
+                EntityLifecycleMonitor.newInstance(repository, projection.id());
+        tx.setListener(listener);
+        DispatchOutcome outcome = projection.play(event.outerObject());
+        tx.commitIfActive();
+        if (outcome.hasError()) {
+            repository.lifecycleOf(projection.id())
+                      .onDispatchingFailed(event, outcome.getError());
+        }
+    }
+}
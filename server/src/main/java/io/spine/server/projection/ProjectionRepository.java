@@ -158,7 +158,10 @@ public abstract class ProjectionRepository<I, P extends Projection<I, S, ?>, S e
      */
     private void initCatchUp(BoundedContext context, Delivery delivery) {
         CatchUpProcessBuilder<I> builder = delivery.newCatchUpProcess(this);
+        ProjectionRebuild<I, P, S> rebuild =
+                new ProjectionRebuild<>(this, delivery, context.isMultitenant());
         catchUpProcess = builder.setDispatchOp(this::sendToCatchingUp)
+                                .setRebuildOp(rebuild)
                                 .build();
         context.internalAccess()
                .registerEventDispatcher(catchUpProcess);
@@ -454,6 +457,61 @@ public abstract class ProjectionRepository<I, P extends Projection<I, S, ?>, S e
         return catchUp(since, null);
     }
 
+    /**
+     * Rebuilds the states of the requested entities by applying the events from the event log
+     * to them directly, since the specified time.
+     *
+     * <p>Unlike {@link #catchUp(Timestamp, Set)}, the historical events are not sent to
+     * the inboxes of the projections. The events are read from the {@code EventStore} page by
+     * page, and each page is applied to the in-memory projection instances in parallel, one task
+     * per shard. The updated projections are then written to the storage in bulk.
+     *
+     * <p>The events which are close to the current time are delivered through the inboxes
+     * in the same way as during the {@linkplain #catchUp(Timestamp, Set) catch-up}. After that,
+     * the framework resumes the dispatching of the live events.
+     *
+     * <p>This mode is intended for rebuilding large numbers of projections, when the writes
+     * to the inboxes would dominate the catch-up time. The size of each page is defined by
+     * the {@linkplain io.spine.server.delivery.DeliveryBuilder#setCatchUpPageSize(int) Delivery
+     * settings}.
+     *
+     * @param since
+     *         point in the past, since which the rebuild should be performed
+     * @param ids
+     *         identifiers of the entities to rebuild, {@code null} means that all entities
+     *         should be rebuilt
+     * @return identifier of the catch-up operation
+     * @throws CatchUpAlreadyStartedException
+     *         if another catch-up for the same entity type and overlapping targets is already in
+     *         progress
+     * @see #rebuildAll(Timestamp)
+     */
+    public CatchUpId rebuild(Timestamp since, @Nullable Set<I> ids)
+            throws CatchUpAlreadyStartedException {
+        checkCatchUpTargets(ids);
+        checkCatchUpStartTime(since);
+
+        CatchUpId catchUpId = withCurrentTenant(context().isMultitenant())
+                .evaluate(() -> catchUpProcess.startRebuild(since, ids));
+        return catchUpId;
+    }
+
+    /**
+     * Rebuilds all entities in this repository.
+     *
+     * <p>This is a shortcut method for {@link #rebuild(Timestamp, Set) rebuild(since, null)}.
+     *
+     * @param since
+     *         point in the past, since which the rebuild should be performed
+     * @return identifier of the catch-up operation
+     * @throws CatchUpAlreadyStartedException
+     *         if another catch-up for the same entity type is already in progress
+     * @see #rebuild(Timestamp, Set)
+     */
+    public CatchUpId rebuildAll(Timestamp since) throws CatchUpAlreadyStartedException {
+        return rebuild(since, null);
+    }
+
     /**
      * Sends the event to the inboxes of the catching-up projection instances.
      *
@@ -489,10 +547,7 @@ public abstract class ProjectionRepository<I, P extends Projection<I, S, ?>, S e
                              ? ImmutableSet.copyOf(index())
                              : restrictToIds;
         } else {
-            Set<I> routedTargets = route(envelope);
-            catchUpTargets = restrictToIds == null
-                             ? routedTargets
-                             : intersection(routedTargets, restrictToIds).immutableCopy();
+            catchUpTargets = routeCatchingUp(envelope, restrictToIds);
         }
         Inbox<I> inbox = inbox();
         for (I target : catchUpTargets) {
@@ -502,6 +557,23 @@ public abstract class ProjectionRepository<I, P extends Projection<I, S, ?>, S e
         return catchUpTargets;
     }
 
+    /**
+     * Routes the historical event to the catching-up projections.
+     *
+     * @param event
+     *         the event to route
+     * @param restrictToIds
+     *         optional set of the target identifiers to which the routing must be restricted
+     * @return the identifiers of the projections to which the event should be dispatched
+     */
+    final Set<I> routeCatchingUp(EventEnvelope event, @Nullable Set<I> restrictToIds) {
+        Set<I> routedTargets = route(event);
+        Set<I> result = restrictToIds == null
+                        ? routedTargets
+                        : intersection(routedTargets, restrictToIds).immutableCopy();
+        return result;
+    }
+
     @OverridingMethodsMustInvokeSuper
     @Override
     public void close() {
@@ -21,7 +21,6 @@
 package io.spine.server.route;
 
 import com.google.protobuf.Descriptors.Descriptor;
-import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
 import io.spine.base.EntityState;
 import io.spine.core.EventContext;
@@ -30,6 +29,7 @@ import io.spine.protobuf.Messages;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.base.Identifier.findField;
@@ -39,7 +39,7 @@ import static io.spine.util.Exceptions.newIllegalStateException;
 /**
  * Obtains the route as a value of the first field matching the type of the identifiers.
  *
- * <p>Descriptors of discovered fields are cached.
+ * <p>Accessors of discovered fields are cached, as well as the absence of such a field.
  *
  * <p>If a passed message does not have a field of the required ID type
  * {@code IllegalStateException} will be thrown.
@@ -54,10 +54,12 @@ final class DefaultStateRoute<I> implements StateUpdateRoute<I, EntityState> {
     private final Class<I> idClass;
 
     /**
-     * Descriptors of fields matching the ID class by message type.
+     * Accessors of the fields matching the ID class by message type.
+     *
+     * <p>Contains an empty value for the types which do not have such a field.
      */
-    private final ConcurrentHashMap<Class<? extends Message>, FieldDescriptor> fields =
-            new ConcurrentHashMap<>();
+    private final transient ConcurrentMap<Class<? extends Message>, Optional<FieldAccessor>>
+            fields = new ConcurrentHashMap<>();
 
     private DefaultStateRoute(Class<I> idClass) {
         this.idClass = idClass;
@@ -75,9 +77,7 @@ final class DefaultStateRoute<I> implements StateUpdateRoute<I, EntityState> {
     }
 
     boolean supports(Class<? extends EntityState> stateType) {
-        Descriptor type = Messages.defaultInstance(stateType)
-                                  .getDescriptorForType();
-        Optional<FieldDescriptor> idField = findField(idClass, type);
+        Optional<FieldAccessor> idField = fieldOf(stateType);
         return idField.isPresent();
     }
 
@@ -85,7 +85,7 @@ final class DefaultStateRoute<I> implements StateUpdateRoute<I, EntityState> {
      * Obtains the ID from the first field of the passed message that matches the type
      * of identifiers used by this route.
      *
-     * <p>If the such a field is discovered, its descriptor is remembered and associated
+     * <p>If the such a field is discovered, its accessor is remembered and associated
      * with the class of the state so that subsequent calls are faster.
      *
      * <p>If a field matching the ID type is not found, the method
@@ -104,24 +104,43 @@ final class DefaultStateRoute<I> implements StateUpdateRoute<I, EntityState> {
         checkNotNull(state);
         checkNotNull(ignored);
         Class<? extends EntityState> messageClass = state.getClass();
-        FieldDescriptor field = fields.get(messageClass);
-        if (field != null) {
-            return fieldToSet(field, state);
-        }
-
-        FieldDescriptor fd = findField(idClass, state.getDescriptorForType())
+        FieldAccessor field = fieldOf(messageClass)
                 .orElseThrow(() -> newIllegalStateException(
                         "Unable to find a field matching the type `%s`" +
                                 " in the message of the type `%s`.",
                         idClass, messageClass.getCanonicalName()));
-        fields.put(messageClass, fd);
-        Set<I> result = fieldToSet(fd, state);
+        Set<I> result = fieldToSet(field, state);
         return result;
     }
 
-    private Set<I> fieldToSet(FieldDescriptor field, EntityState state) {
-        Object fieldValue = state.getField(field);
+    /**
+     * Finds the first field matching the ID type in the messages of the passed class.
+     *
+     * <p>The descriptor of the class is inspected only once.
+     */
+    private Optional<FieldAccessor> fieldOf(Class<? extends EntityState> stateType) {
+        Optional<FieldAccessor> cached = fields.get(stateType);
+        if (cached != null) {
+            return cached;
+        }
+        Descriptor type = Messages.defaultInstance(stateType)
+                                  .getDescriptorForType();
+        Optional<FieldAccessor> result = findField(idClass, type)
+                .map(field -> FieldAccessor.of(stateType, field));
+        fields.putIfAbsent(stateType, result);
+        return result;
+    }
+
+    private Set<I> fieldToSet(FieldAccessor field, EntityState state) {
+        Object fieldValue = field.get(state);
         I id = idClass.cast(fieldValue);
         return withId(id);
     }
+
+    /**
+     * Restores the route with no cached accessors upon deserialization.
+     */
+    private Object readResolve() {
+        return new DefaultStateRoute<>(idClass);
+    }
 }
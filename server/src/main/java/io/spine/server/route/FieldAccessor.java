@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.route;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.Message;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.primitives.Primitives.wrap;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Reads the value of a field of the messages of a particular class.
+ *
+ * <p>For the generated message classes, the value is obtained via the generated getter
+ * of the field, which is cheaper than {@link Message#getField(FieldDescriptor)}.
+ * For other messages, and for the fields of the {@code enum} type, the accessor falls
+ * back to {@code getField(..)}.
+ *
+ * <p>An accessor is supposed to be created once per message class and then reused.
+ */
+final class FieldAccessor {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+    private final FieldDescriptor field;
+    private final @Nullable MethodHandle getter;
+    private final Class<?> valueType;
+
+    private FieldAccessor(FieldDescriptor field,
+                          @Nullable MethodHandle getter,
+                          Class<?> valueType) {
+        this.field = field;
+        this.getter = getter;
+        this.valueType = valueType;
+    }
+
+    /**
+     * Creates an accessor for the given field of the messages of the given class.
+     */
+    static FieldAccessor of(Class<? extends Message> messageClass, FieldDescriptor field) {
+        checkNotNull(messageClass);
+        checkNotNull(field);
+        Method method = getterOf(messageClass, field);
+        if (method == null) {
+            return new FieldAccessor(field, null, Object.class);
+        }
+        try {
+            MethodHandle handle = lookup.unreflect(method)
+                                        .asType(methodType(Object.class, Message.class));
+            return new FieldAccessor(field, handle, wrap(method.getReturnType()));
+        } catch (IllegalAccessException e) {
+            return new FieldAccessor(field, null, Object.class);
+        }
+    }
+
+    /**
+     * Finds the generated getter of the field, if there is one returning the same value
+     * as {@link Message#getField(FieldDescriptor)}.
+     *
+     * <p>If the name of the getter collides with a method of a generated message, Protobuf
+     * renames the getter. In this case, {@code null} is returned, so that the accessor falls
+     * back to {@code getField(..)}.
+     */
+    private static @Nullable Method getterOf(Class<? extends Message> messageClass,
+                                             FieldDescriptor field) {
+        if (field.isRepeated() || field.getJavaType() == JavaType.ENUM) {
+            return null;
+        }
+        String name = "get" + camelCase(field.getName());
+        if (isMessageMethod(name)) {
+            return null;
+        }
+        try {
+            Method method = messageClass.getMethod(name);
+            boolean generated = method.getDeclaringClass()
+                                      .equals(messageClass);
+            return generated && returnsTypeOf(method, field) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Tells if a generated message class has a method with the given name inherited from
+     * the Protobuf runtime.
+     */
+    private static boolean isMessageMethod(String name) {
+        try {
+            GeneratedMessageV3.class.getMethod(name);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tells if the given method returns the values of the Java type of the given field.
+     */
+    private static boolean returnsTypeOf(Method method, FieldDescriptor field) {
+        Class<?> type = method.getReturnType();
+        switch (field.getJavaType()) {
+            case INT:
+                return type == int.class;
+            case LONG:
+                return type == long.class;
+            case FLOAT:
+                return type == float.class;
+            case DOUBLE:
+                return type == double.class;
+            case BOOLEAN:
+                return type == boolean.class;
+            case STRING:
+                return type == String.class;
+            case BYTE_STRING:
+                return type == ByteString.class;
+            case MESSAGE:
+                return Message.class.isAssignableFrom(type);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Converts the name of a field into the form used by Protobuf in the names of
+     * the generated accessors.
+     */
+    private static String camelCase(String fieldName) {
+        StringBuilder result = new StringBuilder(fieldName.length());
+        boolean capitalizeNext = true;
+        for (char c : fieldName.toCharArray()) {
+            if (Character.isLowerCase(c)) {
+                result.append(capitalizeNext ? Character.toUpperCase(c) : c);
+                capitalizeNext = false;
+            } else if (Character.isUpperCase(c)) {
+                result.append(c);
+                capitalizeNext = false;
+            } else if (Character.isDigit(c)) {
+                result.append(c);
+                capitalizeNext = true;
+            } else {
+                capitalizeNext = true;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Obtains the descriptor of the field.
+     */
+    FieldDescriptor field() {
+        return field;
+    }
+
+    /**
+     * Obtains the class of the field values, or {@code Object.class} if the class cannot be
+     * known before reading the values.
+     */
+    Class<?> valueType() {
+        return valueType;
+    }
+
+    /**
+     * Tells if the values of the field may be instances of the given class.
+     *
+     * <p>Returns {@code true} if the type of the values cannot be known before reading them.
+     */
+    boolean mayBeInstanceOf(Class<?> cls) {
+        return valueType.equals(Object.class)
+                || cls.isAssignableFrom(valueType)
+                || valueType.isAssignableFrom(cls);
+    }
+
+    /**
+     * Reads the value of the field from the given message.
+     */
+    Object get(Message message) {
+        if (getter == null) {
+            return message.getField(field);
+        }
+        try {
+            Object result = getter.invokeExact(message);
+            return result;
+        } catch (Throwable e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
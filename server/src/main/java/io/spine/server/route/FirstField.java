@@ -25,6 +25,8 @@ import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.Message;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.newIllegalStateException;
@@ -47,6 +49,12 @@ final class FirstField<I, M extends Message, C extends Message> implements Unica
     private static final long serialVersionUID = 0L;
     private final Class<I> idClass;
 
+    /**
+     * Validated accessors of the first fields by the class of the routed messages.
+     */
+    private final transient ConcurrentMap<Class<? extends Message>, FieldAccessor> accessors =
+            new ConcurrentHashMap<>();
+
     FirstField(Class<I> idClass) {
         this.idClass = checkNotNull(idClass);
     }
@@ -54,11 +62,31 @@ final class FirstField<I, M extends Message, C extends Message> implements Unica
     @Override
     public I apply(M message, C context) {
         checkNotNull(message);
-        FieldDescriptor field = fieldIn(message);
-        I result = getValue(field, message);
+        FieldAccessor accessor = accessorFor(message);
+        I result = getValue(accessor, message);
         return result;
     }
 
+    /**
+     * Obtains the accessor of the first field of the passed message.
+     *
+     * <p>The field is looked up and validated only once per message class.
+     */
+    private FieldAccessor accessorFor(M message) {
+        Class<? extends Message> messageClass = message.getClass();
+        FieldAccessor cached = accessors.get(messageClass);
+        if (cached != null) {
+            return cached;
+        }
+        FieldDescriptor field = fieldIn(message);
+        FieldAccessor accessor = FieldAccessor.of(messageClass, field);
+        if (!accessor.mayBeInstanceOf(idClass)) {
+            throw notAssignable(field, accessor.valueType());
+        }
+        accessors.putIfAbsent(messageClass, accessor);
+        return accessor;
+    }
+
     /**
      * Obtains a descriptor of the first field of the passed.
      *
@@ -92,22 +120,32 @@ final class FirstField<I, M extends Message, C extends Message> implements Unica
                 idClass.getCanonicalName());
     }
 
+    private IllegalStateException notAssignable(FieldDescriptor field, Class<?> valueClass) {
+        return newIllegalStateException(
+                "The field `%s` has the type `%s` which is not assignable" +
+                " from the expected ID type `%s`.",
+                field.getFullName(),
+                valueClass.getName(),
+                idClass.getName()
+        );
+    }
+
     /**
      * Obtains the value of first field making sure the value is of the expected type.
      */
-    private I getValue(FieldDescriptor field, M message) {
-        Object value = message.getField(field);
-        Class<?> valueClass = value.getClass();
-        if (!idClass.isAssignableFrom(valueClass)) {
-            throw newIllegalStateException(
-                    "The field `%s` has the type `%s` which is not assignable" +
-                    " from the expected ID type `%s`.",
-                    field.getFullName(),
-                    valueClass.getName(),
-                    idClass.getName()
-            );
+    private I getValue(FieldAccessor accessor, M message) {
+        Object value = accessor.get(message);
+        if (!idClass.isInstance(value)) {
+            throw notAssignable(accessor.field(), value.getClass());
         }
         I result = idClass.cast(value);
         return result;
     }
+
+    /**
+     * Restores the route with no cached accessors upon deserialization.
+     */
+    private Object readResolve() {
+        return new FirstField<I, M, C>(idClass);
+    }
 }
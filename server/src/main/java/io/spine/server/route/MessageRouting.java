@@ -20,17 +20,19 @@
 
 package io.spine.server.route;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.Message;
 import io.spine.base.MessageContext;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.LinkedHashMap;
-import java.util.List;
+import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
 import static io.spine.util.Exceptions.newIllegalStateException;
-import static java.util.stream.Collectors.toList;
 
 /**
  * A routing schema for a kind of messages such as commands, events, rejections, or documents.
@@ -49,10 +51,16 @@ abstract class MessageRouting<M extends Message, C extends MessageContext, R>
 
     private static final long serialVersionUID = 0L;
 
-    private final Map<Class<? extends M>, Route<M, C, R>> routes = new LinkedHashMap<>();
+    /**
+     * The table of the custom routes.
+     *
+     * <p>The table is replaced as a whole when a route is added or removed, so that
+     * the routing performed concurrently always observes a consistent set of routes.
+     */
+    private volatile RouteTable table = new RouteTable(ImmutableMap.of());
 
-    /** The default route to be used if there is no matching entry set in {@link #routes}. */
-    private Route<M, C, R> defaultRoute;
+    /** The default route to be used if there is no matching entry set in {@link #table}. */
+    private volatile Route<M, C, R> defaultRoute;
 
     MessageRouting(Route<M, C, R> defaultRoute) {
         this.defaultRoute = defaultRoute;
@@ -105,11 +113,12 @@ abstract class MessageRouting<M extends Message, C extends MessageContext, R>
      *         if the route for this message class is already set either directly or
      *         via a super-interface
      */
-    void addRoute(Class<? extends M> messageType, Route<M, C, R> via)
+    synchronized void addRoute(Class<? extends M> messageType, Route<M, C, R> via)
             throws IllegalStateException {
         checkNotNull(messageType);
         checkNotNull(via);
-        Match match = routeFor(messageType);
+        RouteTable current = table;
+        Match match = current.resolve(messageType);
         if (match.found()) {
             String requestedClass = messageType.getName();
             String entryClass = match.entryClass()
@@ -128,54 +137,28 @@ abstract class MessageRouting<M extends Message, C extends MessageContext, R>
                         requestedClass, entryClass, requestedClass);
             }
         }
-        routes.put(messageType, via);
+        ImmutableMap<Class<? extends M>, Route<M, C, R>> routes =
+                ImmutableMap.<Class<? extends M>, Route<M, C, R>>builder()
+                        .putAll(current.routes)
+                        .put(messageType, via)
+                        .build();
+        table = new RouteTable(routes);
     }
 
     /**
      * Obtains a route for the passed message class.
      *
+     * <p>The result of the lookup is memoized, including the absence of a custom route.
+     * Thus, repeated routing of messages of the same class, even those falling back to
+     * the default route, costs a single lock-free lookup.
+     *
      * @param msgCls the class of the messages
      * @return optionally available route
      */
     Match routeFor(Class<? extends M> msgCls) {
         checkNotNull(msgCls);
-        Match direct = findDirect(msgCls);
-        if (direct.found()) {
-            return direct;
-        }
-
-        Match viaInterface = findViaInterface(msgCls);
-        if (viaInterface.found()) {
-            // Store the found route for later direct use.
-            routes.put(msgCls, viaInterface.route());
-            return viaInterface;
-        }
-
-        return new Match(msgCls, null, null);
-    }
-
-    private Match findDirect(Class<? extends M> msgCls) {
-        Route<M, C, R> route = routes.get(msgCls);
-        if (route != null) {
-            return new Match(msgCls, msgCls, route);
-        }
-        return new Match(msgCls, null, null);
-    }
-
-    private Match findViaInterface(Class<? extends M> msgCls) {
-        List<Map.Entry<Class<? extends M>, Route<M, C, R>>> interfaceEntries =
-                routes.entrySet()
-                      .stream()
-                      .filter(e -> e.getKey()
-                                    .isInterface())
-                      .collect(toList());
-        for (Map.Entry<Class<? extends M>, Route<M, C, R>> entry : interfaceEntries) {
-            Class<? extends M> key = entry.getKey();
-            if (key.isAssignableFrom(msgCls)) {
-                return new Match(msgCls, key, entry.getValue());
-            }
-        }
-        return new Match(msgCls, null, null);
+        Match result = table.routeFor(msgCls);
+        return result;
     }
 
     /**
@@ -183,15 +166,23 @@ abstract class MessageRouting<M extends Message, C extends MessageContext, R>
      *
      * @throws IllegalStateException if a custom route for this message class was not previously set
      */
-    public void remove(Class<? extends M> messageClass) {
+    public synchronized void remove(Class<? extends M> messageClass) {
         checkNotNull(messageClass);
-        if (!routes.containsKey(messageClass)) {
+        RouteTable current = table;
+        if (!current.routes.containsKey(messageClass)) {
             throw newIllegalStateException(
                     "Cannot remove the route for the message class (`%s`):" +
                             " a custom route was not previously set.",
                     messageClass.getName());
         }
-        routes.remove(messageClass);
+        ImmutableMap<Class<? extends M>, Route<M, C, R>> routes =
+                current.routes
+                        .entrySet()
+                        .stream()
+                        .filter(e -> !e.getKey()
+                                       .equals(messageClass))
+                        .collect(toImmutableMap(Map.Entry::getKey, Map.Entry::getValue));
+        table = new RouteTable(routes);
     }
 
     /**
@@ -219,6 +210,72 @@ abstract class MessageRouting<M extends Message, C extends MessageContext, R>
         return result;
     }
 
+    /**
+     * An immutable set of the custom routes along with the memoized lookups performed on it.
+     */
+    private final class RouteTable implements Serializable {
+
+        private static final long serialVersionUID = 0L;
+
+        /**
+         * The custom routes in the order of their addition.
+         *
+         * <p>The order defines which of the super-interfaces of a message class is matched first.
+         */
+        private final ImmutableMap<Class<? extends M>, Route<M, C, R>> routes;
+
+        /**
+         * The memoized results of the lookups, including those for the classes with no
+         * custom route.
+         */
+        private final transient ConcurrentMap<Class<? extends M>, Match> resolved =
+                new ConcurrentHashMap<>();
+
+        private RouteTable(ImmutableMap<Class<? extends M>, Route<M, C, R>> routes) {
+            this.routes = routes;
+        }
+
+        /**
+         * Obtains the memoized match for the passed class, resolving it on the first call.
+         *
+         * <p>A route found via a super-interface is memoized as is, so that all the calls
+         * for the same class obtain the same match.
+         */
+        private Match routeFor(Class<? extends M> msgCls) {
+            Match memoized = resolved.get(msgCls);
+            if (memoized != null) {
+                return memoized;
+            }
+            Match match = resolve(msgCls);
+            Match previous = resolved.putIfAbsent(msgCls, match);
+            return previous != null ? previous : match;
+        }
+
+        /**
+         * Looks up the route for the passed class among the custom routes.
+         */
+        private Match resolve(Class<? extends M> msgCls) {
+            Route<M, C, R> direct = routes.get(msgCls);
+            if (direct != null) {
+                return new Match(msgCls, msgCls, direct);
+            }
+            for (Map.Entry<Class<? extends M>, Route<M, C, R>> entry : routes.entrySet()) {
+                Class<? extends M> key = entry.getKey();
+                if (key.isInterface() && key.isAssignableFrom(msgCls)) {
+                    return new Match(msgCls, key, entry.getValue());
+                }
+            }
+            return new Match(msgCls, null, null);
+        }
+
+        /**
+         * Restores the table with an empty memo upon deserialization.
+         */
+        private Object readResolve() {
+            return new RouteTable(routes);
+        }
+    }
+
     /**
      * Provides information on routing availability.
      */
@@ -29,6 +29,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 /**
  * An Event {@link Listener} which propagates events into to subscribers of
  * {@link io.spine.server.SubscriptionService}.
+ *
+ * <p>Also invalidates the cached query results affected by the entity lifecycle events.
  */
 final class EventTap implements Listener<EventEnvelope> {
 
@@ -37,12 +39,21 @@ final class EventTap implements Listener<EventEnvelope> {
      */
     private final SubscriptionRegistry subscriptionRegistry;
 
-    EventTap(SubscriptionRegistry subscriptionRegistry) {
+    /**
+     * The cache of the query results of this instance of {@code Stand}.
+     */
+    private final QueryCache queryCache;
+
+    EventTap(SubscriptionRegistry subscriptionRegistry, QueryCache queryCache) {
         this.subscriptionRegistry = checkNotNull(subscriptionRegistry);
+        this.queryCache = checkNotNull(queryCache);
     }
 
     @Override
     public void accept(EventEnvelope event) {
+        if (!event.isExternal()) {
+            queryCache.invalidate(event);
+        }
         TypeUrl typeUrl = event.typeUrl();
         if (!event.isExternal() && subscriptionRegistry.hasType(typeUrl)) {
             subscriptionRegistry.byType(typeUrl)
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import io.spine.client.EntityStateWithVersion;
+import io.spine.client.Query;
+import io.spine.client.Target;
+import io.spine.client.TargetFilters;
+import io.spine.core.MessageId;
+import io.spine.core.TenantId;
+import io.spine.server.type.EventEnvelope;
+import io.spine.system.server.event.EntityLifecycleEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of the {@link Query} results served by a {@link Stand}.
+ *
+ * <p>The results are keyed by the tenant and the normalised query, i.e. the query stripped of
+ * its ID and actor context. Thus, two queries with the same target, filters, field mask and
+ * response format share the same cache entry.
+ *
+ * <p>The entries are invalidated by the {@linkplain EntityLifecycleEvent entity lifecycle}
+ * system events, such as {@code EntityStateChanged} and {@code EntityDeleted}. An event drops
+ * only the entries which target the type of the changed entity and, if the query is restricted
+ * to particular IDs, include the ID of the entity.
+ *
+ * <p>The same instance is shared between a domain Bounded Context and its system counterpart,
+ * as the lifecycle events are only visible to the {@code Stand} of the system context.
+ */
+final class QueryCache {
+
+    private static final QueryCache DISABLED = new QueryCache();
+
+    private final boolean enabled;
+    private final boolean multitenant;
+    private final Cache<Key, ImmutableList<EntityStateWithVersion>> cache;
+
+    /**
+     * The number of invalidations performed so far.
+     *
+     * <p>Used to prevent caching of a query result which was read concurrently with
+     * an invalidation, and thus might be stale.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private QueryCache() {
+        this.enabled = false;
+        this.multitenant = false;
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(0)
+                                 .build();
+    }
+
+    private QueryCache(int maxSize, boolean multitenant) {
+        this.enabled = true;
+        this.multitenant = multitenant;
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maxSize)
+                                 .build();
+    }
+
+    /**
+     * Creates a new cache holding at most {@code maxSize} query results.
+     */
+    static QueryCache newInstance(int maxSize, boolean multitenant) {
+        checkArgument(maxSize > 0, "The query cache size must be positive.");
+        return new QueryCache(maxSize, multitenant);
+    }
+
+    /**
+     * Obtains a cache which never stores anything.
+     */
+    static QueryCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Tells if this cache stores the query results.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obtains the stamp to be passed to {@link #put(Query, Collection, long) put(..)} after
+     * the query is processed.
+     */
+    long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Obtains the cached result of the given query, if any.
+     */
+    Optional<ImmutableList<EntityStateWithVersion>> get(Query query) {
+        checkNotNull(query);
+        if (!enabled) {
+            return Optional.empty();
+        }
+        ImmutableList<EntityStateWithVersion> result = cache.getIfPresent(keyOf(query));
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Stores the result of the given query.
+     *
+     * <p>The result is not stored if any invalidation happened since the given {@code stamp}
+     * was {@linkplain #stamp() obtained}, as the result might have been read before the change.
+     */
+    void put(Query query, Collection<EntityStateWithVersion> result, long stamp) {
+        checkNotNull(query);
+        checkNotNull(result);
+        if (!enabled) {
+            return;
+        }
+        Key key = keyOf(query);
+        ImmutableList<EntityStateWithVersion> value = ImmutableList.copyOf(result);
+        if (invalidations.get() == stamp) {
+            cache.put(key, value);
+            if (invalidations.get() != stamp) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Drops the entries affected by the given event, if it is an entity lifecycle event.
+     */
+    void invalidate(EventEnvelope event) {
+        if (!enabled || !(event.message() instanceof EntityLifecycleEvent)) {
+            return;
+        }
+        EntityLifecycleEvent lifecycleEvent = (EntityLifecycleEvent) event.message();
+        invalidations.incrementAndGet();
+        TenantId tenant = tenantOf(event.tenantId());
+        MessageId entity = lifecycleEvent.getEntity();
+        cache.asMap()
+             .keySet()
+             .removeIf(key -> key.affectedBy(tenant, entity));
+    }
+
+    private Key keyOf(Query query) {
+        Query normalized = query.toBuilder()
+                                .clearId()
+                                .clearContext()
+                                .build();
+        TenantId tenant = tenantOf(query.getContext()
+                                        .getTenantId());
+        return new Key(tenant, normalized);
+    }
+
+    private TenantId tenantOf(TenantId tenant) {
+        return multitenant
+               ? tenant
+               : TenantId.getDefaultInstance();
+    }
+
+    /**
+     * A key of a cached query result.
+     */
+    private static final class Key {
+
+        private final TenantId tenant;
+        private final Query query;
+
+        private Key(TenantId tenant, Query query) {
+            this.tenant = tenant;
+            this.query = query;
+        }
+
+        /**
+         * Tells if the result of the query may change when the given entity changes.
+         */
+        private boolean affectedBy(TenantId tenant, MessageId entity) {
+            if (!this.tenant.equals(tenant)) {
+                return false;
+            }
+            Target target = query.getTarget();
+            if (!target.getType()
+                       .equals(entity.getTypeUrl())) {
+                return false;
+            }
+            if (target.getIncludeAll()) {
+                return true;
+            }
+            TargetFilters filters = target.getFilters();
+            List<Any> ids = filters.getIdFilter()
+                                   .getIdList();
+            return ids.isEmpty() || ids.contains(entity.getId());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return tenant.equals(other.tenant) && query.equals(other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(tenant, query);
+        }
+    }
+}
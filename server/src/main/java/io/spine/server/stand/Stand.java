@@ -57,6 +57,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Collection;
 import java.util.Optional;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static io.spine.grpc.StreamObservers.ack;
@@ -116,6 +117,13 @@ public class Stand implements AutoCloseable {
     private final AggregateQueryProcessor aggregateQueryProcessor;
     private final EventTap eventTap;
 
+    /**
+     * Caches the results of the executed queries.
+     *
+     * <p>The cache is shared between a domain Bounded Context and its system counterpart.
+     */
+    private final QueryCache queryCache;
+
     private Stand(Builder builder) {
         super();
         this.multitenant = builder.multitenant != null
@@ -128,7 +136,8 @@ public class Stand implements AutoCloseable {
         this.queryValidator = builder.queryValidator();
         this.subscriptionValidator = builder.subscriptionValidator();
         this.aggregateQueryProcessor = new AggregateQueryProcessor(builder.systemReadSide());
-        this.eventTap = new EventTap(subscriptionRegistry);
+        this.queryCache = builder.queryCache();
+        this.eventTap = new EventTap(subscriptionRegistry, queryCache);
     }
 
     public static Builder newBuilder() {
@@ -334,6 +343,9 @@ public class Stand implements AutoCloseable {
      * <p>The query results are fed to an instance
      * of {@link StreamObserver}&lt;{@link QueryResponse}&gt;.
      *
+     * <p>If the {@linkplain Builder#cacheQueries(int) query cache} is enabled, the results of
+     * previously executed equal queries are served from it until the queried entities change.
+     *
      * @param query
      *         the instance of query
      * @param responseObserver
@@ -349,7 +361,7 @@ public class Stand implements AutoCloseable {
         QueryOperation op = new QueryOperation(query) {
             @Override
             public void run() {
-                Collection<EntityStateWithVersion> readResult = queryProcessor.process(query());
+                Collection<EntityStateWithVersion> readResult = read(query(), queryProcessor);
                 QueryResponse response = QueryResponse
                         .newBuilder()
                         .addAllMessage(readResult)
@@ -362,6 +374,17 @@ public class Stand implements AutoCloseable {
         op.execute();
     }
 
+    private Collection<EntityStateWithVersion> read(Query query, QueryProcessor processor) {
+        Optional<? extends Collection<EntityStateWithVersion>> cached = queryCache.get(query);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long stamp = queryCache.stamp();
+        Collection<EntityStateWithVersion> result = processor.process(query);
+        queryCache.put(query, result, stamp);
+        return result;
+    }
+
     /**
      * Registers the passed {@code Repository} as an entity/event type supplier.
      */
@@ -431,6 +454,8 @@ public class Stand implements AutoCloseable {
         private QueryValidator queryValidator;
         private SubscriptionValidator subscriptionValidator;
         private SystemReadSide systemReadSide;
+        private int queryCacheSize;
+        private @Nullable QueryCache queryCache;
 
         @CanIgnoreReturnValue
         @Internal
@@ -454,6 +479,30 @@ public class Stand implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Enables caching of the query results.
+         *
+         * <p>The cached results are invalidated when the queried entities change.
+         *
+         * @param maxSize
+         *         the maximum number of the query results to keep
+         */
+        @CanIgnoreReturnValue
+        @Internal
+        public Builder cacheQueries(int maxSize) {
+            checkArgument(maxSize > 0, "The query cache size must be positive.");
+            this.queryCacheSize = maxSize;
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        @Internal
+        public Builder withQueryCacheFrom(Stand other) {
+            checkNotNull(other);
+            this.queryCache = checkNotNull(other.queryCache);
+            return this;
+        }
+
         @Internal
         public @Nullable Boolean isMultitenant() {
             return multitenant;
@@ -487,6 +536,10 @@ public class Stand implements AutoCloseable {
             return systemReadSide;
         }
 
+        private QueryCache queryCache() {
+            return queryCache;
+        }
+
         /**
          * Builds an instance of {@code Stand}.
          *
@@ -504,6 +557,11 @@ public class Stand implements AutoCloseable {
             if (subscriptionRegistry == null) {
                 subscriptionRegistry = MultitenantSubscriptionRegistry.newInstance(multitenant);
             }
+            if (queryCache == null) {
+                queryCache = queryCacheSize > 0
+                             ? QueryCache.newInstance(queryCacheSize, multitenant)
+                             : QueryCache.disabled();
+            }
             topicValidator = new TopicValidator(typeRegistry);
             queryValidator = new QueryValidator(typeRegistry);
             subscriptionValidator = new SubscriptionValidator(subscriptionRegistry);
@@ -21,6 +21,12 @@
 package io.spine.server.storage;
 
 import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.metric.MetricRegistry;
+import io.spine.server.metric.Timer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Abstract base for storages.
@@ -37,6 +43,14 @@ public abstract class AbstractStorage<I, M extends Message, R extends ReadReques
     private final boolean multitenant;
     private boolean open = true;
 
+    /** Measures the time of reading the records. */
+    private Timer readTimer = MetricRegistry.noOp()
+                                            .timer("read");
+
+    /** Measures the time of writing the records. */
+    private Timer writeTimer = MetricRegistry.noOp()
+                                             .timer("write");
+
     protected AbstractStorage(boolean multitenant) {
         this.multitenant = multitenant;
     }
@@ -46,6 +60,40 @@ public abstract class AbstractStorage<I, M extends Message, R extends ReadReques
         return multitenant;
     }
 
+    /**
+     * Starts reporting the read and write latencies of this storage to
+     * the {@linkplain ServerEnvironment#metrics() metric registry}.
+     *
+     * <p>The timers are named {@code <name>.read} and {@code <name>.write}. Until this method
+     * is called, the storage reports no metrics.
+     *
+     * @param name
+     *         the name of the stored data, e.g. the name of the Bounded Context and
+     *         the entity type separated by a dot
+     */
+    @Internal
+    public final void measureAs(String name) {
+        checkNotNull(name);
+        MetricRegistry metrics = ServerEnvironment.instance()
+                                                  .metrics();
+        this.readTimer = metrics.timer(name + ".read");
+        this.writeTimer = metrics.timer(name + ".write");
+    }
+
+    /**
+     * Obtains the timer measuring the reads of this storage.
+     */
+    protected final Timer readTimer() {
+        return readTimer;
+    }
+
+    /**
+     * Obtains the timer measuring the writes of this storage.
+     */
+    protected final Timer writeTimer() {
+        return writeTimer;
+    }
+
     /**
      * Ensures the storage is not closed.
      *
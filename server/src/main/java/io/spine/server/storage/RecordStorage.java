@@ -39,6 +39,7 @@ import io.spine.server.entity.storage.ColumnName;
 import io.spine.server.entity.storage.Columns;
 import io.spine.server.entity.storage.EntityQuery;
 import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.metric.Timer;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
@@ -86,7 +87,10 @@ public abstract class RecordStorage<I>
         checkNotClosed();
         checkNotNull(request);
 
+        Timer readTimer = readTimer();
+        long start = readTimer.start();
         Optional<EntityRecord> record = readRecord(request.recordId());
+        readTimer.stop(start);
         return record;
     }
 
@@ -141,7 +145,10 @@ public abstract class RecordStorage<I>
                             .hasState(), "Record does not have state field.");
         checkNotClosed();
 
+        Timer writeTimer = writeTimer();
+        long start = writeTimer.start();
         writeRecord(id, record);
+        writeTimer.stop(start);
     }
 
     @Override
@@ -165,7 +172,10 @@ public abstract class RecordStorage<I>
         checkNotNull(records);
         checkNotClosed();
 
+        Timer writeTimer = writeTimer();
+        long start = writeTimer.start();
         writeRecords(records);
+        writeTimer.stop(start);
     }
 
     @Override
@@ -200,6 +210,20 @@ public abstract class RecordStorage<I>
      */
     public abstract boolean delete(I id);
 
+    /**
+     * Deletes the records with the passed IDs.
+     *
+     * @param ids
+     *         the IDs of the records to delete
+     * @throws IllegalStateException
+     *         if the storage is closed
+     */
+    public void deleteAll(Iterable<I> ids) {
+        checkNotNull(ids);
+        checkNotClosed();
+        deleteRecords(ids);
+    }
+
     /**
      * Reads multiple active items from the storage and applies {@link FieldMask} to the results.
      *
@@ -380,4 +404,19 @@ public abstract class RecordStorage<I>
      *         an ID to record map with the entries to store
      */
     protected abstract void writeRecords(Map<I, EntityRecordWithColumns> records);
+
+    /**
+     * Deletes a bulk of records from the storage.
+     *
+     * <p>The default implementation deletes the records one by one. Storage implementations
+     * are encouraged to override this method using the bulk deletion of the underlying storage.
+     *
+     * @param ids
+     *         the IDs of the records to delete
+     */
+    protected void deleteRecords(Iterable<I> ids) {
+        for (I id : ids) {
+            delete(id);
+        }
+    }
 }
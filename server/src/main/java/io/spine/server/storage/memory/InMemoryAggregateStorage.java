@@ -22,15 +22,18 @@ package io.spine.server.storage.memory;
 
 import com.google.protobuf.Timestamp;
 import io.spine.server.aggregate.AggregateEventRecord;
+import io.spine.server.aggregate.AggregateHistory;
 import io.spine.server.aggregate.AggregateReadRequest;
 import io.spine.server.aggregate.AggregateStorage;
 import io.spine.server.entity.LifecycleFlags;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Iterators.transform;
 
 /**
  * In-memory storage for aggregate events and snapshots.
@@ -92,6 +95,24 @@ final class InMemoryAggregateStorage<I> extends AggregateStorage<I> {
         return records.iterator();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Obtains the records of all the requested aggregates in one pass over the storage
+     * of the current tenant.
+     */
+    @Override
+    public Iterator<@Nullable AggregateHistory>
+    readAll(Iterable<AggregateReadRequest<I>> requests) {
+        checkNotClosed();
+        checkNotNull(requests);
+        List<List<AggregateEventRecord>> histories = getStorage().historiesBackward(requests);
+        Iterator<@Nullable AggregateHistory> result =
+                transform(histories.iterator(),
+                          records -> toHistory(records.iterator()).orElse(null));
+        return result;
+    }
+
     @Override
     protected void truncate(int snapshotIndex) {
         getStorage().truncateOlderThan(snapshotIndex);
@@ -22,6 +22,7 @@ package io.spine.server.storage.memory;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Ints;
 import io.spine.logging.Logging;
 import io.spine.server.delivery.Inbox;
 import io.spine.server.delivery.InboxMessage;
@@ -96,6 +97,17 @@ public final class InMemoryInboxStorage
         return result;
     }
 
+    @Override
+    public int countToDeliver(ShardIndex index) {
+        TenantInboxRecords storage = multitenantStorage.currentSlice();
+        @SuppressWarnings("JdkObsolete") // Migrate from `SortedSet` to `NavigableSet` later.
+        long result = storage.readAll()
+                             .stream()
+                             .filter((r) -> index.equals(r.shardIndex()) && isToDeliver(r))
+                             .count();
+        return Ints.saturatedCast(result);
+    }
+
     private static boolean isToDeliver(InboxMessage r) {
         return r.getStatus() == InboxMessageStatus.TO_DELIVER;
     }
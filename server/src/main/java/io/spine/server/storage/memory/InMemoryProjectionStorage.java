@@ -68,6 +68,11 @@ public final class InMemoryProjectionStorage<I> extends ProjectionStorage<I> {
         return recordStorage().delete(id);
     }
 
+    @Override
+    protected void deleteRecords(Iterable<I> ids) {
+        recordStorage.deleteAll(ids);
+    }
+
     @Override
     protected Iterator<@Nullable EntityRecord> readMultipleRecords(Iterable<I> ids,
                                                                    FieldMask fieldMask) {
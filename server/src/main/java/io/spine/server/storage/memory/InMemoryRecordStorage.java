@@ -148,4 +148,9 @@ public final class InMemoryRecordStorage<I> extends RecordStorage<I> {
             storage.put(record.getKey(), record.getValue());
         }
     }
+
+    @Override
+    protected void deleteRecords(Iterable<I> ids) {
+        records().deleteAll(ids);
+    }
 }
@@ -89,6 +89,25 @@ final class TenantAggregateRecords<I> implements TenantStorage<I, AggregateEvent
         return ImmutableList.copyOf(records.get(id));
     }
 
+    /**
+     * Obtains the events of several aggregates in the reverse historical order.
+     *
+     * <p>The records of all the requested aggregates are copied under a single lock.
+     *
+     * @return immutable list of the aggregate records in the order of the passed requests
+     */
+    ImmutableList<List<AggregateEventRecord>>
+    historiesBackward(Iterable<AggregateReadRequest<I>> requests) {
+        ImmutableList.Builder<List<AggregateEventRecord>> result = ImmutableList.builder();
+        synchronized (records) {
+            for (AggregateReadRequest<I> request : requests) {
+                I id = request.recordId();
+                result.add(ImmutableList.copyOf(records.get(id)));
+            }
+        }
+        return result.build();
+    }
+
     /**
      * Obtains {@code AggregateStatus} for the passed ID.
      *
@@ -20,6 +20,7 @@
 
 package io.spine.server.storage.memory;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Any;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
@@ -79,6 +80,11 @@ final class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns
         return records.remove(id) != null;
     }
 
+    void deleteAll(Iterable<I> ids) {
+        records.keySet()
+               .removeAll(ImmutableSet.copyOf(ids));
+    }
+
     private Map<I, EntityRecordWithColumns> activeRecords() {
         return activeRecords;
     }
@@ -30,6 +30,10 @@ import static io.spine.util.Preconditions2.checkNotDefaultArg;
  * This class allows to obtain a ID of the current tenant when handling
  * a command or a query in a multi-tenant application.
  *
+ * <p>The value is set only for the duration of an operation performed in
+ * a {@link TenantContext}. In order to pass the tenant to another thread, capture
+ * the {@linkplain TenantContext#current() current context} and run the work in it.
+ *
  * @see <a href="http://ramblingsofraju.com/wp-content/uploads/2016/08/Multi-Tenant-Data-Architecture.pdf">Multi-Tenant Data Architecture</a>
  */
 final class CurrentTenant {
@@ -80,8 +84,11 @@ final class CurrentTenant {
 
     /**
      * Clears the stored value.
+     *
+     * <p>Removes the value from the thread completely, so that pooled and virtual threads
+     * do not retain the entry once an operation is finished.
      */
     static void clear() {
-        threadLocal.set(null);
+        threadLocal.remove();
     }
 }
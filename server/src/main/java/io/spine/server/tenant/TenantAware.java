@@ -92,4 +92,15 @@ abstract class TenantAware {
     TenantId tenantId() {
         return tenantId;
     }
+
+    /**
+     * Obtains the context of the tenant for which the operation is performed.
+     *
+     * <p>The context may be passed to other threads in order to continue the operation
+     * for the same tenant.
+     */
+    @Internal
+    public TenantContext context() {
+        return TenantContext.of(tenantId);
+    }
 }
@@ -23,7 +23,6 @@ package io.spine.server.tenant;
 import io.spine.annotation.SPI;
 import io.spine.core.TenantId;
 
-import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -58,18 +57,7 @@ public abstract class TenantAwareFunction<F, T> extends TenantAware implements F
      * </ol>
      */
     public T execute(F input) {
-        T result;
-        Optional<TenantId> remembered = CurrentTenant.get();
-        try {
-            CurrentTenant.set(tenantId());
-            result = apply(input);
-            return result;
-        } finally {
-            if (remembered.isPresent()) {
-                CurrentTenant.set(remembered.get());
-            } else {
-                CurrentTenant.clear();
-            }
-        }
+        T result = context().evaluate(() -> apply(input));
+        return result;
     }
 }
@@ -23,8 +23,6 @@ package io.spine.server.tenant;
 import io.spine.annotation.SPI;
 import io.spine.core.TenantId;
 
-import java.util.Optional;
-
 /**
  * An abstract base for operations on a tenant data.
  *
@@ -68,16 +66,6 @@ public abstract class TenantAwareOperation extends TenantAware implements Runnab
      * </ol>
      */
     public void execute() {
-        Optional<TenantId> remembered = CurrentTenant.get();
-        try {
-            CurrentTenant.set(tenantId());
-            run();
-        } finally {
-            if (remembered.isPresent()) {
-                CurrentTenant.set(remembered.get());
-            } else {
-                CurrentTenant.clear();
-            }
-        }
+        context().run(this);
     }
 }
@@ -75,12 +75,7 @@ public final class TenantAwareRunner {
      */
     public <T> T evaluate(Supplier<T> operation) {
         checkNotNull(operation);
-        T result = new TenantAwareFunction0<T>(tenant) {
-            @Override
-            public T apply() {
-                return operation.get();
-            }
-        }.execute();
+        T result = context().evaluate(operation);
         return result;
     }
 
@@ -92,11 +87,16 @@ public final class TenantAwareRunner {
      */
     public void run(Runnable operation) {
         checkNotNull(operation);
-        new TenantAwareOperation(tenant) {
-            @Override
-            public void run() {
-                operation.run();
-            }
-        }.execute();
+        context().run(operation);
+    }
+
+    /**
+     * Obtains the context of the tenant served by this runner.
+     *
+     * <p>The context may be passed to the tasks executed by other threads in order to
+     * continue the work for the same tenant.
+     */
+    public TenantContext context() {
+        return TenantContext.of(tenant);
     }
 }
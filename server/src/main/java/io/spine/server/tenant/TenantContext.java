@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.tenant;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.errorprone.annotations.Immutable;
+import io.spine.annotation.Internal;
+import io.spine.core.TenantId;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.Messages.isDefault;
+
+/**
+ * An immutable snapshot of the tenant served by an operation.
+ *
+ * <p>Unlike the {@linkplain CurrentTenant current tenant} which belongs to a thread,
+ * a {@code TenantContext} is a value which may be captured in one thread and passed to
+ * another one explicitly:
+ *
+ * <pre>{@code
+ * TenantContext context = TenantContext.current();
+ * CompletableFuture.supplyAsync(context.wrap(this::readEntities), executor)
+ *                  .thenAcceptAsync(this::dispatch, TenantContext.propagating(executor));
+ * }</pre>
+ *
+ * <p>The tenant is made current only for the duration of the call performed
+ * {@linkplain #run(Runnable) in the context}. Afterwards, the previously served tenant is
+ * restored, or the thread is left without a tenant at all. Thus, pooled and virtual threads
+ * never carry a tenant of a finished operation.
+ */
+@Immutable
+@Internal
+public final class TenantContext {
+
+    private static final TenantContext NONE = new TenantContext(null);
+
+    private final @Nullable TenantId tenant;
+
+    private TenantContext(@Nullable TenantId tenant) {
+        this.tenant = tenant;
+    }
+
+    /**
+     * Creates a context of the given tenant.
+     *
+     * <p>If a default instance of {@link TenantId} is passed (because the application works in
+     * a single-tenant mode), {@linkplain SingleTenantIndex#tenantId() singleTenant()} value will be
+     * substituted.
+     *
+     * @param tenant
+     *         the tenant ID or {@linkplain TenantId#getDefaultInstance() default value}
+     */
+    public static TenantContext of(TenantId tenant) {
+        checkNotNull(tenant);
+        TenantId value = isDefault(tenant)
+                         ? SingleTenantIndex.tenantId()
+                         : tenant;
+        return new TenantContext(value);
+    }
+
+    /**
+     * Captures the tenant served in the current thread.
+     *
+     * @return the context of the current tenant or {@linkplain #none() an empty context} if
+     *         no tenant is served
+     */
+    public static TenantContext current() {
+        return CurrentTenant.get()
+                            .map(TenantContext::new)
+                            .orElse(NONE);
+    }
+
+    /**
+     * Obtains the context which serves no tenant.
+     */
+    public static TenantContext none() {
+        return NONE;
+    }
+
+    /**
+     * Creates an {@code Executor} which runs each task in the context of the tenant
+     * served by the thread that submitted the task.
+     *
+     * <p>Such an executor may be passed to the asynchronous stages of
+     * a {@code CompletableFuture}, so that the tenant follows the computation no matter
+     * which thread completes the stage.
+     *
+     * @param delegate
+     *         the executor to run the tasks
+     */
+    public static Executor propagating(Executor delegate) {
+        checkNotNull(delegate);
+        return task -> delegate.execute(current().wrap(task));
+    }
+
+    /**
+     * Obtains the ID of the tenant or {@code Optional.empty()} if the context serves no tenant.
+     */
+    public Optional<TenantId> tenantId() {
+        return Optional.ofNullable(tenant);
+    }
+
+    /**
+     * Runs the given operation in this context.
+     */
+    public void run(Runnable operation) {
+        checkNotNull(operation);
+        TenantContext previous = current();
+        install();
+        try {
+            operation.run();
+        } finally {
+            previous.install();
+        }
+    }
+
+    /**
+     * Evaluates the given operation in this context.
+     *
+     * @param <T>
+     *         the type of the result
+     * @return the result of the operation
+     */
+    public <T> T evaluate(Supplier<T> operation) {
+        checkNotNull(operation);
+        TenantContext previous = current();
+        install();
+        try {
+            return operation.get();
+        } finally {
+            previous.install();
+        }
+    }
+
+    /**
+     * Binds the given operation to this context.
+     *
+     * @return the operation which always runs in this context
+     */
+    public Runnable wrap(Runnable operation) {
+        checkNotNull(operation);
+        return () -> run(operation);
+    }
+
+    /**
+     * Binds the given operation to this context.
+     *
+     * @return the operation which is always evaluated in this context
+     */
+    public <T> Supplier<T> wrap(Supplier<T> operation) {
+        checkNotNull(operation);
+        return () -> evaluate(operation);
+    }
+
+    /**
+     * Binds the given function to this context.
+     *
+     * @return the function which is always applied in this context
+     */
+    public <F, T> Function<F, T> wrap(Function<F, T> function) {
+        checkNotNull(function);
+        return input -> evaluate(() -> function.apply(input));
+    }
+
+    private void install() {
+        if (tenant == null) {
+            CurrentTenant.clear();
+        } else {
+            CurrentTenant.set(tenant);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TenantContext)) {
+            return false;
+        }
+        TenantContext other = (TenantContext) o;
+        return Objects.equal(tenant, other.tenant);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(tenant);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("tenant", tenant)
+                          .toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.trace;
+
+import com.google.common.base.MoreObjects;
+import io.spine.system.server.EntityTypeName;
+import io.spine.type.MessageClass;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A snapshot of latencies between the creation of signals of a particular class and their
+ * handling by the entities of a particular type.
+ *
+ * <p>The latencies are measured in nanoseconds. The percentiles are reported with a relative
+ * error of at most 1/16.
+ *
+ * @see LatencyTracerFactory#snapshot()
+ */
+public final class LatencySnapshot {
+
+    private final MessageClass<?> messageClass;
+    private final EntityTypeName receiverType;
+    private final long[] bucketCounts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(MessageClass<?> messageClass,
+                    EntityTypeName receiverType,
+                    LatencyHistogram histogram) {
+        this.messageClass = checkNotNull(messageClass);
+        this.receiverType = checkNotNull(receiverType);
+        this.bucketCounts = histogram.bucketCounts();
+        long count = 0;
+        for (long bucketCount : bucketCounts) {
+            count += bucketCount;
+        }
+        this.count = count;
+        this.totalNanos = histogram.totalNanos();
+        this.maxNanos = histogram.maxNanos();
+    }
+
+    /**
+     * Obtains the class of the handled signals.
+     */
+    public MessageClass<?> messageClass() {
+        return messageClass;
+    }
+
+    /**
+     * Obtains the type of the entities which handled the signals.
+     */
+    public EntityTypeName receiverType() {
+        return receiverType;
+    }
+
+    /**
+     * Obtains the number of the recorded latencies.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Obtains the mean latency or zero if nothing was recorded.
+     */
+    public long meanNanos() {
+        return count == 0
+               ? 0L
+               : totalNanos / count;
+    }
+
+    /**
+     * Obtains the maximum recorded latency.
+     */
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Obtains the latency, which the given percentage of the recorded latencies does not exceed.
+     *
+     * @param percentile
+     *         the percentile in the range of {@code [0, 100]}
+     * @return the latency or zero if nothing was recorded
+     */
+    public long percentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100,
+                      "The percentile must be in the range of [0, 100], but was %s.",
+                      percentile);
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueIn(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("messageClass", messageClass)
+                          .add("receiverType", receiverType.getJavaClassName())
+                          .add("count", count)
+                          .add("meanNanos", meanNanos())
+                          .add("p50Nanos", percentileNanos(50))
+                          .add("p99Nanos", percentileNanos(99))
+                          .add("maxNanos", maxNanos)
+                          .toString();
+    }
+}
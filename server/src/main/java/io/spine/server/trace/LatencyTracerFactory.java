@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.trace;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.base.Time;
+import io.spine.core.Command;
+import io.spine.core.MessageId;
+import io.spine.core.Signal;
+import io.spine.logging.Logging;
+import io.spine.server.ContextSpec;
+import io.spine.server.type.CommandClass;
+import io.spine.server.type.EventClass;
+import io.spine.system.server.EntityTypeName;
+import io.spine.type.MessageClass;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.util.Durations.toNanos;
+import static com.google.protobuf.util.Timestamps.between;
+
+/**
+ * A {@link TracerFactory} which collects the latencies between the creation of signals and their
+ * handling by entities.
+ *
+ * <p>The latencies are grouped by the class of the signal and by the type of the receiving
+ * entity. Each group is backed by a histogram with a bounded relative error, so the memory
+ * consumed by the factory does not depend on the number of the traced signals.
+ *
+ * <p>The collected data is exported via {@link #snapshot()}. Also, it may be dumped to the log
+ * periodically via {@link #logSnapshot()}.
+ *
+ * <p>The latency is measured using the {@linkplain Signal#timestamp() timestamp} of the signal.
+ * Thus, for the signals produced on other nodes, it also includes the clock skew between
+ * the nodes.
+ */
+public final class LatencyTracerFactory implements TracerFactory, Logging {
+
+    private final Map<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private LatencyTracerFactory() {
+    }
+
+    /**
+     * Creates a new instance of the factory.
+     */
+    public static LatencyTracerFactory newInstance() {
+        return new LatencyTracerFactory();
+    }
+
+    @Override
+    public Tracer trace(ContextSpec context, Signal<?, ?, ?> signalMessage) {
+        checkNotNull(signalMessage);
+        return new LatencyTracer(signalMessage);
+    }
+
+    /**
+     * Obtains the latencies collected so far.
+     */
+    public ImmutableList<LatencySnapshot> snapshot() {
+        ImmutableList<LatencySnapshot> result =
+                histograms.entrySet()
+                          .stream()
+                          .map(entry -> entry.getKey()
+                                             .snapshotOf(entry.getValue()))
+                          .collect(ImmutableList.toImmutableList());
+        return result;
+    }
+
+    /**
+     * Writes the latencies collected so far to the log.
+     */
+    public void logSnapshot() {
+        snapshot().forEach(snapshot -> _info().log("Handling latency: %s.", snapshot));
+    }
+
+    /**
+     * Discards the latencies collected so far.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Does nothing, as the collected data is kept in memory.
+     */
+    @Override
+    public void close() {
+        // NO-OP.
+    }
+
+    private void record(Signal<?, ?, ?> signal, EntityTypeName receiverType) {
+        Timestamp now = Time.currentTime();
+        long latency = toNanos(between(signal.timestamp(), now));
+        Key key = new Key(classOf(signal), receiverType);
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram())
+                  .record(latency);
+    }
+
+    private static MessageClass<?> classOf(Signal<?, ?, ?> signal) {
+        return signal instanceof Command
+               ? CommandClass.of(signal)
+               : EventClass.of(signal);
+    }
+
+    /**
+     * A tracer which records the latency once the signal is handled by an entity.
+     */
+    private final class LatencyTracer extends AbstractTracer {
+
+        private LatencyTracer(Signal<?, ?, ?> signal) {
+            super(signal);
+        }
+
+        @Override
+        public void processedBy(MessageId receiver, EntityTypeName receiverType) {
+            checkNotNull(receiverType);
+            record(signal(), receiverType);
+        }
+
+        @Override
+        public void close() {
+            // NO-OP.
+        }
+    }
+
+    /**
+     * A pair of a signal class and a receiver type, for which the latencies are grouped.
+     */
+    private static final class Key {
+
+        private final MessageClass<?> messageClass;
+        private final EntityTypeName receiverType;
+
+        private Key(MessageClass<?> messageClass, EntityTypeName receiverType) {
+            this.messageClass = messageClass;
+            this.receiverType = receiverType;
+        }
+
+        private LatencySnapshot snapshotOf(LatencyHistogram histogram) {
+            return new LatencySnapshot(messageClass, receiverType, histogram);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return messageClass.equals(other.messageClass)
+                    && receiverType.equals(other.receiverType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(messageClass, receiverType);
+        }
+    }
+}
@@ -23,6 +23,7 @@ package io.spine.server.transport.memory;
 import io.spine.base.Identifier;
 import io.spine.logging.Logging;
 import io.spine.server.integration.ExternalMessage;
+import io.spine.server.tenant.TenantContext;
 import io.spine.server.transport.ChannelId;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -32,6 +33,7 @@ import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import static com.google.common.flogger.LazyArgs.lazy;
+import static io.spine.server.tenant.TenantContext.propagating;
 
 /**
  * The in-memory subscriber, which uses single-thread delivery of messages.
@@ -39,6 +41,9 @@ import static com.google.common.flogger.LazyArgs.lazy;
  * <p>The messages posted by any number of concurrent publishers are delivered to the observers
  * of this subscriber one-by-one in a single thread.
  *
+ * <p>The observers are called in the {@linkplain TenantContext tenant context} of
+ * the publisher, as if the message was delivered synchronously.
+ *
  * <p>This implementation should not be used in production environments, as it is not designed
  * to operate with external transport.
  */
@@ -53,7 +58,7 @@ final class SingleThreadInMemSubscriber extends InMemorySubscriber implements Lo
     @SuppressWarnings("FutureReturnValueIgnored") // Error handling is done manually.
     @Override
     public void onMessage(ExternalMessage message) {
-        CompletableFuture.runAsync(() -> callObservers(message), executor)
+        CompletableFuture.runAsync(() -> callObservers(message), propagating(executor))
                          .exceptionally(throwable -> logError(throwable, message));
     }
 
@@ -42,6 +42,14 @@ import static io.spine.protobuf.Messages.isNotDefault;
  */
 final class SystemEventFactory extends EventFactory {
 
+    /**
+     * Obtains the ID of the entity from the first field of a system event message.
+     *
+     * <p>The route is shared so that the field accessors it caches are reused.
+     */
+    private static final EventRoute<Object, EventMessage> ENTITY_ID_ROUTE =
+            EventRoute.byFirstMessageField(Object.class);
+
     private SystemEventFactory(EventOrigin origin, Any producerId) {
         super(origin, producerId);
     }
@@ -71,8 +79,7 @@ final class SystemEventFactory extends EventFactory {
 
     private static Message aggregateIdFrom(EventMessage systemEvent) {
         Set<Object> routingOut =
-                EventRoute.byFirstMessageField(Object.class)
-                          .apply(systemEvent, EventContext.getDefaultInstance());
+                ENTITY_ID_ROUTE.apply(systemEvent, EventContext.getDefaultInstance());
         checkArgument(routingOut.size() == 1,
                       "System event message must have entity ID in the first field.");
         Object id = routingOut.iterator()
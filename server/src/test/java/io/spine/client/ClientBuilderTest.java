@@ -167,6 +167,33 @@ class ClientBuilderTest {
         }
     }
 
+    @Nested
+    @DisplayName("configure the limit of in-flight commands")
+    class InFlightCommands {
+
+        @Test
+        @DisplayName("via a value")
+        void value() {
+            builder.maxInFlightCommands(8);
+            assertThat(builder.maxInFlightCommands())
+                    .isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("supply default value if not specified")
+        void defaultValue() {
+            assertThat(builder.maxInFlightCommands())
+                    .isEqualTo(Client.DEFAULT_MAX_IN_FLIGHT_COMMANDS);
+        }
+
+        @Test
+        @DisplayName("rejecting non-positive values")
+        void nonPositive() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> builder.maxInFlightCommands(0));
+        }
+    }
+
     @Nested
     @DisplayName("allow setting tenant")
     class Tenant {
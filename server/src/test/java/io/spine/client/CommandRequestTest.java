@@ -25,6 +25,7 @@ import com.google.protobuf.Message;
 import io.spine.base.CommandMessage;
 import io.spine.base.Error;
 import io.spine.base.EventMessage;
+import io.spine.core.Ack;
 import io.spine.core.Command;
 import io.spine.protobuf.AnyPacker;
 import io.spine.server.BoundedContextBuilder;
@@ -43,9 +44,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.extensions.proto.ProtoTruth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static io.spine.core.Status.StatusCase.OK;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.IntStream.range;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @MuteLogging
@@ -141,6 +148,50 @@ class CommandRequestTest extends AbstractClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("Post asynchronously")
+    class Async {
+
+        @Test
+        @DisplayName("completing with the acknowledgement")
+        void ack() throws Exception {
+            Ack ack = commandRequest.postAsync()
+                                    .get(5, SECONDS);
+            assertThat(ack.getStatus()
+                          .getStatusCase()).isEqualTo(OK);
+        }
+
+        @Test
+        @DisplayName("delivering events to consumers")
+        void events() throws Exception {
+            commandRequest.observe(UserLoggedIn.class, counter::add)
+                          .postAsync()
+                          .get(5, SECONDS);
+            assertThat(counter.contains(UserLoggedIn.class))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("having many commands in flight")
+        void pipelined() throws Exception {
+            ImmutableList<CompletableFuture<Ack>> acks =
+                    range(0, 10)
+                            .mapToObj(i -> LogInUser.newBuilder()
+                                                    .setUser(GivenUserId.generated())
+                                                    .build())
+                            .map(cmd -> client().asGuest()
+                                                .postAsync(cmd))
+                            .collect(toImmutableList());
+            CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[0]))
+                             .get(5, SECONDS);
+            for (CompletableFuture<Ack> ack : acks) {
+                assertThat(ack.get()
+                              .getStatus()
+                              .getStatusCase()).isEqualTo(OK);
+            }
+        }
+    }
+
     @Test
     @DisplayName("Suggest `postAndForget()` call if no subscriptions were made")
     void noSubscriptions() {
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.client;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.core.UserId;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.test.client.ClientTestContext;
+import io.spine.test.client.users.command.LogInUser;
+import io.spine.test.client.users.event.UserAccountCreated;
+import io.spine.test.client.users.event.UserLoggedIn;
+import io.spine.testing.core.given.GivenUserId;
+import io.spine.testing.logging.MuteLogging;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.client.EventFilter.eq;
+
+@MuteLogging
+@DisplayName("`Client` with multiplexed subscriptions should")
+class MultiplexedSubscriptionsTest extends AbstractClientTest {
+
+    private final ConsumerCallCounter counter = new ConsumerCallCounter();
+
+    @Override
+    protected ImmutableList<BoundedContextBuilder> contexts() {
+        return ImmutableList.of(ClientTestContext.users());
+    }
+
+    @Override
+    protected Client.Builder newClientBuilder(String serverName) {
+        return super.newClientBuilder(serverName)
+                    .multiplexSubscriptions();
+    }
+
+    @Test
+    @DisplayName("deliver events resulting from a command")
+    void commandEvents() {
+        client().asGuest()
+                .command(logIn(GivenUserId.generated()))
+                .observe(UserLoggedIn.class, counter::add)
+                .observe(UserAccountCreated.class, counter::add)
+                .post();
+
+        assertThat(counter.containsAll(UserLoggedIn.class, UserAccountCreated.class))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("cancel a subscription without affecting others")
+    void cancelOne() {
+        UserId user = GivenUserId.generated();
+        List<UserLoggedIn> cancelledEvents = new ArrayList<>();
+        List<UserLoggedIn> activeEvents = new ArrayList<>();
+        Subscription cancelled = subscribeToLogIn(user, cancelledEvents);
+        Subscription active = subscribeToLogIn(user, activeEvents);
+
+        Subscriptions subscriptions = client().subscriptions();
+        subscriptions.cancel(cancelled);
+        client().asGuest()
+                .command(logIn(user))
+                .postAndForget();
+
+        assertThat(cancelledEvents).isEmpty();
+        assertThat(activeEvents).hasSize(1);
+        assertThat(subscriptions.contains(cancelled)).isFalse();
+        assertThat(subscriptions.contains(active)).isTrue();
+    }
+
+    @Test
+    @DisplayName("clear subscriptions when closing")
+    void clearing() {
+        UserId user = GivenUserId.generated();
+        subscribeToLogIn(user, new ArrayList<>());
+        subscribeToLogIn(user, new ArrayList<>());
+        Subscriptions subscriptions = client().subscriptions();
+        assertThat(subscriptions.isEmpty()).isFalse();
+
+        client().close();
+
+        assertThat(subscriptions.isEmpty()).isTrue();
+    }
+
+    private Subscription subscribeToLogIn(UserId user, List<UserLoggedIn> events) {
+        return client().onBehalfOf(user)
+                       .subscribeToEvent(UserLoggedIn.class)
+                       .where(eq(UserLoggedIn.Field.user(), user))
+                       .observe(events::add)
+                       .post();
+    }
+
+    private static LogInUser logIn(UserId user) {
+        return LogInUser
+                .newBuilder()
+                .setUser(user)
+                .build();
+    }
+}
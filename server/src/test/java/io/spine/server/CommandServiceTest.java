@@ -20,10 +20,14 @@
 
 package io.spine.server;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import com.google.protobuf.Any;
+import io.grpc.stub.StreamObserver;
 import io.spine.base.Error;
 import io.spine.base.Identifier;
+import io.spine.client.grpc.CommandBatch;
+import io.spine.client.grpc.CommandBatchAck;
 import io.spine.core.Ack;
 import io.spine.core.Command;
 import io.spine.core.CommandValidationError;
@@ -38,12 +42,16 @@ import io.spine.testing.server.model.ModelTests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Set;
 
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.core.Status.StatusCase.ERROR;
+import static io.spine.core.Status.StatusCase.OK;
 import static io.spine.grpc.StreamObservers.memoizingObserver;
 import static io.spine.protobuf.Messages.isNotDefault;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -148,6 +156,66 @@ class CommandServiceTest {
         assertEquals(CommandValidationError.getDescriptor().getFullName(), error.getType());
     }
 
+    @Nested
+    @DisplayName("post several commands")
+    @MuteLogging
+    class PostSeveral {
+
+        private final TestActorRequestFactory factory = new TestActorRequestFactory(getClass());
+        private final ImmutableList<Command> commands = ImmutableList.of(
+                Given.ACommand.createProject(),
+                factory.createCommand(CmdServDontHandle.getDefaultInstance()),
+                Given.ACommand.createCustomer()
+        );
+
+        @Test
+        @DisplayName("in a batch")
+        void batch() {
+            CommandBatch batch = CommandBatch
+                    .newBuilder()
+                    .addAllCommand(commands)
+                    .build();
+            MemoizingObserver<CommandBatchAck> observer = memoizingObserver();
+            service.postAll(batch, observer);
+
+            assertTrue(observer.isCompleted());
+            assertAcks(observer.firstResponse());
+        }
+
+        @Test
+        @DisplayName("in a stream")
+        void stream() {
+            MemoizingObserver<CommandBatchAck> observer = memoizingObserver();
+            StreamObserver<Command> stream = service.postStream(observer);
+            commands.forEach(stream::onNext);
+
+            assertThat(observer.responses()).isEmpty();
+            stream.onCompleted();
+
+            assertTrue(observer.isCompleted());
+            assertAcks(observer.firstResponse());
+        }
+
+        private void assertAcks(CommandBatchAck response) {
+            List<Ack> acks = response.getAckList();
+            assertThat(acks).hasSize(commands.size());
+            for (int i = 0; i < acks.size(); i++) {
+                Any messageId = acks.get(i)
+                                    .getMessageId();
+                assertEquals(commands.get(i)
+                                     .getId(), Identifier.unpack(messageId));
+            }
+            assertEquals(OK, statusOf(acks.get(0)));
+            assertEquals(ERROR, statusOf(acks.get(1)));
+            assertEquals(OK, statusOf(acks.get(2)));
+        }
+
+        private Status.StatusCase statusOf(Ack ack) {
+            return ack.getStatus()
+                      .getStatusCase();
+        }
+    }
+
     @Test
     @DisplayName("deploy to gRPC container")
     void deployToGrpcContainer() throws IOException {
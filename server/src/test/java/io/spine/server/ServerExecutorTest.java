@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.spine.client.Subscription;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.client.Targets;
+import io.spine.client.Topic;
+import io.spine.client.grpc.CommandServiceGrpc;
+import io.spine.client.grpc.CommandServiceGrpc.CommandServiceBlockingStub;
+import io.spine.client.grpc.SubscriptionServiceGrpc;
+import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceBlockingStub;
+import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceStub;
+import io.spine.core.Command;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.Given.ProjectAggregateRepository;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.testing.client.TestActorRequestFactory;
+import io.spine.testing.server.model.ModelTests;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.Status.Code.RESOURCE_EXHAUSTED;
+import static io.spine.server.Given.CommandMessage.createProject;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`Server` with a custom executor should")
+class ServerExecutorTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int SUBSCRIPTION_COUNT = 2_000;
+    private static final int MAX_UPDATES = 30;
+    private static final String THREAD_PREFIX = "server-executor-";
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private final TestActorRequestFactory requests =
+            new TestActorRequestFactory(ServerExecutorTest.class);
+
+    private final Set<Thread> servingThreads = ConcurrentHashMap.newKeySet();
+
+    private ThreadPoolExecutor executor;
+    private ManagedChannel channel;
+    private Server server;
+    private String serverName;
+
+    @BeforeEach
+    void setUp() {
+        ModelTests.dropAllModels();
+        ServerEnvironment.instance()
+                         .reset();
+        executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE,
+                                          0L, MILLISECONDS,
+                                          new LinkedBlockingQueue<>(),
+                                          ServerExecutorTest::newThread);
+        serverName = InProcessServerBuilder.generateName();
+        channel = InProcessChannelBuilder.forName(serverName)
+                                         .directExecutor()
+                                         .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow();
+        if (server != null) {
+            server.shutdownAndWait();
+        }
+        executor.shutdownNow();
+        executor.awaitTermination(10, SECONDS);
+    }
+
+    @Test
+    @DisplayName("serve thousands of subscriptions with a bounded number of threads")
+    void boundedThreads() throws IOException, InterruptedException {
+        startServer(Server.inProcess(serverName)
+                          .setExecutor(executor));
+
+        SubscriptionServiceBlockingStub subscriptions =
+                SubscriptionServiceGrpc.newBlockingStub(channel);
+        SubscriptionServiceStub activations = SubscriptionServiceGrpc.newStub(channel);
+        CountDownLatch updates = new CountDownLatch(SUBSCRIPTION_COUNT);
+        for (int i = 0; i < SUBSCRIPTION_COUNT; i++) {
+            Subscription subscription = subscriptions.subscribe(projectTopic());
+            activations.activate(subscription, new CountingObserver(updates, servingThreads));
+        }
+        // The activations are served asynchronously, so the updates are generated until
+        // all the subscriptions are active.
+        CommandServiceBlockingStub commands = CommandServiceGrpc.newBlockingStub(channel);
+        int attempt = 0;
+        do {
+            commands.post(createProjectCommand(attempt++));
+        } while (!updates.await(1, SECONDS) && attempt < MAX_UPDATES);
+
+        assertThat(updates.getCount()).isEqualTo(0);
+        assertThat(executor.getCompletedTaskCount()).isGreaterThan(0L);
+        // The channel uses the direct executor, so the updates are observed
+        // in the server threads which served the calls.
+        assertThat(servingThreads).isNotEmpty();
+        assertThat(servingThreads.size()).isAtMost(POOL_SIZE);
+        servingThreads.forEach(
+                thread -> assertThat(thread.getName()).startsWith(THREAD_PREFIX)
+        );
+    }
+
+    @Test
+    @DisplayName("reject calls beyond the concurrent call limit")
+    void limitCalls() throws IOException {
+        // Serve calls in the transport threads, so that the stream is open synchronously.
+        startServer(Server.inProcess(serverName)
+                          .setMaxConcurrentCalls(1));
+        SubscriptionServiceBlockingStub subscriptions =
+                SubscriptionServiceGrpc.newBlockingStub(channel);
+        Subscription subscription = subscriptions.subscribe(projectTopic());
+
+        // The open stream holds the only permit of the service.
+        SubscriptionServiceGrpc.newStub(channel)
+                               .activate(subscription, new MemoizingObserver<>());
+
+        StatusRuntimeException exception =
+                assertThrows(StatusRuntimeException.class,
+                             () -> subscriptions.subscribe(projectTopic()));
+        assertThat(exception.getStatus()
+                            .getCode()).isEqualTo(RESOURCE_EXHAUSTED);
+    }
+
+    private static Thread newThread(Runnable task) {
+        return new Thread(task, THREAD_PREFIX + threadCount.incrementAndGet());
+    }
+
+    private void startServer(Server.Builder builder) throws IOException {
+        server = builder.add(BoundedContextBuilder.assumingTests()
+                                                  .add(new ProjectAggregateRepository()))
+                        .build();
+        server.start();
+    }
+
+    private Topic projectTopic() {
+        return requests.topic()
+                       .forTarget(Targets.allOf(Project.class));
+    }
+
+    private Command createProjectCommand(int index) {
+        ProjectId projectId = ProjectId
+                .newBuilder()
+                .setId("bounded-threads-" + index)
+                .build();
+        return requests.createCommand(createProject(projectId));
+    }
+
+    /**
+     * Counts down the latch on the first update of the subscription.
+     *
+     * <p>Remembers the threads in which the updates are received.
+     */
+    private static final class CountingObserver implements StreamObserver<SubscriptionUpdate> {
+
+        private final CountDownLatch latch;
+        private final Set<Thread> threads;
+        private boolean updated;
+
+        private CountingObserver(CountDownLatch latch, Set<Thread> threads) {
+            this.latch = latch;
+            this.threads = threads;
+        }
+
+        @Override
+        public void onNext(SubscriptionUpdate value) {
+            threads.add(Thread.currentThread());
+            if (!updated) {
+                updated = true;
+                latch.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // Leave the latch as is so that the test fails.
+        }
+
+        @Override
+        public void onCompleted() {
+            // Subscriptions are not completed by the server.
+        }
+    }
+}
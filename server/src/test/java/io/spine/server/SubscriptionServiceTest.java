@@ -20,20 +20,24 @@
 
 package io.spine.server;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.truth.extensions.proto.ProtoSubject;
 import com.google.common.truth.extensions.proto.ProtoTruth;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.protobuf.Message;
+import io.grpc.stub.StreamObserver;
 import io.spine.base.EntityState;
 import io.spine.client.EntityStateUpdate;
 import io.spine.client.EntityUpdates;
 import io.spine.client.EventUpdates;
 import io.spine.client.Subscription;
+import io.spine.client.SubscriptionId;
 import io.spine.client.SubscriptionUpdate;
 import io.spine.client.Target;
 import io.spine.client.Targets;
 import io.spine.client.Topic;
 import io.spine.client.TopicFactory;
+import io.spine.client.grpc.SubscriptionControl;
 import io.spine.core.Command;
 import io.spine.core.Event;
 import io.spine.core.Response;
@@ -61,6 +65,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.logging.Level;
 
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Identifier.newUuid;
 import static io.spine.grpc.StreamObservers.noOpObserver;
@@ -312,9 +317,14 @@ class SubscriptionServiceTest {
 
     @CanIgnoreReturnValue
     private ProjectId updateEntity() {
+        return updateEntity("some-id");
+    }
+
+    @CanIgnoreReturnValue
+    private ProjectId updateEntity(String id) {
         ProjectId projectId = ProjectId
                 .newBuilder()
-                .setId("some-id")
+                .setId(id)
                 .build();
         AggCreateProject cmd = createProject(projectId);
         Command command = requestFactory.createCommand(cmd);
@@ -381,6 +391,113 @@ class SubscriptionServiceTest {
         assertThat(activationObserver.isCompleted()).isFalse();
     }
 
+    @Nested
+    @DisplayName("multiplex subscriptions over a single stream")
+    class Multiplex {
+
+        private MemoizingObserver<SubscriptionUpdate> updates;
+        private StreamObserver<SubscriptionControl> stream;
+
+        @BeforeEach
+        void openStream() {
+            updates = new MemoizingObserver<>();
+            stream = subscriptionService.activateAll(updates);
+        }
+
+        @Test
+        @DisplayName("delivering updates of each subscription")
+        void deliver() {
+            Subscription first = subscribe();
+            Subscription second = subscribe();
+            stream.onNext(activate(first));
+            stream.onNext(activate(second));
+
+            updateEntity(newUuid());
+
+            assertThat(subscriptionIds(updates.responses()))
+                    .containsExactly(first.getId(), second.getId());
+        }
+
+        @Test
+        @DisplayName("cancelling a subscription without affecting others")
+        void cancel() {
+            Subscription first = subscribe();
+            Subscription second = subscribe();
+            stream.onNext(activate(first));
+            stream.onNext(activate(second));
+            stream.onNext(cancel(first));
+
+            updateEntity(newUuid());
+
+            assertThat(subscriptionIds(updates.responses()))
+                    .containsExactly(second.getId());
+            assertThat(updates.isCompleted()).isFalse();
+        }
+
+        @Test
+        @MuteLogging
+        @DisplayName("reporting an invalid subscription without closing the stream")
+        void invalid() {
+            Subscription valid = subscribe();
+            Subscription invalid = invalidSubscription();
+            stream.onNext(activate(invalid));
+            stream.onNext(activate(valid));
+
+            List<SubscriptionUpdate> errors = updates.responses();
+            assertThat(errors).hasSize(1);
+            assertThat(errors.get(0)
+                             .getResponse()
+                             .isError()).isTrue();
+
+            updateEntity(newUuid());
+
+            List<SubscriptionUpdate> responses = updates.responses();
+            List<SubscriptionUpdate> delivered = responses.subList(1, responses.size());
+            assertThat(subscriptionIds(delivered))
+                    .containsExactly(valid.getId());
+            assertThat(updates.getError()).isNull();
+        }
+
+        @Test
+        @DisplayName("cancelling all subscriptions when the client completes the stream")
+        void complete() {
+            stream.onNext(activate(subscribe()));
+            stream.onCompleted();
+
+            assertThat(updates.isCompleted()).isTrue();
+
+            updateEntity(newUuid());
+            assertThat(updates.responses()).isEmpty();
+        }
+
+        private Subscription subscribe() {
+            MemoizingObserver<Subscription> observer = new MemoizingObserver<>();
+            subscriptionService.subscribe(newTopic(), observer);
+            return observer.firstResponse();
+        }
+
+        private ImmutableSet<SubscriptionId> subscriptionIds(List<SubscriptionUpdate> updates) {
+            return updates.stream()
+                          .map(update -> update.getSubscription()
+                                               .getId())
+                          .collect(toImmutableSet());
+        }
+
+        private SubscriptionControl activate(Subscription subscription) {
+            return SubscriptionControl
+                    .newBuilder()
+                    .setActivate(subscription)
+                    .build();
+        }
+
+        private SubscriptionControl cancel(Subscription subscription) {
+            return SubscriptionControl
+                    .newBuilder()
+                    .setCancel(subscription)
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("when cancelling non-existent subscription")
     class WarnOnCancelling extends LoggingTest {
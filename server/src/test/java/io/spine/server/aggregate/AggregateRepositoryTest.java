@@ -20,6 +20,7 @@
 
 package io.spine.server.aggregate;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import io.grpc.stub.StreamObserver;
@@ -101,6 +102,7 @@ import static io.spine.server.aggregate.given.repo.AggregateRepositoryTestEnv.re
 import static io.spine.server.aggregate.model.AggregateClass.asAggregateClass;
 import static io.spine.system.server.SystemBoundedContexts.systemOf;
 import static io.spine.testing.core.given.GivenTenantId.generate;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -357,6 +359,69 @@ public class AggregateRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("load aggregates in bulk")
+    class LoadInBulk {
+
+        @Test
+        @DisplayName("in the order of the passed IDs")
+        void inOrder() {
+            List<ProjectAggregate> stored = ImmutableList.of(givenStoredAggregate(),
+                                                             givenStoredAggregate(),
+                                                             givenStoredAggregate());
+            List<ProjectId> ids = stored.stream()
+                                        .map(ProjectAggregate::id)
+                                        .collect(toList());
+            List<ProjectAggregate> loaded = repository().loadAll(ids);
+
+            assertThat(loaded).hasSize(stored.size());
+            for (int i = 0; i < stored.size(); i++) {
+                ProjectAggregate expected = stored.get(i);
+                ProjectAggregate actual = loaded.get(i);
+                assertThat(actual.id()).isEqualTo(expected.id());
+                assertThat(actual.state()).isEqualTo(expected.state());
+                assertThat(actual.version()).isEqualTo(expected.version());
+            }
+        }
+
+        @Test
+        @DisplayName("skipping IDs of missing aggregates")
+        void skippingMissing() {
+            ProjectAggregate stored = givenStoredAggregate();
+            ProjectId missing = Sample.messageOfType(ProjectId.class);
+
+            List<ProjectAggregate> loaded =
+                    repository().loadAll(ImmutableList.of(missing, stored.id()));
+
+            assertThat(loaded).hasSize(1);
+            assertThat(loaded.get(0).id()).isEqualTo(stored.id());
+        }
+
+        @Test
+        @DisplayName("failing if one of the histories is corrupted")
+        void failOnCorrupted() {
+            ProjectAggregate healthy = givenStoredAggregate();
+            ProjectAggregate corrupted = givenStoredAggregate();
+            Event.Builder duplicate = corrupted.recentHistory()
+                                               .stream()
+                                               .findFirst()
+                                               .orElseGet(Assertions::fail)
+                                               .toBuilder();
+            duplicate.setId(Events.generateId())
+                     .getContextBuilder()
+                     .setTimestamp(currentTime());
+            AggregateHistory history = AggregateHistory
+                    .newBuilder()
+                    .addEvent(duplicate.build())
+                    .build();
+            repository().aggregateStorage()
+                        .write(corrupted.id(), history);
+
+            ImmutableList<ProjectId> ids = ImmutableList.of(healthy.id(), corrupted.id());
+            assertThrows(IllegalStateException.class, () -> repository().loadAll(ids));
+        }
+    }
+
     @Test
     @DisplayName("not create new aggregates upon lookup")
     void notCreateNewAggregatesOnFind() {
@@ -296,6 +296,43 @@ public abstract class AggregateStorageTest
     protected void rewriteRecord() {
     }
 
+    @Nested
+    @DisplayName("read histories of several aggregates")
+    class ReadSeveral {
+
+        @Test
+        @DisplayName("in the order of requests")
+        void inOrder() {
+            ProjectId first = newId();
+            ProjectId second = newId();
+            storage.write(first, newStorageRecord());
+            storage.writeRecord(second, StorageRecords.create(currentTime()));
+
+            List<AggregateReadRequest<ProjectId>> requests =
+                    newArrayList(newReadRequest(second), newReadRequest(first));
+            List<@Nullable AggregateHistory> histories = newArrayList(storage.readAll(requests));
+
+            assertThat(histories)
+                    .containsExactly(readRecord(second), readRecord(first))
+                    .inOrder();
+        }
+
+        @Test
+        @DisplayName("with `null` for missing aggregates")
+        void nullForMissing() {
+            storage.write(id, newStorageRecord());
+            ProjectId missing = newId();
+
+            List<AggregateReadRequest<ProjectId>> requests =
+                    newArrayList(newReadRequest(missing), newReadRequest(id));
+            List<@Nullable AggregateHistory> histories = newArrayList(storage.readAll(requests));
+
+            assertThat(histories)
+                    .containsExactly(null, readRecord(id))
+                    .inOrder();
+        }
+    }
+
     @Nested
     @DisplayName("read history of aggregate with status")
     class ReadHistory {
@@ -20,14 +20,27 @@
 
 package io.spine.server.aggregate;
 
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.base.EventMessage;
+import io.spine.base.Tests;
+import io.spine.core.Ack;
+import io.spine.core.Event;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.BoundedContext;
 import io.spine.server.BoundedContextBuilder;
+import io.spine.server.ServerEnvironment;
 import io.spine.server.aggregate.given.klasse.EngineAggregate;
 import io.spine.server.aggregate.given.klasse.EngineId;
 import io.spine.server.aggregate.given.klasse.EngineRepository;
 import io.spine.server.aggregate.given.klasse.event.EngineStopped;
 import io.spine.server.aggregate.given.klasse.event.SettingsAdjusted;
 import io.spine.server.aggregate.given.klasse.event.UnsupportedEngineEvent;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardedWorkRegistry;
+import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
 import io.spine.server.type.EventClass;
 import io.spine.server.type.EventEnvelope;
 import io.spine.testing.server.TestEventFactory;
@@ -35,13 +48,22 @@ import io.spine.testing.server.blackbox.BlackBoxContext;
 import io.spine.testing.server.entity.EntitySubject;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.server.delivery.given.DeliveryTestEnv.generateNodeId;
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 /**
  * Test support of event import in {@link AggregateRepository}.
@@ -203,6 +225,184 @@ class EventImportTest {
         }
     }
 
+    @Nested
+    @DisplayName("import events in bulk")
+    class InBulk {
+
+        private final EngineId first = engineId("BLK-1");
+        private final EngineId second = engineId("BLK-2");
+
+        private EngineRepository engines;
+        private BoundedContext boundedContext;
+
+        @BeforeEach
+        void createContext() {
+            createRepository(false);
+            engines = new EngineRepository(false);
+            boundedContext = BoundedContextBuilder.assumingTests()
+                                                  .add(engines)
+                                                  .build();
+        }
+
+        @AfterEach
+        void closeContext() throws Exception {
+            boundedContext.close();
+        }
+
+        @Test
+        @DisplayName("applying all the events of an aggregate in one transaction")
+        void groupingByAggregate() {
+            List<Event> events = ImmutableList.of(
+                    stopped(first), adjusted(second), adjusted(first), stopped(second)
+            );
+            MemoizingObserver<Ack> observer = memoizingObserver();
+            boundedContext.importBus()
+                          .importAll(events, observer);
+
+            assertThat(observer.isCompleted()).isTrue();
+            assertThat(observer.responses()).hasSize(events.size());
+            assertVersion(first, 2);
+            assertVersion(second, 2);
+            assertStoredOnce(first);
+            assertStoredOnce(second);
+        }
+
+        /**
+         * Asserts that the aggregate was written to the storage once, so all its imported events
+         * went into a single history segment.
+         */
+        private void assertStoredOnce(EngineId id) {
+            assertThat(engines.storedTimes(id)).isEqualTo(1);
+        }
+
+        private void assertVersion(EngineId id, int expected) {
+            Optional<EngineAggregate> aggregate = engines.find(id);
+            assertThat(aggregate).isPresent();
+            assertThat(aggregate.get()
+                                .version()
+                                .getNumber()).isEqualTo(expected);
+        }
+
+        private Event stopped(EngineId id) {
+            EngineStopped message = EngineStopped
+                    .newBuilder()
+                    .setId(id)
+                    .build();
+            return createEvent(message, id).outerObject();
+        }
+
+        private Event adjusted(EngineId id) {
+            SettingsAdjusted message = SettingsAdjusted
+                    .newBuilder()
+                    .setId(id)
+                    .build();
+            return createEvent(message, id).outerObject();
+        }
+    }
+
+    @Nested
+    @DisplayName("import events in bulk into the aggregate, which shard is held by another session,")
+    class BusyShard {
+
+        private static final long LEASE_MILLIS = 200;
+        private static final long SESSION_TIMEOUT_MILLIS = 300;
+
+        private final EngineId engine = engineId("BSY-1");
+
+        private Delivery originalDelivery;
+        private ShardedWorkRegistry registry;
+        private EngineRepository engines;
+        private BoundedContext boundedContext;
+
+        @BeforeEach
+        void rememberDelivery() {
+            createRepository(false);
+            originalDelivery = ServerEnvironment.instance()
+                                                .delivery();
+        }
+
+        @AfterEach
+        void restoreDelivery() throws Exception {
+            if (boundedContext != null) {
+                boundedContext.close();
+            }
+            ServerEnvironment.when(Tests.class)
+                             .use(originalDelivery);
+        }
+
+        @Test
+        @DisplayName("once the shard is released")
+        void waitForRelease() {
+            useDelivery(Durations.fromMillis(LEASE_MILLIS),
+                        Durations.fromSeconds(10));
+            holdShard();
+            MemoizingObserver<Ack> observer = memoizingObserver();
+
+            assertTimeoutPreemptively(
+                    ofSeconds(5),
+                    () -> boundedContext.importBus()
+                                        .importAll(ImmutableList.of(stopped()), observer)
+            );
+
+            assertThat(observer.isCompleted()).isTrue();
+            assertThat(engines.find(engine)).isPresent();
+        }
+
+        @Test
+        @DisplayName("failing if the shard is not released within the session timeout")
+        void failOnTimeout() {
+            useDelivery(Durations.fromSeconds(60),
+                        Durations.fromMillis(SESSION_TIMEOUT_MILLIS));
+            holdShard();
+            MemoizingObserver<Ack> observer = memoizingObserver();
+
+            assertTimeoutPreemptively(
+                    ofSeconds(5),
+                    () -> assertThrows(
+                            IllegalStateException.class,
+                            () -> boundedContext.importBus()
+                                                .importAll(ImmutableList.of(stopped()), observer)
+                    )
+            );
+
+            assertThat(observer.isCompleted()).isFalse();
+            assertThat(engines.find(engine)).isEmpty();
+        }
+
+        private void useDelivery(Duration lease, Duration sessionTimeout) {
+            registry = new InMemoryShardedWorkRegistry(lease);
+            Delivery delivery = Delivery.newBuilder()
+                                        .setWorkRegistry(registry)
+                                        .setSessionTimeout(sessionTimeout)
+                                        .build();
+            ServerEnvironment.when(Tests.class)
+                             .use(delivery);
+            engines = new EngineRepository(false);
+            boundedContext = BoundedContextBuilder.assumingTests()
+                                                  .add(engines)
+                                                  .build();
+        }
+
+        /**
+         * Picks up the shard of the aggregate on behalf of another node, which never
+         * extends its lease.
+         */
+        private void holdShard() {
+            ShardIndex index = ServerEnvironment.instance()
+                                                .delivery()
+                                                .whichShardFor(engine, engines.entityStateType());
+            assertThat(registry.pickUp(index, generateNodeId())).isPresent();
+        }
+
+        private Event stopped() {
+            EngineStopped message = EngineStopped
+                    .newBuilder()
+                    .setId(engine)
+                    .build();
+            return createEvent(message, engine).outerObject();
+        }
+    }
+
     @Test
     @DisplayName("fail with exception when importing unsupported event")
     void importUnsupported() {
@@ -20,6 +20,8 @@
 
 package io.spine.server.aggregate.given.klasse;
 
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.Multiset;
 import io.spine.server.aggregate.AggregateRepository;
 import io.spine.server.route.EventRoute;
 import io.spine.server.route.EventRouting;
@@ -32,6 +34,7 @@ import io.spine.server.route.EventRouting;
 public class EngineRepository extends AggregateRepository<EngineId, EngineAggregate> {
 
     private final boolean routeByFirstField;
+    private final Multiset<EngineId> stored = ConcurrentHashMultiset.create();
 
     public EngineRepository(boolean routeByFirstField) {
         this.routeByFirstField = routeByFirstField;
@@ -44,4 +47,17 @@ public class EngineRepository extends AggregateRepository<EngineId, EngineAggreg
             routing.replaceDefault(EventRoute.byFirstMessageField(idClass()));
         }
     }
+
+    @Override
+    protected void doStore(EngineAggregate aggregate) {
+        stored.add(aggregate.id());
+        super.doStore(aggregate);
+    }
+
+    /**
+     * Obtains how many times the aggregate with the given ID was written to the storage.
+     */
+    public int storedTimes(EngineId id) {
+        return stored.count(id);
+    }
 }
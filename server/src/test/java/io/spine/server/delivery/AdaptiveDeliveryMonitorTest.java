@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static com.google.protobuf.util.Durations.fromMillis;
+import static com.google.protobuf.util.Durations.fromSeconds;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("`AdaptiveDeliveryMonitor` should")
+class AdaptiveDeliveryMonitorTest {
+
+    private static final int CONFIGURED_PAGE_SIZE = 500;
+
+    private final ShardIndex index = newIndex(0, 1);
+
+    private ManualTicker ticker;
+    private AdaptiveDeliveryMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new ManualTicker();
+        monitor = monitorBuilder().build();
+    }
+
+    private AdaptiveDeliveryMonitor.Builder monitorBuilder() {
+        return AdaptiveDeliveryMonitor
+                .newBuilder()
+                .setTargetStageLatency(fromMillis(100))
+                .setMaxRunDuration(fromSeconds(1))
+                .setPageSizeBounds(10, 1_000)
+                .setTicker(ticker);
+    }
+
+    private void useBacklog(int pending) {
+        monitor = monitorBuilder()
+                .setMaxBacklogRunDuration(fromSeconds(5))
+                .setBacklog(i -> pending)
+                .build();
+    }
+
+    @Test
+    @DisplayName("use the configured page size until the latency is known")
+    void configuredPageSizeFirst() {
+        monitor.onDeliveryStarted(index);
+
+        assertThat(monitor.pageSize(index, CONFIGURED_PAGE_SIZE))
+                .isEqualTo(CONFIGURED_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("shrink the page if the delivery is slow")
+    void shrinkPage() {
+        runStage(500, CONFIGURED_PAGE_SIZE);
+
+        assertThat(monitor.pageSize(index, CONFIGURED_PAGE_SIZE))
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("grow the page up to the upper bound if the delivery is fast")
+    void growPage() {
+        runStage(5, CONFIGURED_PAGE_SIZE);
+
+        assertThat(monitor.pageSize(index, CONFIGURED_PAGE_SIZE))
+                .isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("continue the run while the next stage fits into the run duration")
+    void continueRun() {
+        boolean shouldContinue = runStage(400, CONFIGURED_PAGE_SIZE);
+
+        assertTrue(shouldContinue);
+    }
+
+    @Test
+    @DisplayName("stop the run if the next stage would exceed the run duration")
+    void stopRun() {
+        boolean shouldContinue = runStage(900, CONFIGURED_PAGE_SIZE);
+
+        assertFalse(shouldContinue);
+    }
+
+    @Test
+    @DisplayName("not read a page larger than the remaining backlog")
+    void limitPageByBacklog() {
+        useBacklog(42);
+        monitor.onDeliveryStarted(index);
+
+        assertThat(monitor.pageSize(index, CONFIGURED_PAGE_SIZE))
+                .isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("continue the run beyond its duration while the backlog is large")
+    void continueWithBacklog() {
+        useBacklog(100_000);
+
+        boolean shouldContinue = runStage(900, CONFIGURED_PAGE_SIZE);
+
+        assertTrue(shouldContinue);
+    }
+
+    @Test
+    @DisplayName("stop the run once the remaining backlog fits into a page")
+    void stopWithSmallBacklog() {
+        useBacklog(CONFIGURED_PAGE_SIZE + 100);
+
+        boolean shouldContinue = runStage(900, CONFIGURED_PAGE_SIZE);
+
+        assertFalse(shouldContinue);
+    }
+
+    @Test
+    @DisplayName("remember the statistics of the last delivery")
+    void lastStats() {
+        assertThat(monitor.lastStats(index)).isEmpty();
+
+        monitor.onDeliveryStarted(index);
+        monitor.onDeliveryCompleted(new DeliveryStats(index, 42));
+
+        Optional<DeliveryStats> stats = monitor.lastStats(index);
+        assertThat(stats).isPresent();
+        assertThat(stats.get()
+                        .deliveredCount()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive page size bound")
+    void rejectZeroPageSize() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> AdaptiveDeliveryMonitor.newBuilder()
+                                                  .setPageSizeBounds(0, 10));
+    }
+
+    /**
+     * Runs a single delivery stage, which takes the given time to deliver the given number
+     * of messages.
+     *
+     * @return the decision of the monitor whether to continue the run
+     */
+    private boolean runStage(long millis, int delivered) {
+        monitor.onDeliveryStarted(index);
+        int pageSize = monitor.pageSize(index, CONFIGURED_PAGE_SIZE);
+        assertThat(pageSize).isEqualTo(CONFIGURED_PAGE_SIZE);
+        ticker.advance(millis);
+        DeliveryStage stage = DeliveryStage
+                .newBuilder()
+                .setIndex(index)
+                .setMessagesDelivered(delivered)
+                .build();
+        return monitor.shouldContinueAfter(stage);
+    }
+
+    /**
+     * A ticker which is moved forward manually.
+     */
+    private static final class ManualTicker extends Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        private void advance(long millis) {
+            nanos += MILLISECONDS.toNanos(millis);
+        }
+    }
+}
@@ -97,7 +97,7 @@ public class CatchUpTest extends AbstractDeliveryTest {
     @DisplayName("given the time is provided with nanosecond resolution, catch up " +
             "only particular instances by their IDs")
     public void withNanosByIds() throws InterruptedException {
-        testCatchUpByIds();
+        testCatchUpByIds(false);
     }
 
     @Test
@@ -105,7 +105,7 @@ public class CatchUpTest extends AbstractDeliveryTest {
             "catch up all of projection instances" +
             "and respect the order of the delivered events")
     public void withNanosAllInOrder() throws InterruptedException {
-        testCatchUpAll();
+        testCatchUpAll(false);
     }
 
     @Test
@@ -113,7 +113,7 @@ public class CatchUpTest extends AbstractDeliveryTest {
             "catch up only particular instances by their IDs")
     public void withMillisByIds() throws InterruptedException {
         setupMillis();
-        testCatchUpByIds();
+        testCatchUpByIds(false);
     }
 
     @Test
@@ -121,7 +121,20 @@ public class CatchUpTest extends AbstractDeliveryTest {
             "of projection instances and respect the order of the delivered events")
     public void withMillisAllInOrder() throws InterruptedException {
         setupMillis();
-        testCatchUpAll();
+        testCatchUpAll(false);
+    }
+
+    @Test
+    @DisplayName("rebuild only particular projection instances by their IDs")
+    public void rebuildByIds() throws InterruptedException {
+        testCatchUpByIds(true);
+    }
+
+    @Test
+    @DisplayName("rebuild all of projection instances applying the history to them directly " +
+            "and respect the order of the delivered events")
+    public void rebuildAllInOrder() throws InterruptedException {
+        testCatchUpAll(true);
     }
 
     @Nested
@@ -194,11 +207,18 @@ public class CatchUpTest extends AbstractDeliveryTest {
         }
     }
 
+    private static WhatToCatchUp
+    whatToCatchUp(String id, Timestamp sinceWhen, boolean rebuild) {
+        return rebuild
+               ? WhatToCatchUp.rebuildOf(id, sinceWhen)
+               : WhatToCatchUp.catchUpOf(id, sinceWhen);
+    }
+
     private static CounterCatchUp catchUpForCounter() {
         return new CounterCatchUp("first", "second", "third", "fourth");
     }
 
-    private static void testCatchUpByIds() throws InterruptedException {
+    private static void testCatchUpByIds(boolean rebuild) throws InterruptedException {
         changeShardCountTo(2);
 
         CounterCatchUp counterCatchUp = catchUpForCounter();
@@ -229,8 +249,8 @@ public class CatchUpTest extends AbstractDeliveryTest {
         CounterView.changeWeightTo(newWeight);
         counterCatchUp
                 .dispatchWithCatchUp(events, 20,
-                                     catchUpOf(targets[0], aWhileAgo),
-                                     catchUpOf(targets[1], aMinuteAgo()));
+                                     whatToCatchUp(targets[0], aWhileAgo, rebuild),
+                                     whatToCatchUp(targets[1], aMinuteAgo(), rebuild));
 
         List<Integer> totalsAfterCatchUp = counterCatchUp.counterValues();
 
@@ -244,7 +264,7 @@ public class CatchUpTest extends AbstractDeliveryTest {
     }
 
     @SuppressWarnings("OverlyLongMethod")   // Complex environment setup.
-    private static void testCatchUpAll() throws InterruptedException {
+    private static void testCatchUpAll(boolean rebuild) throws InterruptedException {
         ConsecutiveProjection.usePositives();
 
         String[] ids = {"erste", "zweite", "dritte", "vierte"};
@@ -280,7 +300,11 @@ public class CatchUpTest extends AbstractDeliveryTest {
                 ImmutableList.<Callable<Object>>builder()
                         .addAll(jobs)
                         .add(() -> {
-                            projectionRepo.catchUpAll(aMinuteAgo());
+                            if (rebuild) {
+                                projectionRepo.rebuildAll(aMinuteAgo());
+                            } else {
+                                projectionRepo.catchUpAll(aMinuteAgo());
+                            }
                             return nullRef();
                         })
                         .build();
@@ -21,6 +21,7 @@
 package io.spine.server.delivery;
 
 import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import io.spine.protobuf.Durations2;
 import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
 import io.spine.server.storage.memory.InMemoryCatchUpStorage;
@@ -85,6 +86,13 @@ class DeliveryBuilderTest {
             assertThrows(NullPointerException.class,
                          () -> builder().setMonitor(nullRef()));
         }
+
+        @Test
+        @DisplayName("session timeout")
+        void sessionTimeout() {
+            assertThrows(NullPointerException.class,
+                         () -> builder().setSessionTimeout(nullRef()));
+        }
     }
 
     @Test
@@ -105,6 +113,15 @@ class DeliveryBuilderTest {
                      () -> builder().setCatchUpPageSize(-3));
     }
 
+    @Test
+    @DisplayName("accept only positive session timeout")
+    void acceptOnlyPositiveSessionTimeout() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder().setSessionTimeout(Durations.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder().setSessionTimeout(Durations.fromSeconds(-3)));
+    }
+
     @SuppressWarnings("OptionalGetWithoutIsPresent")    // testing `Builder` getters.
     @Nested
     @DisplayName("return set")
@@ -181,6 +198,15 @@ class DeliveryBuilderTest {
                                                    .catchUpPageSize()
                                                    .get());
         }
+
+        @Test
+        @DisplayName("session timeout")
+        void sessionTimeout() {
+            Duration timeout = Durations2.fromMinutes(2);
+            assertEquals(timeout, builder().setSessionTimeout(timeout)
+                                           .sessionTimeout()
+                                           .get());
+        }
     }
 
     @Nested
@@ -228,5 +254,11 @@ class DeliveryBuilderTest {
         void pageSize() {
             assertThrows(NullPointerException.class, () -> builder().getPageSize());
         }
+
+        @Test
+        @DisplayName("session timeout")
+        void sessionTimeout() {
+            assertThrows(NullPointerException.class, () -> builder().getSessionTimeout());
+        }
     }
 }
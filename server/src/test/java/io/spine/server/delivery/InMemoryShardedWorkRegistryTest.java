@@ -20,8 +20,32 @@
 
 package io.spine.server.delivery;
 
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.util.Durations;
+import io.spine.server.NodeId;
 import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+import static io.spine.server.delivery.given.DeliveryTestEnv.generateNodeId;
+import static java.time.Duration.ofMillis;
 
 /**
  * Tests the {@link InMemoryShardedWorkRegistry}.
@@ -33,4 +57,181 @@ class InMemoryShardedWorkRegistryTest extends ShardedWorkRegistryTest {
     protected ShardedWorkRegistry registry() {
         return new InMemoryShardedWorkRegistry();
     }
+
+    @Nested
+    @DisplayName("when granting leases")
+    class Leases {
+
+        private static final int LEASE_MILLIS = 200;
+
+        private final ShardIndex index = newIndex(3, 10);
+        private ShardedWorkRegistry registry;
+
+        @BeforeEach
+        void createRegistry() {
+            registry = new InMemoryShardedWorkRegistry(Durations.fromMillis(LEASE_MILLIS));
+        }
+
+        @Test
+        @DisplayName("keep the shard while the lease is not expired")
+        void keepShard() {
+            assertThat(registry.pickUp(index, generateNodeId())).isPresent();
+            assertThat(registry.pickUp(index, generateNodeId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("let another node pick up the shard once the lease expires")
+        void reclaimExpired() {
+            NodeId crashed = generateNodeId();
+            assertThat(registry.pickUp(index, crashed)).isPresent();
+
+            sleepUninterruptibly(ofMillis(LEASE_MILLIS + 50));
+
+            Optional<ShardProcessingSession> session = registry.pickUp(index, generateNodeId());
+            assertThat(session).isPresent();
+        }
+
+        @Test
+        @DisplayName("extend the lease upon a heartbeat")
+        void extendLease() {
+            ShardProcessingSession session = registry.pickUp(index, generateNodeId())
+                                                     .orElseThrow(AssertionError::new);
+            for (int i = 0; i < 4; i++) {
+                sleepUninterruptibly(ofMillis(LEASE_MILLIS / 2));
+                assertThat(session.heartbeat()).isTrue();
+            }
+            assertThat(registry.pickUp(index, generateNodeId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("not release the session which heartbeats past the inactivity period")
+        void keepActiveSession() {
+            ShardProcessingSession session = registry.pickUp(index, generateNodeId())
+                                                     .orElseThrow(AssertionError::new);
+            for (int i = 0; i < 4; i++) {
+                sleepUninterruptibly(ofMillis(LEASE_MILLIS / 2));
+                assertThat(session.heartbeat()).isTrue();
+            }
+
+            Iterable<ShardIndex> released =
+                    registry.releaseExpiredSessions(Durations.fromMillis(LEASE_MILLIS));
+
+            assertThat(released).isEmpty();
+            assertThat(session.heartbeat()).isTrue();
+            assertThat(registry.pickUp(index, generateNodeId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("release the session which lease expired past the inactivity period")
+        void releaseInactiveSession() {
+            ShardProcessingSession session = registry.pickUp(index, generateNodeId())
+                                                     .orElseThrow(AssertionError::new);
+            sleepUninterruptibly(ofMillis(LEASE_MILLIS + 50));
+
+            Iterable<ShardIndex> released =
+                    registry.releaseExpiredSessions(Durations.fromMillis(LEASE_MILLIS));
+
+            assertThat(released).containsExactly(index);
+            assertThat(session.heartbeat()).isFalse();
+        }
+
+        @Test
+        @DisplayName("tell the node it lost the session, and not release the shard of another node")
+        void loseSession() {
+            ShardProcessingSession lost = registry.pickUp(index, generateNodeId())
+                                                  .orElseThrow(AssertionError::new);
+            sleepUninterruptibly(ofMillis(LEASE_MILLIS + 50));
+            ShardProcessingSession current = registry.pickUp(index, generateNodeId())
+                                                     .orElseThrow(AssertionError::new);
+
+            assertThat(lost.heartbeat()).isFalse();
+            lost.complete();
+
+            assertThat(current.heartbeat()).isTrue();
+            assertThat(registry.pickUp(index, generateNodeId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("not let a stale session of the same node hold the shard picked up again")
+        void loseSessionOnSameNode() {
+            NodeId node = generateNodeId();
+            ShardProcessingSession lost = registry.pickUp(index, node)
+                                                  .orElseThrow(AssertionError::new);
+            sleepUninterruptibly(ofMillis(LEASE_MILLIS + 50));
+            ShardProcessingSession current = registry.pickUp(index, node)
+                                                     .orElseThrow(AssertionError::new);
+
+            assertThat(lost.heartbeat()).isFalse();
+            lost.complete();
+
+            assertThat(current.heartbeat()).isTrue();
+            assertThat(registry.pickUp(index, node)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("let a single node pick up a shard")
+    class Contention {
+
+        private static final int NODES = 16;
+        private static final int ROUNDS = 200;
+
+        private ExecutorService executor;
+
+        @BeforeEach
+        void createExecutor() {
+            executor = Executors.newFixedThreadPool(NODES);
+        }
+
+        @AfterEach
+        void shutDownExecutor() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("when many nodes compete for it concurrently")
+        void concurrently() throws Exception {
+            ShardedWorkRegistry registry =
+                    new InMemoryShardedWorkRegistry(Durations.fromSeconds(10));
+            for (int round = 0; round < ROUNDS; round++) {
+                ShardIndex index = newIndex(round, ROUNDS);
+                List<Optional<ShardProcessingSession>> sessions = pickConcurrently(registry, index);
+                long picked = sessions.stream()
+                                      .filter(Optional::isPresent)
+                                      .count();
+                assertThat(picked).isEqualTo(1);
+
+                ShardProcessingSession winner = sessions.stream()
+                                                        .filter(Optional::isPresent)
+                                                        .map(Optional::get)
+                                                        .findFirst()
+                                                        .orElseThrow(AssertionError::new);
+                winner.complete();
+                assertThat(pickConcurrently(registry, index)
+                                   .stream()
+                                   .filter(Optional::isPresent)
+                                   .count()).isEqualTo(1);
+            }
+        }
+
+        private List<Optional<ShardProcessingSession>>
+        pickConcurrently(ShardedWorkRegistry registry, ShardIndex index) throws Exception {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Optional<ShardProcessingSession>>> futures = new ArrayList<>();
+            for (int i = 0; i < NODES; i++) {
+                NodeId node = generateNodeId();
+                futures.add(executor.submit(() -> {
+                    awaitUninterruptibly(start);
+                    return registry.pickUp(index, node);
+                }));
+            }
+            start.countDown();
+            ImmutableList.Builder<Optional<ShardProcessingSession>> result =
+                    ImmutableList.builder();
+            for (Future<Optional<ShardProcessingSession>> future : futures) {
+                result.add(getUninterruptibly(future));
+            }
+            return result.build();
+        }
+    }
 }
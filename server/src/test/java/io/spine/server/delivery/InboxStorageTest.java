@@ -127,6 +127,23 @@ public abstract class InboxStorageTest {
         }
     }
 
+    @Test
+    @DisplayName("count the messages to deliver in a shard")
+    void countToDeliver() {
+        ShardIndex index = newIndex(3, 30);
+        assertThat(storage.countToDeliver(index)).isEqualTo(0);
+
+        ImmutableList<InboxMessage> messages = generateMessages(index, 7);
+        storage.writeAll(messages);
+        storage.writeAll(generateMessages(newIndex(4, 30), 3));
+        storage.write(messages.get(0)
+                              .toBuilder()
+                              .setStatus(InboxMessageStatus.DELIVERED)
+                              .build());
+
+        assertThat(storage.countToDeliver(index)).isEqualTo(6);
+    }
+
     /*
      * Test environment and utilities.
      *
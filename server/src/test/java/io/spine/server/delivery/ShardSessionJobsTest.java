@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.util.Durations;
+import io.spine.server.NodeId;
+import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+import static io.spine.server.delivery.given.DeliveryTestEnv.generateNodeId;
+import static java.time.Duration.ofMillis;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("`Delivery` running jobs in the sessions of shards should")
+class ShardSessionJobsTest {
+
+    private static final int SHARDS = 4;
+    private static final int LEASE_MILLIS = 200;
+    private static final int TIMEOUT_MILLIS = 300;
+
+    private final ShardIndex first = newIndex(1, SHARDS);
+    private final ShardIndex second = newIndex(3, SHARDS);
+
+    private ShardedWorkRegistry registry;
+    private Delivery delivery;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryStorageFactory storageFactory = InMemoryStorageFactory.newInstance();
+        registry = new InMemoryShardedWorkRegistry(Durations.fromMillis(LEASE_MILLIS));
+        delivery = Delivery.newBuilder()
+                           .setStrategy(UniformAcrossAllShards.forNumber(SHARDS))
+                           .setInboxStorage(storageFactory.createInboxStorage(false))
+                           .setCatchUpStorage(storageFactory.createCatchUpStorage(false))
+                           .setWorkRegistry(registry)
+                           .setSessionTimeout(Durations.fromMillis(TIMEOUT_MILLIS))
+                           .build();
+    }
+
+    @Test
+    @DisplayName("hold the shard while its job runs, and release it afterwards")
+    void holdShard() {
+        AtomicBoolean busy = new AtomicBoolean();
+        delivery.runInSessions(ImmutableMap.of(
+                first, heartbeat -> busy.set(!registry.pickUp(first, generateNodeId())
+                                                      .isPresent())
+        ));
+
+        assertThat(busy.get()).isTrue();
+        assertThat(registry.pickUp(first, generateNodeId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("fail within the timeout if a shard is held by another session")
+    void failOnBusyShard() {
+        NodeId anotherNode = generateNodeId();
+        Optional<ShardProcessingSession> session = registry.pickUp(second, anotherNode);
+        assertThat(session).isPresent();
+        AtomicBoolean run = new AtomicBoolean();
+        ImmutableMap<ShardIndex, ShardJob> jobs = ImmutableMap.of(
+                first, heartbeat -> run.set(true),
+                second, heartbeat -> run.set(true)
+        );
+
+        assertTimeoutPreemptively(
+                ofMillis(TIMEOUT_MILLIS * 10),
+                () -> assertThrows(IllegalStateException.class,
+                                   () -> delivery.runInSessions(jobs))
+        );
+        assertThat(run.get()).isFalse();
+        assertThat(registry.pickUp(first, generateNodeId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("fail if the session of a shard is lost during the job")
+    void failOnLostSession() {
+        ShardJob job = heartbeat -> {
+            sleepUninterruptibly(ofMillis(LEASE_MILLIS + 50));
+            assertThat(registry.pickUp(first, generateNodeId())).isPresent();
+            assertThat(heartbeat.getAsBoolean()).isFalse();
+        };
+
+        assertThrows(IllegalStateException.class,
+                     () -> delivery.runInSessions(ImmutableMap.of(first, job)));
+    }
+
+    @Test
+    @DisplayName("run the jobs for the shards held by the calling thread in its sessions")
+    void runNested() {
+        AtomicBoolean nestedRun = new AtomicBoolean();
+        ShardJob nested = heartbeat -> nestedRun.set(heartbeat.getAsBoolean());
+
+        delivery.runInSessions(ImmutableMap.of(
+                first, heartbeat -> delivery.runInSessions(ImmutableMap.of(first, nested,
+                                                                           second, nested))
+        ));
+
+        assertThat(nestedRun.get()).isTrue();
+        assertThat(registry.pickUp(second, generateNodeId())).isPresent();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import io.spine.server.delivery.VersionCounter.Stamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+
+@DisplayName("`VersionCounter` should")
+class VersionCounterTest {
+
+    private static final Comparator<Stamp> chronologically =
+            Comparator.comparing(Stamp::whenReceived, Timestamps.comparator())
+                      .thenComparingInt(Stamp::version);
+
+    @Test
+    @DisplayName("not roll the version over while the time stays the same")
+    void notRollOver() {
+        VersionCounter counter = new VersionCounter();
+        Timestamp now = Time.currentTime();
+        int count = 20_000;
+        Stamp previous = counter.next(now);
+        for (int i = 1; i < count; i++) {
+            Stamp next = counter.next(now);
+            assertThat(next.whenReceived()).isEqualTo(now);
+            assertThat(next.version()).isEqualTo(previous.version() + 1);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("reset the version as the time advances")
+    void resetVersion() {
+        VersionCounter counter = new VersionCounter();
+        Timestamp now = Time.currentTime();
+        counter.next(now);
+        counter.next(now);
+        Timestamp later = Timestamps.add(now, Durations.fromMillis(1));
+
+        Stamp stamp = counter.next(later);
+
+        assertThat(stamp.whenReceived()).isEqualTo(later);
+        assertThat(stamp.version()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("keep the last time if the clock goes back")
+    void keepLastTime() {
+        VersionCounter counter = new VersionCounter();
+        Timestamp now = Time.currentTime();
+        Stamp first = counter.next(now);
+        Timestamp earlier = Timestamps.subtract(now, Durations.fromMillis(5));
+
+        Stamp stamp = counter.next(earlier);
+
+        assertThat(stamp.whenReceived()).isEqualTo(now);
+        assertThat(chronologically.compare(first, stamp)).isLessThan(0);
+    }
+
+    @Test
+    @DisplayName("advance the time once the version is exhausted")
+    void advanceTime() {
+        Timestamp now = Time.currentTime();
+        Stamp exhausted = new Stamp(now, Integer.MAX_VALUE);
+
+        Stamp next = exhausted.following(now);
+
+        assertThat(next.version()).isEqualTo(0);
+        assertThat(Timestamps.compare(next.whenReceived(), now)).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("issue unique and ordered stamps to many concurrent writers of a shard")
+    void concurrentWriters() throws Exception {
+        int writers = 32;
+        int stampsPerWriter = 5_000;
+        ShardIndex index = newIndex(7, 32);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ImmutableList<Stamp>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                futures.add(executor.submit(() -> {
+                    awaitUninterruptibly(start);
+                    ImmutableList.Builder<Stamp> stamps = ImmutableList.builder();
+                    for (int j = 0; j < stampsPerWriter; j++) {
+                        stamps.add(VersionCounter.next(index));
+                    }
+                    return stamps.build();
+                }));
+            }
+            start.countDown();
+
+            Set<String> unique = new HashSet<>();
+            for (Future<ImmutableList<Stamp>> future : futures) {
+                ImmutableList<Stamp> stamps = getUninterruptibly(future);
+                assertThat(stamps).isInStrictOrder(chronologically);
+                stamps.forEach(stamp -> unique.add(Timestamps.toString(stamp.whenReceived())
+                                                           + '#' + stamp.version()));
+            }
+            assertThat(unique).hasSize(writers * stampsPerWriter);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
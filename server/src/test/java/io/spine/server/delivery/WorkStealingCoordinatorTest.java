@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.util.Durations;
+import io.spine.base.Tests;
+import io.spine.base.Time;
+import io.spine.core.Command;
+import io.spine.core.CommandId;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.memory.InMemoryShardedWorkRegistry;
+import io.spine.server.entity.Repository;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.test.delivery.AddNumber;
+import io.spine.test.delivery.Calc;
+import io.spine.testing.client.TestActorRequestFactory;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static io.spine.server.delivery.DeliveryStrategy.newIndex;
+import static io.spine.server.delivery.InboxIds.newSignalId;
+import static io.spine.server.delivery.given.DeliveryTestEnv.generateNodeId;
+import static io.spine.testing.Tests.nullRef;
+
+@DisplayName("`WorkStealingCoordinator` should")
+class WorkStealingCoordinatorTest extends AbstractDeliveryTest {
+
+    private static final int SHARDS = 6;
+    private static final int NODES = 3;
+    private static final String TARGET_ID = "the-stolen-calc";
+    private static final TypeUrl TARGET_TYPE = TypeUrl.of(Calc.class);
+
+    private final TestActorRequestFactory factory =
+            new TestActorRequestFactory(WorkStealingCoordinatorTest.class);
+    private final Queue<CommandId> delivered = new ConcurrentLinkedQueue<>();
+
+    private final ShardIndex hot = newIndex(2, SHARDS);
+    private final ShardIndex warm = newIndex(4, SHARDS);
+    private final ShardIndex cold = newIndex(0, SHARDS);
+
+    private InboxStorage inboxStorage;
+    private ShardedWorkRegistry registry;
+    private ImmutableList<Delivery> nodes;
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        InMemoryStorageFactory storageFactory = InMemoryStorageFactory.newInstance();
+        inboxStorage = storageFactory.createInboxStorage(false);
+        CatchUpStorage catchUpStorage = storageFactory.createCatchUpStorage(false);
+        registry = new InMemoryShardedWorkRegistry(Durations.fromSeconds(10));
+
+        ImmutableList.Builder<Delivery> builder = ImmutableList.builder();
+        for (int i = 0; i < NODES; i++) {
+            Delivery node = Delivery.newBuilder()
+                                    .setStrategy(UniformAcrossAllShards.forNumber(SHARDS))
+                                    .setInboxStorage(inboxStorage)
+                                    .setCatchUpStorage(catchUpStorage)
+                                    .setWorkRegistry(registry)
+                                    .setDeduplicationWindow(Durations.ZERO)
+                                    .build();
+            builder.add(node);
+        }
+        nodes = builder.build();
+
+        Delivery first = nodes.get(0);
+        ServerEnvironment.when(Tests.class)
+                         .use(first);
+        Inbox<String> inbox = first.<String>newInbox(TARGET_TYPE)
+                                   .addCommandEndpoint(InboxLabel.HANDLE_COMMAND,
+                                                       CountingEndpoint::new)
+                                   .build();
+        nodes.subList(1, NODES)
+             .forEach(node -> node.register(inbox));
+
+        writeMessages(hot, 5);
+        writeMessages(warm, 3);
+        writeMessages(cold, 1);
+    }
+
+    @Test
+    @DisplayName("order the shards by their backlog")
+    void orderByBacklog() {
+        WorkStealingCoordinator coordinator = WorkStealingCoordinator.of(nodes.get(0));
+
+        assertThat(coordinator.shardsByBacklog()).containsExactly(hot, warm, cold)
+                                                 .inOrder();
+    }
+
+    @Test
+    @DisplayName("deliver the messages from the shard with the largest backlog first")
+    void largestFirst() {
+        Optional<DeliveryStats> stats = WorkStealingCoordinator.of(nodes.get(1))
+                                                               .stealWork();
+
+        assertThat(stats).isPresent();
+        assertThat(stats.get()
+                        .shardIndex()).isEqualTo(hot);
+        assertThat(stats.get()
+                        .deliveredCount()).isEqualTo(5);
+        assertThat(inboxStorage.countToDeliver(hot)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("skip the shards processed by other nodes")
+    void skipPicked() {
+        Optional<ShardProcessingSession> busy = registry.pickUp(hot, generateNodeId());
+        assertThat(busy).isPresent();
+
+        Optional<DeliveryStats> stats = WorkStealingCoordinator.of(nodes.get(2))
+                                                               .stealWork();
+
+        assertThat(stats).isPresent();
+        assertThat(stats.get()
+                        .shardIndex()).isEqualTo(warm);
+        assertThat(inboxStorage.countToDeliver(hot)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("let several nodes drain all the shards delivering each message once")
+    void drainConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NODES);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Delivery node : nodes) {
+                WorkStealingCoordinator coordinator = WorkStealingCoordinator.of(node);
+                futures.add(executor.submit(() -> {
+                    while (coordinator.stealWork()
+                                      .isPresent()) {
+                        // Keep stealing while there is something to deliver.
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                getUninterruptibly(future);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(delivered).hasSize(9);
+        assertThat(delivered).containsNoDuplicates();
+        assertThat(WorkStealingCoordinator.of(nodes.get(0))
+                                          .shardsByBacklog()).isEmpty();
+    }
+
+    private void writeMessages(ShardIndex index, int count) {
+        for (int i = 0; i < count; i++) {
+            inboxStorage.write(newCommandInInbox(index, i));
+        }
+    }
+
+    private InboxMessage newCommandInInbox(ShardIndex index, int value) {
+        Command command = factory.createCommand(AddNumber.newBuilder()
+                                                         .setCalculatorId(TARGET_ID)
+                                                         .setValue(value)
+                                                         .vBuild());
+        InboxSignalId signalId = newSignalId(TARGET_ID, command.getId()
+                                                               .value());
+        return InboxMessage
+                .newBuilder()
+                .setId(InboxMessageMixin.generateIdWith(index))
+                .setSignalId(signalId)
+                .setInboxId(InboxIds.wrap(TARGET_ID, TARGET_TYPE))
+                .setLabel(InboxLabel.HANDLE_COMMAND)
+                .setStatus(InboxMessageStatus.TO_DELIVER)
+                .setCommand(command)
+                .setWhenReceived(Time.currentTime())
+                .build();
+    }
+
+    /**
+     * Remembers the IDs of the delivered commands.
+     */
+    private final class CountingEndpoint implements MessageEndpoint<String, CommandEnvelope> {
+
+        private final CommandEnvelope command;
+
+        private CountingEndpoint(CommandEnvelope command) {
+            this.command = command;
+        }
+
+        @Override
+        public void dispatchTo(String targetId) {
+            delivered.add(command.id());
+        }
+
+        @Override
+        public void onDuplicate(String target, CommandEnvelope envelope) {
+            // Do nothing.
+        }
+
+        @Override
+        public Repository<String, ?> repository() {
+            return nullRef();
+        }
+    }
+}
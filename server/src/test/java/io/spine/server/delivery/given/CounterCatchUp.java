@@ -139,7 +139,11 @@ public class CounterCatchUp {
             repo.catchUpAll(task.sinceWhen());
         } else {
             String targetId = checkNotNull(task.id());
-            repo.catchUp(task.sinceWhen(), ImmutableSet.of(targetId));
+            if (task.shouldRebuild()) {
+                repo.rebuild(task.sinceWhen(), ImmutableSet.of(targetId));
+            } else {
+                repo.catchUp(task.sinceWhen(), ImmutableSet.of(targetId));
+            }
         }
     }
 
@@ -32,19 +32,26 @@ public final class WhatToCatchUp {
 
     private final @Nullable String id;
     private final Timestamp sinceWhen;
+    private final boolean rebuild;
 
-    private WhatToCatchUp(String id, Timestamp sinceWhen) {
+    private WhatToCatchUp(@Nullable String id, Timestamp sinceWhen, boolean rebuild) {
         this.id = id;
         this.sinceWhen = sinceWhen;
+        this.rebuild = rebuild;
     }
 
     public static WhatToCatchUp catchUpOf(String id, Timestamp sinceWhen) {
         checkNotNull(id);
-        return new WhatToCatchUp(id, sinceWhen);
+        return new WhatToCatchUp(id, sinceWhen, false);
+    }
+
+    public static WhatToCatchUp rebuildOf(String id, Timestamp sinceWhen) {
+        checkNotNull(id);
+        return new WhatToCatchUp(id, sinceWhen, true);
     }
 
     public static WhatToCatchUp catchUpAll(Timestamp sinceWhen) {
-        return new WhatToCatchUp(null, sinceWhen);
+        return new WhatToCatchUp(null, sinceWhen, false);
     }
 
     public @Nullable String id() {
@@ -58,4 +65,8 @@ public final class WhatToCatchUp {
     public Timestamp sinceWhen() {
         return sinceWhen;
     }
+
+    public boolean shouldRebuild() {
+        return rebuild;
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.enrich;
+
+import io.spine.core.Command;
+import io.spine.core.EventContext;
+import io.spine.core.Version;
+import io.spine.people.PersonName;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.Given.CustomerAggregateRepository;
+import io.spine.server.enrich.given.event.SfnTestStarted;
+import io.spine.server.event.EventEnricher;
+import io.spine.test.commandservice.customer.Customer;
+import io.spine.test.commandservice.customer.CustomerId;
+import io.spine.test.commandservice.customer.command.CreateCustomer;
+import io.spine.testing.client.TestActorRequestFactory;
+import io.spine.testing.server.model.ModelTests;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+@DisplayName("`CachingEnrichmentFn` should")
+class CachingEnrichmentFnTest {
+
+    private static final CustomerId CUSTOMER = CustomerId
+            .newBuilder()
+            .setNumber(42)
+            .build();
+    private static final SfnTestStarted EVENT = SfnTestStarted
+            .newBuilder()
+            .setTestName(CachingEnrichmentFnTest.class.getSimpleName())
+            .build();
+
+    private final TestActorRequestFactory requestFactory =
+            new TestActorRequestFactory(CachingEnrichmentFnTest.class);
+
+    private AtomicInteger computations;
+    private CachingEnrichmentFn<SfnTestStarted, CustomerId, Customer, PersonName> fn;
+    private BoundedContext context;
+
+    @BeforeEach
+    void setUp() {
+        ModelTests.dropAllModels();
+        computations = new AtomicInteger();
+        CustomerAggregateRepository customers = new CustomerAggregateRepository();
+        fn = CachingEnrichmentFn.of(customers, event -> CUSTOMER, this::nameOf, 10);
+        EventEnricher enricher = EventEnricher
+                .newBuilder()
+                .add(SfnTestStarted.class, PersonName.class, fn)
+                .build();
+        context = BoundedContextBuilder
+                .assumingTests()
+                .enrichEventsUsing(enricher)
+                .add(customers)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("reuse the enrichment computed for the same entity")
+    void reuse() {
+        createCustomer("Alice");
+
+        assertThat(enrich().getGivenName()).isEqualTo("Alice");
+        assertThat(enrich().getGivenName()).isEqualTo("Alice");
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("compute the enrichment anew when the entity changes")
+    void recompute() {
+        createCustomer("Alice");
+        enrich();
+        createCustomer("Bob");
+
+        assertThat(enrich().getGivenName()).isEqualTo("Bob");
+        assertThat(computations.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("not store enrichments until registered to receive the state changes")
+    void inactive() {
+        EnrichmentCache<PersonName> cache =
+                new EnrichmentCache<>(TypeUrl.of(Customer.class), 10);
+        cache.put(CUSTOMER, Version.getDefaultInstance(), name("Alice"), cache.stamp());
+
+        assertThat(cache.get(CUSTOMER)).isEmpty();
+    }
+
+    private PersonName enrich() {
+        return fn.apply(EVENT, EventContext.getDefaultInstance());
+    }
+
+    private PersonName nameOf(Customer customer) {
+        computations.incrementAndGet();
+        return customer.getName();
+    }
+
+    private void createCustomer(String givenName) {
+        CreateCustomer createCustomer = CreateCustomer
+                .newBuilder()
+                .setCustomerId(CUSTOMER)
+                .setCustomer(Customer.newBuilder()
+                                     .setId(CUSTOMER)
+                                     .setName(name(givenName)))
+                .build();
+        Command command = requestFactory.command()
+                                        .create(createCustomer);
+        context.commandBus()
+               .post(command, noOpObserver());
+    }
+
+    private static PersonName name(String givenName) {
+        return PersonName
+                .newBuilder()
+                .setGivenName(givenName)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.enrich;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.spine.core.Enrichment;
+import io.spine.core.EventContext;
+import io.spine.server.enrich.given.event.SfnTestEvent;
+import io.spine.server.enrich.given.event.SfnTestStarted;
+import io.spine.server.type.EventEnvelope;
+import io.spine.testing.server.TestEventFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.extensions.proto.ProtoTruth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`CompositeFn` should")
+class CompositeFnTest {
+
+    private static final int POOL_SIZE = 2;
+
+    private final TestEventFactory factory = TestEventFactory.newInstance(getClass());
+
+    private ExecutorService executor;
+    private SfnTestEvent message;
+    private EventContext context;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(POOL_SIZE);
+        EventEnvelope event = EventEnvelope.of(
+                factory.createEvent(SfnTestStarted.newBuilder()
+                                                  .setTestName(getClass().getCanonicalName())
+                                                  .build()
+                ));
+        message = (SfnTestEvent) event.message();
+        context = event.context();
+    }
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("produce the same enrichment when applying functions concurrently")
+    void sameEnrichment() {
+        ImmutableList<EnrichmentFn<SfnTestEvent, EventContext, ? extends Message>> functions =
+                ImmutableList.of(
+                        (m, c) -> c.getTimestamp(),
+                        (m, c) -> StringValue.of(m.getTestName()),
+                        cheap((m, c) -> BoolValue.of(true))
+                );
+        Enrichment sequential = new CompositeFn<>(functions).apply(message, context);
+        Enrichment concurrent = new CompositeFn<>(functions, concurrency(SECONDS.toNanos(10)))
+                .apply(message, context);
+
+        assertThat(concurrent).isEqualTo(sequential);
+        assertThat(concurrent.getContainer()
+                             .getItemsMap()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("apply cheap functions in the calling thread")
+    void cheapInline() {
+        AtomicReference<Thread> cheapThread = new AtomicReference<>();
+        AtomicReference<Thread> expensiveThread = new AtomicReference<>();
+        ImmutableList<EnrichmentFn<SfnTestEvent, EventContext, ? extends Message>> functions =
+                ImmutableList.of(
+                        (m, c) -> {
+                            expensiveThread.set(Thread.currentThread());
+                            return c.getTimestamp();
+                        },
+                        (m, c) -> StringValue.of("expensive"),
+                        cheap((m, c) -> {
+                            cheapThread.set(Thread.currentThread());
+                            return BoolValue.of(true);
+                        })
+                );
+        new CompositeFn<>(functions, concurrency(SECONDS.toNanos(10)))
+                .apply(message, context);
+
+        assertThat(cheapThread.get()).isEqualTo(Thread.currentThread());
+        assertThat(expensiveThread.get()).isNotEqualTo(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("fail if functions do not complete in time, and free the executor threads")
+    void timeout() throws InterruptedException {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        ImmutableList<EnrichmentFn<SfnTestEvent, EventContext, ? extends Message>> functions =
+                ImmutableList.of(
+                        (m, c) -> {
+                            awaitRelease(neverReleased);
+                            return Timestamp.getDefaultInstance();
+                        },
+                        (m, c) -> StringValue.of("expensive")
+                );
+        CompositeFn<SfnTestEvent, EventContext> fn =
+                new CompositeFn<>(functions, concurrency(MILLISECONDS.toNanos(50)));
+
+        assertThrows(IllegalStateException.class, () -> fn.apply(message, context));
+
+        // Each task waits for the others, so all of them complete only if every thread is free.
+        CountDownLatch allThreadsFree = new CountDownLatch(POOL_SIZE);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            executor.execute(() -> {
+                allThreadsFree.countDown();
+                awaitRelease(allThreadsFree);
+            });
+        }
+        assertThat(allThreadsFree.await(1, SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("propagate the failure of a function")
+    void propagateFailure() {
+        ImmutableList<EnrichmentFn<SfnTestEvent, EventContext, ? extends Message>> functions =
+                ImmutableList.of(
+                        (m, c) -> {
+                            throw new IllegalArgumentException("Enrichment failed.");
+                        },
+                        (m, c) -> StringValue.of("expensive")
+                );
+        CompositeFn<SfnTestEvent, EventContext> fn =
+                new CompositeFn<>(functions, concurrency(SECONDS.toNanos(10)));
+
+        assertThrows(IllegalArgumentException.class, () -> fn.apply(message, context));
+    }
+
+    private Concurrency concurrency(long timeoutNanos) {
+        return new Concurrency(executor, timeoutNanos);
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static <T extends Message> EnrichmentFn<SfnTestEvent, EventContext, T>
+    cheap(EnrichmentFn<SfnTestEvent, EventContext, T> fn) {
+        return new EnrichmentFn<SfnTestEvent, EventContext, T>() {
+            @Override
+            public T apply(SfnTestEvent m, EventContext c) {
+                return fn.apply(m, c);
+            }
+
+            @Override
+            public boolean isCheap() {
+                return true;
+            }
+        };
+    }
+}
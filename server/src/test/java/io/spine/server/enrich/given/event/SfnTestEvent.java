@@ -28,6 +28,7 @@ import io.spine.base.EventMessage;
  * from {@link io.spine.server.enrich.SchemaFn}.
  *
  * @see io.spine.server.enrich.SingularFnTest
+ * @see io.spine.server.enrich.CompositeFnTest
  */
 @Immutable
 public interface SfnTestEvent extends EventMessage {
@@ -25,13 +25,16 @@ import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Message;
 import io.spine.base.EventMessage;
 import io.spine.core.Event;
+import io.spine.test.entity.ProjectId;
 import io.spine.test.entity.event.EntProjectCreated;
+import io.spine.testing.server.TestEventFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.Optional;
 
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth8.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -83,6 +86,39 @@ class CompositeEventFilterTest {
         assertFalse(mockFilter.called());
     }
 
+    @Test
+    @DisplayName("apply all filters to the events in bulk")
+    void filterInBulk() {
+        EntProjectCreated message = projectCreated("original");
+        EntProjectCreated changed = projectCreated("changed");
+        TestEventFactory factory = TestEventFactory.newInstance(getClass());
+        Event passed = factory.createEvent(message);
+        Event rejected = factory.createEvent(EntProjectCreated.getDefaultInstance());
+        CompositeEventFilter filter = CompositeEventFilter
+                .newBuilder()
+                .add(event -> Optional.of(event)
+                                      .filter(e -> !e.equals(
+                                              EntProjectCreated.getDefaultInstance())))
+                .add(event -> Optional.of(changed))
+                .build();
+
+        ImmutableCollection<Event> filtered = filter.filter(ImmutableList.of(passed, rejected));
+
+        assertThat(filtered).hasSize(1);
+        Event result = filtered.iterator()
+                               .next();
+        assertThat(result.getId()).isEqualTo(passed.getId());
+        assertThat(result.enclosedMessage()).isEqualTo(changed);
+    }
+
+    private static EntProjectCreated projectCreated(String projectId) {
+        return EntProjectCreated
+                .newBuilder()
+                .setProjectId(ProjectId.newBuilder()
+                                       .setId(projectId))
+                .build();
+    }
+
     /**
      * Mock implementation of {@code EventFilter} which always returns the message passed on
      * constructor, and remembers if its methods were called.
@@ -20,21 +20,28 @@
 
 package io.spine.server.entity;
 
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import io.spine.core.Event;
 import io.spine.test.entity.ProjectId;
 import io.spine.test.entity.Task;
 import io.spine.test.entity.event.EntProjectCreated;
 import io.spine.test.entity.event.EntTaskAdded;
 import io.spine.testdata.Sample;
+import io.spine.testing.server.TestEventFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
 
 import static com.google.protobuf.util.FieldMaskUtil.fromFieldNumbers;
+import static com.google.protobuf.util.FieldMaskUtil.fromStringList;
+import static io.spine.server.entity.FieldMasks.applyMask;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("EventFieldFilter should")
@@ -73,4 +80,43 @@ class EventFieldFilterTest {
         assertEquals(event.getProjectId(), maskedEventMessage.getProjectId());
         assertFalse(maskedEventMessage.hasTask());
     }
+
+    @Test
+    @DisplayName("trim nested fields in the same way as `FieldMasks`")
+    void applyNestedMask() {
+        FieldMask mask = fromStringList(EntTaskAdded.class,
+                                        ImmutableList.of("project_id", "task.title"));
+        EventFieldFilter filter = EventFieldFilter
+                .newBuilder()
+                .putMask(EntTaskAdded.class, mask)
+                .build();
+        EntTaskAdded event = EntTaskAdded
+                .newBuilder()
+                .setProjectId(Sample.messageOfType(ProjectId.class))
+                .setTask(Sample.messageOfType(Task.class))
+                .build();
+        Optional<? extends Message> filtered = filter.filter(event);
+        assertTrue(filtered.isPresent());
+        assertEquals(applyMask(mask, event), filtered.get());
+    }
+
+    @Test
+    @DisplayName("pass the same event if it has no fields to trim")
+    void notCopyUnaffected() {
+        FieldMask mask =
+                fromFieldNumbers(EntTaskAdded.class, EntTaskAdded.PROJECT_ID_FIELD_NUMBER);
+        EventFieldFilter filter = EventFieldFilter
+                .newBuilder()
+                .putMask(EntTaskAdded.class, mask)
+                .build();
+        EntTaskAdded message = EntTaskAdded
+                .newBuilder()
+                .setProjectId(Sample.messageOfType(ProjectId.class))
+                .build();
+        Event event = TestEventFactory.newInstance(getClass())
+                                      .createEvent(message);
+        ImmutableCollection<Event> filtered = filter.filter(ImmutableList.of(event));
+        assertSame(event, filtered.iterator()
+                                  .next());
+    }
 }
@@ -303,6 +303,49 @@ public abstract class TransactionTest<I,
                 .isEqualTo(event.getId());
     }
 
+    @Test
+    @DisplayName("use the same state builder for all the phases")
+    void reuseBuilder() {
+        E entity = createEntity();
+        Transaction<I, E, S, B> tx = createTx(entity);
+        B builder = tx.builder();
+
+        Version first = Versions.increment(entity.version());
+        Version second = Versions.increment(first);
+        applyEvent(tx, withMessageAndVersion(createEventMessage(), first));
+        applyEvent(tx, withMessageAndVersion(createEventMessage(), second));
+
+        assertThat(tx.builder())
+                .isSameInstanceAs(builder);
+        tx.commit();
+        assertThat(entity.state())
+                .isEqualTo(builder.build());
+        assertThat(entity.version())
+                .isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("share the packed state between the records before and after commit")
+    void packStateOnce() {
+        MemoizingTransactionListener<I> listener = new MemoizingTransactionListener<>();
+        E entity = createEntity();
+        Transaction<I, E, S, B> tx = createTx(entity, listener);
+        applyEvent(tx, withMessage(createEventMessage()));
+        tx.commit();
+
+        EntityRecord beforeCommit = listener.recordsBeforeCommit()
+                                            .get(0);
+        EntityRecordChange change = listener.recordsAfterCommit()
+                                            .get(0);
+        assertThat(change.getNewValue()
+                         .getState())
+                .isSameInstanceAs(beforeCommit.getState());
+        assertThat(change.getPreviousValue()
+                         .getState())
+                .isNotEqualTo(beforeCommit.getState());
+        assertTrue(entity.changed());
+    }
+
     @SuppressWarnings("CheckReturnValue") // can ignore new entity version in this test.
     @Test
     @DisplayName("not allow injecting state if entity has non-zero version already")
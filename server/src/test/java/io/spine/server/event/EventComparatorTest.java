@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.event;
+
+import com.google.protobuf.util.Timestamps;
+import io.spine.core.Event;
+import io.spine.test.entity.ProjectId;
+import io.spine.test.entity.event.EntProjectCreated;
+import io.spine.testing.server.TestEventFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.event.EventComparator.chronological;
+import static io.spine.server.event.EventComparator.sortChronologically;
+import static io.spine.testing.core.given.GivenVersion.withNumber;
+
+@DisplayName("`EventComparator` should")
+class EventComparatorTest {
+
+    private final TestEventFactory factory = TestEventFactory.newInstance(getClass());
+
+    @Test
+    @DisplayName("compare events by time, then by version, then by ID")
+    void compareChronologically() {
+        Event earlier = event(1, 2);
+        Event later = event(2, 1);
+        Event laterNextVersion = event(2, 2);
+
+        assertThat(chronological().compare(earlier, later)).isLessThan(0);
+        assertThat(chronological().compare(laterNextVersion, later)).isGreaterThan(0);
+        assertThat(chronological().compare(later, later)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("sort events by the extracted keys in the same order as the comparator")
+    void sortByKeys() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(event(i % 5, i % 3));
+        }
+        Collections.shuffle(events, new Random(42));
+        List<Event> expected = new ArrayList<>(events);
+        expected.sort(chronological());
+
+        sortChronologically(events);
+
+        assertThat(events).containsExactlyElementsIn(expected)
+                          .inOrder();
+    }
+
+    private Event event(long seconds, int version) {
+        EntProjectCreated message = EntProjectCreated
+                .newBuilder()
+                .setProjectId(ProjectId.newBuilder()
+                                       .setId(String.valueOf(seconds)))
+                .build();
+        return factory.createEvent(message, withNumber(version), Timestamps.fromSeconds(seconds));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.metric;
+
+import io.spine.base.CommandMessage;
+import io.spine.base.Tests;
+import io.spine.core.Command;
+import io.spine.server.BoundedContext;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.trace.given.airport.AirportContext;
+import io.spine.testing.client.TestActorRequestFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+import static io.spine.server.commandbus.Given.ACommand.createProject;
+import static io.spine.server.trace.given.TracingTestEnv.scheduleFlight;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Metrics should")
+class MetricsTest {
+
+    private static final ServerEnvironment serverEnvironment = ServerEnvironment.instance();
+    private static final TestActorRequestFactory requests =
+            new TestActorRequestFactory(MetricsTest.class);
+
+    @Test
+    @DisplayName("not be collected by default")
+    void noOpByDefault() {
+        assertSame(MetricRegistry.noOp(), serverEnvironment.metrics());
+    }
+
+    @Nested
+    @DisplayName("when a registry is configured")
+    class Configured {
+
+        private InMemoryMetricRegistry metrics;
+        private BoundedContext context;
+
+        @BeforeEach
+        void setUp() {
+            metrics = InMemoryMetricRegistry.newInstance();
+            ServerEnvironment.when(Tests.class)
+                             .use(metrics)
+                             .use(Delivery.local());
+            context = AirportContext
+                    .builder()
+                    .build();
+        }
+
+        @AfterEach
+        void tearDown() throws Exception {
+            context.close();
+            serverEnvironment.reset();
+        }
+
+        @Test
+        @DisplayName("count the posted and dispatched commands")
+        void countPosted() {
+            post(scheduleFlight());
+
+            assertThat(metrics.count("Airport.CommandBus.posted")).isEqualTo(1);
+            assertThat(metrics.timedCount("Airport.CommandBus.dispatch")).isEqualTo(1);
+            assertThat(metrics.count("Airport.CommandBus.rejected")).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("count the commands rejected by the bus filters")
+        void countRejected() {
+            context.commandBus()
+                   .post(createProject(), noOpObserver());
+
+            assertThat(metrics.count("Airport.CommandBus.posted")).isEqualTo(1);
+            assertThat(metrics.count("Airport.CommandBus.rejected")).isEqualTo(1);
+            assertThat(metrics.timedCount("Airport.CommandBus.dispatch")).isEqualTo(0);
+        }
+
+        @Test
+        @DisplayName("measure the delivery and the storage operations")
+        void measureDelivery() {
+            post(scheduleFlight());
+
+            assertThat(metrics.count("Delivery.delivered")).isGreaterThan(0);
+            assertThat(metrics.timedCount("InboxStorage.write")).isGreaterThan(0);
+            assertThat(metrics.timedCount("Airport.FlightAggregate.write")).isGreaterThan(0);
+        }
+
+        @Test
+        @DisplayName("report the backlog of the delivery shards")
+        void reportBacklog() {
+            post(scheduleFlight());
+
+            assertThat(metrics.gauges()).contains("Delivery.backlog.shard-0");
+            assertThat(metrics.gaugeValue("Delivery.backlog.shard-0")
+                              .getAsLong()).isEqualTo(0);
+        }
+
+        private void post(CommandMessage command) {
+            Command cmd = requests.command()
+                                  .create(command);
+            context.commandBus()
+                   .post(cmd, noOpObserver());
+        }
+    }
+}
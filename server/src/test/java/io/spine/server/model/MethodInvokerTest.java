@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.model.given.MethodInvokerTestEnv.acceptedValue;
+import static io.spine.server.model.given.MethodInvokerTestEnv.method;
+import static io.spine.server.model.given.MethodInvokerTestEnv.newTarget;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.condition.JRE.JAVA_9;
+
+@DisplayName("`MethodInvoker` should")
+class MethodInvokerTest {
+
+    private final Object target = newTarget();
+
+    @Nested
+    @DisplayName("call a method")
+    class Call {
+
+        @Test
+        @DisplayName("with one parameter")
+        void oneParam() throws Exception {
+            assertThat(invoke("one", "a")).isEqualTo("a");
+        }
+
+        @Test
+        @DisplayName("with two parameters")
+        void twoParams() throws Exception {
+            assertThat(invoke("two", "a", "b")).isEqualTo("ab");
+        }
+
+        @Test
+        @DisplayName("with three parameters")
+        void threeParams() throws Exception {
+            assertThat(invoke("three", "a", "b", "c")).isEqualTo("abc");
+        }
+
+        @Test
+        @DisplayName("with more than three parameters")
+        void fourParams() throws Exception {
+            assertThat(invoke("four", "a", "b", "c", "d")).isEqualTo("abcd");
+        }
+
+        @Test
+        @DisplayName("returning `void`")
+        void returningVoid() throws Exception {
+            assertThat(invoke("accept", "a")).isNull();
+            assertThat(acceptedValue(target)).isEqualTo("a");
+
+            assertThat(invoke("acceptTwo", "a", "b")).isNull();
+            assertThat(acceptedValue(target)).isEqualTo("ab");
+        }
+
+        @Test
+        @DisplayName("with a primitive parameter")
+        void primitiveParam() throws Exception {
+            assertThat(invoke("primitive", 42)).isEqualTo("42");
+        }
+
+        @Test
+        @DisplayName("which is static")
+        void staticMethod() throws Exception {
+            assertThat(invoke("staticMethod", "a")).isEqualTo("a");
+        }
+
+        @Test
+        @DisplayName("with varargs")
+        void varargs() throws Exception {
+            String[] values = {"a", "b"};
+            assertThat(invoke("varargs", (Object) values)).isEqualTo("ab");
+        }
+    }
+
+    @Test
+    @DisplayName("wrap an exception thrown by the method")
+    void wrapException() {
+        MethodInvoker invoker = MethodInvoker.of(method("throwing"));
+        InvocationTargetException exception =
+                assertThrows(InvocationTargetException.class,
+                             () -> invoker.invoke(target, new Object[]{"failure"}));
+        assertThat(exception.getCause())
+                .hasMessageThat()
+                .isEqualTo("failure");
+    }
+
+    @Nested
+    @DisplayName("reject with `IllegalArgumentException` an argument of a wrong type")
+    class RejectArgument {
+
+        @Test
+        @DisplayName("when calling a generated lambda")
+        void direct() {
+            assertRejects("one", 42);
+        }
+
+        @Test
+        @DisplayName("when calling a method handle")
+        void viaHandle() {
+            assertRejects("primitive", "42");
+        }
+
+        @Test
+        @DisplayName("when calling via Reflection")
+        void reflective() {
+            assertRejects("staticMethod", 42);
+        }
+
+        private void assertRejects(String methodName, Object argument) {
+            assertThrows(IllegalArgumentException.class, () -> invoke(methodName, argument));
+        }
+    }
+
+    @Nested
+    @DisplayName("select")
+    class Select {
+
+        @Test
+        @EnabledForJreRange(min = JAVA_9)
+        @DisplayName("a generated lambda for methods with up to three parameters")
+        void direct() {
+            assertThat(MethodInvoker.of(method("one")))
+                    .isInstanceOf(MethodInvoker.Direct.class);
+            assertThat(MethodInvoker.of(method("three")))
+                    .isInstanceOf(MethodInvoker.Direct.class);
+            assertThat(MethodInvoker.of(method("acceptTwo")))
+                    .isInstanceOf(MethodInvoker.Direct.class);
+        }
+
+        @Test
+        @DisplayName("a method handle for methods with many or primitive parameters")
+        void viaHandle() {
+            assertThat(MethodInvoker.of(method("four")))
+                    .isInstanceOf(MethodInvoker.ViaHandle.class);
+            assertThat(MethodInvoker.of(method("primitive")))
+                    .isInstanceOf(MethodInvoker.ViaHandle.class);
+        }
+
+        @Test
+        @DisplayName("Reflection for static and varargs methods")
+        void reflective() {
+            assertThat(MethodInvoker.of(method("staticMethod")))
+                    .isInstanceOf(MethodInvoker.Reflective.class);
+            assertThat(MethodInvoker.of(method("varargs")))
+                    .isInstanceOf(MethodInvoker.Reflective.class);
+        }
+    }
+
+    private Object invoke(String methodName, Object... arguments) throws Exception {
+        MethodInvoker invoker = MethodInvoker.of(method(methodName));
+        return invoker.invoke(target, arguments);
+    }
+}
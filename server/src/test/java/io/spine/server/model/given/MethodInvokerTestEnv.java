@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.model.given;
+
+import java.lang.reflect.Method;
+
+import static java.lang.String.format;
+
+public class MethodInvokerTestEnv {
+
+    /** Prevents instantiation of this utility class. */
+    private MethodInvokerTestEnv() {
+    }
+
+    /**
+     * Obtains an accessible method of {@link Target} with the given name.
+     */
+    public static Method method(String name) {
+        for (Method method : Target.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                method.setAccessible(true);
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(format("No method `%s` in `Target`.", name));
+    }
+
+    /**
+     * Creates a new target to call the methods on.
+     */
+    public static Object newTarget() {
+        return new Target();
+    }
+
+    /**
+     * Obtains the value of {@code Target.acceptedValue} on the given target.
+     */
+    public static String acceptedValue(Object target) {
+        return ((Target) target).acceptedValue;
+    }
+
+    @SuppressWarnings({"unused", "MethodMayBeStatic"}) // Reflective access.
+    private static class Target {
+
+        private String acceptedValue = "";
+
+        private String one(String first) {
+            return first;
+        }
+
+        private String two(String first, String second) {
+            return first + second;
+        }
+
+        private String three(String first, String second, String third) {
+            return first + second + third;
+        }
+
+        private String four(String first, String second, String third, String fourth) {
+            return first + second + third + fourth;
+        }
+
+        private void accept(String value) {
+            acceptedValue = value;
+        }
+
+        private void acceptTwo(String first, String second) {
+            acceptedValue = first + second;
+        }
+
+        private String primitive(int value) {
+            return String.valueOf(value);
+        }
+
+        private static String staticMethod(String value) {
+            return value;
+        }
+
+        private String varargs(String... values) {
+            return String.join("", values);
+        }
+
+        private void throwing(String message) throws Exception {
+            throw new Exception(message);
+        }
+    }
+}
@@ -22,6 +22,7 @@ package io.spine.server.route;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.testing.NullPointerTester;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.truth.OptionalSubject;
 import com.google.common.truth.Truth8;
 import io.spine.base.EventMessage;
@@ -41,9 +42,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static com.google.common.testing.SerializableTester.reserialize;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.testing.DisplayNames.NOT_ACCEPT_NULLS;
 import static io.spine.testing.TestValues.random;
@@ -227,10 +235,10 @@ class EventRoutingTest {
 
         Match secondMatch = eventRouting.routeFor(UserLoggedIn.class);
 
-        assertThat(secondMatch.found())
-                .isTrue();
-        assertThat(secondMatch.entryClass())
-                .isEqualTo(UserLoggedIn.class);
+        assertThat(secondMatch)
+                .isSameInstanceAs(firstMatch);
+        assertThat(secondMatch.direct())
+                .isFalse();
     }
 
     @Test
@@ -249,4 +257,96 @@ class EventRoutingTest {
         assertThat(route)
                 .isEqualTo(DEFAULT_ROUTE);
     }
+
+    @Test
+    @DisplayName("memoize the absence of a custom route until a route is added")
+    void memoizeMisses() {
+        Match miss = eventRouting.routeFor(UserLoggedIn.class);
+        assertThat(miss.found())
+                .isFalse();
+        assertThat(eventRouting.routeFor(UserLoggedIn.class))
+                .isSameInstanceAs(miss);
+
+        eventRouting.route(LoginEvent.class, customRoute);
+
+        Match match = eventRouting.routeFor(UserLoggedIn.class);
+        assertThat(match.found())
+                .isTrue();
+        assertThat(match.entryClass())
+                .isEqualTo(LoginEvent.class);
+    }
+
+    @Test
+    @DisplayName("forget the memoized routes upon removal of a route")
+    void forgetRemoved() {
+        eventRouting.route(LoginEvent.class, customRoute);
+        assertThat(eventRouting.routeFor(UserLoggedIn.class)
+                               .found())
+                .isTrue();
+
+        eventRouting.remove(LoginEvent.class);
+
+        assertThat(eventRouting.routeFor(UserLoggedIn.class)
+                               .found())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("route concurrently")
+    void routeConcurrently() throws InterruptedException {
+        eventRouting.route(UserLoggedOut.class, alternativeRoute)
+                    .route(LoginEvent.class, customRoute);
+        int threadCount = 8;
+        int callsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            tasks.add(() -> {
+                for (int call = 0; call < callsPerThread; call++) {
+                    if (!routedCorrectly()) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+        List<Future<Boolean>> results = executor.invokeAll(tasks);
+        executor.shutdown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(Futures.getUnchecked(result))
+                    .isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("route after a serialization round trip")
+    void routeAfterDeserialization() {
+        eventRouting.route(UserLoggedOut.class, alternativeRoute)
+                    .route(LoginEvent.class, customRoute);
+        // Populate the memo before the serialization.
+        assertThat(routedCorrectly(eventRouting))
+                .isTrue();
+
+        EventRouting<Long> restored = reserialize(eventRouting);
+
+        assertThat(routedCorrectly(restored))
+                .isTrue();
+        assertThat(restored.routeFor(UserLoggedIn.class))
+                .isSameInstanceAs(restored.routeFor(UserLoggedIn.class));
+    }
+
+    private boolean routedCorrectly() {
+        return routedCorrectly(eventRouting);
+    }
+
+    private static boolean routedCorrectly(EventRouting<Long> eventRouting) {
+        EventContext ctx = EventContext.getDefaultInstance();
+        Set<Long> viaInterface = eventRouting.apply(UserLoggedIn.getDefaultInstance(), ctx);
+        Set<Long> direct = eventRouting.apply(UserLoggedOut.getDefaultInstance(), ctx);
+        Set<Long> byDefault = eventRouting.apply(UserRegistered.getDefaultInstance(), ctx);
+        return CUSTOM_ROUTE.equals(viaInterface)
+                && ALT_ROUTE.equals(direct)
+                && DEFAULT_ROUTE.equals(byDefault);
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.route;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.test.aggregate.Status;
+import io.spine.test.route.SizedItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`FieldAccessor` should")
+class FieldAccessorTest {
+
+    private static final Project PROJECT = Project
+            .newBuilder()
+            .setId(ProjectId.newBuilder()
+                            .setId("some-project"))
+            .setName("Some project")
+            .setStatus(Status.STARTED)
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"id", "name", "status"})
+    @DisplayName("read the same value as `Message.getField(..)`")
+    void readSameValue(String fieldName) {
+        FieldDescriptor field = fieldOf(PROJECT, fieldName);
+        FieldAccessor accessor = FieldAccessor.of(Project.class, field);
+
+        assertThat(accessor.get(PROJECT))
+                .isEqualTo(PROJECT.getField(field));
+    }
+
+    @Test
+    @DisplayName("know the type of the values of a generated message field")
+    void knowValueType() {
+        FieldAccessor accessor = FieldAccessor.of(Project.class, fieldOf(PROJECT, "id"));
+
+        assertThat(accessor.valueType())
+                .isEqualTo(ProjectId.class);
+        assertThat(accessor.mayBeInstanceOf(ProjectId.class))
+                .isTrue();
+        assertThat(accessor.mayBeInstanceOf(String.class))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("fall back to `Message.getField(..)` for a dynamic message")
+    void readDynamicMessage() throws Exception {
+        DynamicMessage dynamic = DynamicMessage.parseFrom(Project.getDescriptor(),
+                                                          PROJECT.toByteString());
+        FieldDescriptor field = fieldOf(dynamic, "name");
+        FieldAccessor accessor = FieldAccessor.of(DynamicMessage.class, field);
+
+        assertThat(accessor.get(dynamic))
+                .isEqualTo(PROJECT.getName());
+        assertThat(accessor.mayBeInstanceOf(String.class))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("not confuse a renamed getter with a method of the message")
+    void renamedGetter() {
+        SizedItem item = SizedItem
+                .newBuilder()
+                .setSerializedSize_(42)
+                .build();
+        FieldDescriptor field = fieldOf(item, "serialized_size");
+        FieldAccessor accessor = FieldAccessor.of(SizedItem.class, field);
+
+        assertThat(accessor.get(item))
+                .isEqualTo(42);
+        assertThat(accessor.get(item))
+                .isNotEqualTo(item.getSerializedSize());
+    }
+
+    private static FieldDescriptor fieldOf(Message message, String name) {
+        return message.getDescriptorForType()
+                      .findFieldByName(name);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.spine.base.EventMessage;
+import io.spine.base.Identifier;
+import io.spine.client.EntityStateWithVersion;
+import io.spine.client.Query;
+import io.spine.client.QueryFactory;
+import io.spine.client.QueryResponse;
+import io.spine.core.Command;
+import io.spine.core.MessageId;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.BoundedContext;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.Given.CustomerAggregateRepository;
+import io.spine.server.type.EventEnvelope;
+import io.spine.system.server.event.EntityDeleted;
+import io.spine.system.server.event.EntityStateChanged;
+import io.spine.test.commandservice.customer.Customer;
+import io.spine.test.commandservice.customer.CustomerId;
+import io.spine.test.commandservice.customer.command.CreateCustomer;
+import io.spine.test.projection.Project;
+import io.spine.testing.client.TestActorRequestFactory;
+import io.spine.testing.server.TestEventFactory;
+import io.spine.testing.server.model.ModelTests;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+@DisplayName("`QueryCache` should")
+class QueryCacheTest {
+
+    private static final ImmutableList<EntityStateWithVersion> RESULT =
+            ImmutableList.of(EntityStateWithVersion.getDefaultInstance());
+
+    private final TestActorRequestFactory requestFactory =
+            new TestActorRequestFactory(QueryCacheTest.class);
+    private final TestEventFactory eventFactory =
+            TestEventFactory.newInstance(QueryCacheTest.class);
+
+    private QueryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = QueryCache.newInstance(10, false);
+    }
+
+    @Test
+    @DisplayName("not store anything if disabled")
+    void notStoreIfDisabled() {
+        QueryCache disabled = QueryCache.disabled();
+        Query query = queries().all(Customer.class);
+        disabled.put(query, RESULT, disabled.stamp());
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.get(query)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("serve the result to an equal query with another ID")
+    void serveEqualQueries() {
+        cache.put(queries().all(Customer.class), RESULT, cache.stamp());
+
+        assertThat(cache.get(queries().all(Customer.class))).hasValue(RESULT);
+        assertThat(cache.get(queries().allWithMask(Customer.class, "name"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("not store the result read concurrently with an invalidation")
+    void notStoreStaleResult() {
+        Query query = queries().all(Customer.class);
+        long stamp = cache.stamp();
+        cache.invalidate(stateChanged(customerId(1)));
+        cache.put(query, RESULT, stamp);
+
+        assertThat(cache.get(query)).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("upon an entity lifecycle event")
+    class Invalidate {
+
+        @Test
+        @DisplayName("drop the queries of the entity type")
+        void queriesOfType() {
+            Query query = queries().all(Customer.class);
+            cache.put(query, RESULT, cache.stamp());
+            cache.invalidate(stateChanged(customerId(1)));
+
+            assertThat(cache.get(query)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("keep the queries of other types")
+        void keepOtherTypes() {
+            Query query = queries().all(Project.class);
+            cache.put(query, RESULT, cache.stamp());
+            cache.invalidate(stateChanged(customerId(1)));
+
+            assertThat(cache.get(query)).hasValue(RESULT);
+        }
+
+        @Test
+        @DisplayName("keep the queries restricted to other IDs")
+        void keepOtherIds() {
+            Query matching = queries().byIds(Customer.class, ImmutableSet.of(customerId(1)));
+            Query other = queries().byIds(Customer.class, ImmutableSet.of(customerId(2)));
+            cache.put(matching, RESULT, cache.stamp());
+            cache.put(other, RESULT, cache.stamp());
+            cache.invalidate(deleted(customerId(1)));
+
+            assertThat(cache.get(matching)).isEmpty();
+            assertThat(cache.get(other)).hasValue(RESULT);
+        }
+    }
+
+    @Test
+    @DisplayName("serve the up-to-date results when enabled in a Bounded Context")
+    void refreshInContext() throws Exception {
+        ModelTests.dropAllModels();
+        BoundedContext context = BoundedContextBuilder
+                .assumingTests()
+                .cacheQueryResults(10)
+                .add(new CustomerAggregateRepository())
+                .build();
+        Stand stand = context.stand();
+
+        assertThat(readAllCustomers(stand)).isEmpty();
+
+        CustomerId id = customerId(42);
+        CreateCustomer createCustomer = CreateCustomer
+                .newBuilder()
+                .setCustomerId(id)
+                .setCustomer(Customer.newBuilder()
+                                     .setId(id))
+                .build();
+        Command command = requestFactory.command()
+                                        .create(createCustomer);
+        context.commandBus()
+               .post(command, noOpObserver());
+
+        List<EntityStateWithVersion> customers = readAllCustomers(stand);
+        assertThat(customers).hasSize(1);
+        Customer customer = unpack(customers.get(0).getState(), Customer.class);
+        assertThat(customer.getId()).isEqualTo(id);
+        context.close();
+    }
+
+    private List<EntityStateWithVersion> readAllCustomers(Stand stand) {
+        MemoizingObserver<QueryResponse> observer = memoizingObserver();
+        stand.execute(queries().all(Customer.class), observer);
+        return observer.firstResponse()
+                       .getMessageList();
+    }
+
+    private QueryFactory queries() {
+        return requestFactory.query();
+    }
+
+    private EventEnvelope stateChanged(CustomerId id) {
+        EntityStateChanged event = EntityStateChanged
+                .newBuilder()
+                .setEntity(entity(id))
+                .setNewState(pack(Customer.newBuilder()
+                                          .setId(id)
+                                          .build()))
+                .addSignalId(entity(id))
+                .build();
+        return envelope(event);
+    }
+
+    private EventEnvelope deleted(CustomerId id) {
+        EntityDeleted event = EntityDeleted
+                .newBuilder()
+                .setEntity(entity(id))
+                .addSignalId(entity(id))
+                .setMarkedAsDeleted(true)
+                .build();
+        return envelope(event);
+    }
+
+    private EventEnvelope envelope(EventMessage message) {
+        return EventEnvelope.of(eventFactory.createEvent(message));
+    }
+
+    private static MessageId entity(CustomerId id) {
+        return MessageId
+                .newBuilder()
+                .setId(Identifier.pack(id))
+                .setTypeUrl(TypeUrl.of(Customer.class)
+                                   .value())
+                .build();
+    }
+
+    private static CustomerId customerId(int number) {
+        return CustomerId
+                .newBuilder()
+                .setNumber(number)
+                .build();
+    }
+}
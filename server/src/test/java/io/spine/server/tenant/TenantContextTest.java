@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.tenant;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.EqualsTester;
+import io.spine.core.TenantId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.server.tenant.TenantContext.propagating;
+import static io.spine.testing.core.given.GivenTenantId.generate;
+
+@DisplayName("`TenantContext` should")
+class TenantContextTest {
+
+    @BeforeEach
+    void clearCurrentTenant() {
+        CurrentTenant.clear();
+    }
+
+    @Test
+    @DisplayName("substitute single tenant for default value")
+    void useSingleTenantId() {
+        TenantContext context = TenantContext.of(TenantId.getDefaultInstance());
+        assertThat(context.tenantId()).hasValue(SingleTenantIndex.tenantId());
+    }
+
+    @Test
+    @DisplayName("be compared by the tenant")
+    void equality() {
+        TenantId tenant = generate();
+        new EqualsTester()
+                .addEqualityGroup(TenantContext.of(tenant), TenantContext.of(tenant))
+                .addEqualityGroup(TenantContext.of(generate()))
+                .addEqualityGroup(TenantContext.none())
+                .testEquals();
+    }
+
+    @Test
+    @DisplayName("capture the current tenant")
+    void captureCurrent() {
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.none());
+
+        TenantId tenant = generate();
+        CurrentTenant.set(tenant);
+        assertThat(TenantContext.current()
+                                .tenantId()).hasValue(tenant);
+    }
+
+    @Test
+    @DisplayName("restore the previous tenant")
+    void restorePrevious() {
+        TenantId previous = generate();
+        TenantId tenant = generate();
+        CurrentTenant.set(previous);
+
+        Optional<TenantId> inside = TenantContext.of(tenant)
+                                                 .evaluate(CurrentTenant::get);
+
+        assertThat(inside).hasValue(tenant);
+        assertThat(CurrentTenant.get()).hasValue(previous);
+    }
+
+    @Test
+    @DisplayName("leave the thread without a tenant if none was served")
+    void clearAfterRun() {
+        TenantContext.of(generate())
+                     .run(() -> assertThat(CurrentTenant.get()).isPresent());
+
+        assertThat(CurrentTenant.get()).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("follow the operation across executors")
+    class AcrossExecutors {
+
+        private ExecutorService dispatchers;
+        private ExecutorService first;
+        private ExecutorService second;
+
+        @BeforeEach
+        void createExecutors() {
+            dispatchers = Executors.newFixedThreadPool(4);
+            first = Executors.newFixedThreadPool(2);
+            second = Executors.newFixedThreadPool(2);
+        }
+
+        @AfterEach
+        void shutDownExecutors() {
+            dispatchers.shutdownNow();
+            first.shutdownNow();
+            second.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("when hopping between stages of a `CompletableFuture`")
+        void betweenStages() {
+            TenantId tenant = generate();
+            TenantAwareRunner runner = TenantAwareRunner.with(tenant);
+            List<Optional<TenantId>> observed =
+                    runner.evaluate(() -> hop(runner.context()
+                                                    .wrap(CurrentTenant::get)));
+
+            assertThat(observed).containsExactly(Optional.of(tenant),
+                                                 Optional.of(tenant),
+                                                 Optional.of(tenant));
+        }
+
+        @Test
+        @DisplayName("without mixing up the tenants of concurrent operations")
+        void concurrently() {
+            int tenantCount = 16;
+            List<TenantId> tenants = new ArrayList<>();
+            List<CompletableFuture<List<Optional<TenantId>>>> results = new ArrayList<>();
+            for (int i = 0; i < tenantCount; i++) {
+                TenantId tenant = generate();
+                tenants.add(tenant);
+                CompletableFuture<List<Optional<TenantId>>> result =
+                        CompletableFuture.supplyAsync(
+                                TenantContext.of(tenant)
+                                             .wrap(() -> hop(CurrentTenant::get)),
+                                dispatchers
+                        );
+                results.add(result);
+            }
+            for (int i = 0; i < tenantCount; i++) {
+                Optional<TenantId> expected = Optional.of(tenants.get(i));
+                assertThat(results.get(i)
+                                  .join()).containsExactly(expected, expected, expected);
+            }
+        }
+
+        @Test
+        @DisplayName("and leave no tenant in the pooled threads afterwards")
+        void notLeak() {
+            TenantAwareRunner.with(generate())
+                             .run(() -> hop(CurrentTenant::get));
+
+            assertThat(tenantLeftIn(first)).isEmpty();
+            assertThat(tenantLeftIn(second)).isEmpty();
+        }
+
+        private Optional<TenantId> tenantLeftIn(Executor executor) {
+            return CompletableFuture.supplyAsync(CurrentTenant::get, executor)
+                                    .join();
+        }
+
+        /**
+         * Obtains the current tenant in three stages, each of which is executed by
+         * another executor.
+         */
+        private List<Optional<TenantId>> hop(Supplier<Optional<TenantId>> tenant) {
+            List<Optional<TenantId>> observed =
+                    CompletableFuture.supplyAsync(tenant, propagating(first))
+                                     .thenApplyAsync(TenantContextTest::startList,
+                                                     propagating(second))
+                                     .thenApplyAsync(TenantContextTest::withCurrent,
+                                                     propagating(first))
+                                     .join();
+            return observed;
+        }
+    }
+
+    private static List<Optional<TenantId>> startList(Optional<TenantId> observed) {
+        return withCurrent(ImmutableList.of(observed));
+    }
+
+    private static List<Optional<TenantId>> withCurrent(List<Optional<TenantId>> observed) {
+        return ImmutableList.<Optional<TenantId>>builder()
+                .addAll(observed)
+                .add(CurrentTenant.get())
+                .build();
+    }
+}
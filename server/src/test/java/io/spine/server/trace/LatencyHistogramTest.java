@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.trace;
+
+import io.spine.server.type.EventClass;
+import io.spine.system.server.EntityTypeName;
+import io.spine.test.trace.FlightScheduled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.server.trace.LatencyHistogram.highestValueIn;
+import static io.spine.server.trace.LatencyHistogram.indexOf;
+
+@DisplayName("`LatencyHistogram` should")
+class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("place values into buckets")
+    class Buckets {
+
+        @Test
+        @DisplayName("one value per bucket for small values")
+        void exactSmall() {
+            for (int value = 0; value < 16; value++) {
+                assertThat(indexOf(value)).isEqualTo(value);
+                assertThat(highestValueIn(value)).isEqualTo(value);
+            }
+        }
+
+        @Test
+        @DisplayName("with a bounded relative error")
+        void boundedError() {
+            long[] values = {17, 100, 1_000, 123_456, 10_000_000_000L, Long.MAX_VALUE};
+            for (long value : values) {
+                long highest = highestValueIn(indexOf(value));
+                assertThat(highest).isAtLeast(value);
+                assertThat((double) (highest - value) / value).isAtMost(1.0 / 16);
+            }
+        }
+
+        @Test
+        @DisplayName("covering the whole range of `long`")
+        void wholeRange() {
+            assertThat(highestValueIn(indexOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    @DisplayName("report percentiles")
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000; value++) {
+            histogram.record(value * 1_000);
+        }
+        LatencySnapshot snapshot = snapshotOf(histogram);
+
+        assertThat(snapshot.count()).isEqualTo(1_000);
+        assertThat(snapshot.maxNanos()).isEqualTo(1_000_000);
+        assertThat(snapshot.meanNanos()).isEqualTo(500_500);
+        assertApproximately(snapshot.percentileNanos(50), 500_000);
+        assertApproximately(snapshot.percentileNanos(99), 990_000);
+        assertThat(snapshot.percentileNanos(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("record negative latencies as zero")
+    void negative() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-42);
+        LatencySnapshot snapshot = snapshotOf(histogram);
+
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.maxNanos()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("report zeros if empty")
+    void empty() {
+        LatencySnapshot snapshot = snapshotOf(new LatencyHistogram());
+
+        assertThat(snapshot.count()).isEqualTo(0);
+        assertThat(snapshot.meanNanos()).isEqualTo(0);
+        assertThat(snapshot.percentileNanos(99)).isEqualTo(0);
+    }
+
+    private static LatencySnapshot snapshotOf(LatencyHistogram histogram) {
+        return new LatencySnapshot(EventClass.from(FlightScheduled.class),
+                                   EntityTypeName.getDefaultInstance(),
+                                   histogram);
+    }
+
+    private static void assertApproximately(long actual, long expected) {
+        assertThat(actual).isAtLeast(expected);
+        assertThat((double) (actual - expected) / expected).isAtMost(1.0 / 16);
+    }
+}
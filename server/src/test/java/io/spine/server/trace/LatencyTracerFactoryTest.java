@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020, TeamDev. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.trace;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.CommandMessage;
+import io.spine.base.Tests;
+import io.spine.core.Command;
+import io.spine.server.BoundedContext;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.trace.given.airport.AirportContext;
+import io.spine.server.trace.given.airport.BoardingProcman;
+import io.spine.server.trace.given.airport.FlightAggregate;
+import io.spine.server.type.CommandClass;
+import io.spine.server.type.EventClass;
+import io.spine.system.server.EntityTypeName;
+import io.spine.test.trace.FlightScheduled;
+import io.spine.test.trace.ScheduleFlight;
+import io.spine.testing.client.TestActorRequestFactory;
+import io.spine.type.MessageClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+import static io.spine.server.trace.given.TracingTestEnv.scheduleFlight;
+
+@DisplayName("`LatencyTracerFactory` should")
+class LatencyTracerFactoryTest {
+
+    private static final TestActorRequestFactory requests =
+            new TestActorRequestFactory(LatencyTracerFactoryTest.class);
+
+    private LatencyTracerFactory tracing;
+    private BoundedContext context;
+
+    @BeforeEach
+    void setUp() {
+        tracing = LatencyTracerFactory.newInstance();
+        ServerEnvironment.when(Tests.class)
+                         .use(tracing);
+        context = AirportContext
+                .builder()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        context.close();
+        ServerEnvironment.instance()
+                         .reset();
+    }
+
+    @Test
+    @DisplayName("record latencies per signal class and receiver type")
+    void recordLatencies() {
+        post(scheduleFlight());
+
+        LatencySnapshot command = snapshotOf(CommandClass.from(ScheduleFlight.class),
+                                             FlightAggregate.class);
+        assertThat(command.count()).isEqualTo(1);
+        assertThat(command.maxNanos()).isAtLeast(0);
+
+        LatencySnapshot event = snapshotOf(EventClass.from(FlightScheduled.class),
+                                           BoardingProcman.class);
+        assertThat(event.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("accumulate latencies of repeated signals")
+    void accumulate() {
+        post(scheduleFlight());
+        post(scheduleFlight());
+
+        LatencySnapshot command = snapshotOf(CommandClass.from(ScheduleFlight.class),
+                                             FlightAggregate.class);
+        assertThat(command.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("discard latencies on reset")
+    void reset() {
+        post(scheduleFlight());
+        assertThat(tracing.snapshot()).isNotEmpty();
+
+        tracing.reset();
+
+        assertThat(tracing.snapshot()).isEmpty();
+    }
+
+    private LatencySnapshot snapshotOf(MessageClass<?> messageClass, Class<?> receiverClass) {
+        EntityTypeName receiverType = EntityTypeName
+                .newBuilder()
+                .setJavaClassName(receiverClass.getCanonicalName())
+                .build();
+        ImmutableList<LatencySnapshot> matching = tracing
+                .snapshot()
+                .stream()
+                .filter(s -> s.messageClass().equals(messageClass)
+                        && s.receiverType().equals(receiverType))
+                .collect(ImmutableList.toImmutableList());
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+
+    private void post(CommandMessage command) {
+        Command cmd = requests.command()
+                              .create(command);
+        context.commandBus()
+               .post(cmd, noOpObserver());
+    }
+}
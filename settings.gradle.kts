@@ -26,6 +26,7 @@ include("server")
 include("testutil-core")
 include("testutil-client")
 include("testutil-server")
+include("benchmarks")
 
 include("model-assembler")
 include("model-verifier")